@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.AMOUNT;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CATEGORY;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CODE;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CREATED_ON;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ENABLED;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ID;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.PROPERTIES;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.TARGET;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Persistence;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.benchmark.model.BenchmarkCategory;
+
+/**
+ * Shared benchmark state: an in-memory H2 database, accessed through a {@link JpaDatastore} backed by the ORM
+ * selected by the <code>orm</code> parameter and populated with <code>rows</code> sample rows.
+ */
+@State(Scope.Benchmark)
+public class DatastoreState {
+
+	/**
+	 * Persistence unit name prefix
+	 */
+	private static final String PERSISTENCE_UNIT_PREFIX = "benchmark_";
+
+	/**
+	 * ORM provider, used to select the persistence unit
+	 */
+	@Param({ "hibernate", "eclipselink" })
+	public String orm;
+
+	/**
+	 * Number of sample rows
+	 */
+	@Param({ "1000" })
+	public int rows;
+
+	/**
+	 * Entity manager factory
+	 */
+	public EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * Datastore
+	 */
+	public JpaDatastore datastore;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_PREFIX + orm);
+		datastore = JpaDatastore.builder().entityManagerFactory(entityManagerFactory)
+				.withCommodity(JPQLResolver.FACTORY).build();
+
+		// sample data
+		datastore.requireTransactional().withTransaction(tx -> {
+			final BulkInsert insert = datastore.bulkInsert(TARGET, PROPERTIES);
+			for (int i = 1; i <= rows; i++) {
+				insert.add(row(i));
+			}
+			insert.execute();
+			tx.commit();
+		});
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
+			entityManagerFactory.close();
+		}
+	}
+
+	/**
+	 * Build a sample row.
+	 * @param id Row id
+	 * @return Sample row
+	 */
+	public static PropertyBox row(long id) {
+		return PropertyBox.builder(PROPERTIES).set(ID, id).set(CODE, "c" + id).set(AMOUNT, id * 1.5d)
+				.set(CREATED_ON, LocalDate.of(2020, 1, 1).plusDays(id % 365)).set(ENABLED, id % 2 == 0)
+				.set(CATEGORY, BenchmarkCategory.values()[(int) (id % BenchmarkCategory.values().length)]).build();
+	}
+
+}
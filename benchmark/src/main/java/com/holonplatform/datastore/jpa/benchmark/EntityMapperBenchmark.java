@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.beans.BeanIntrospector;
+import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.benchmark.model.BenchmarkEntity;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+
+/**
+ * Entity write path benchmarks: measure the creation of an entity instance from a {@link PropertyBox}, using the
+ * {@link EntityMapper} used by the write operations and using the {@link BeanPropertySet} reflective write, without
+ * any database access.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class EntityMapperBenchmark {
+
+	private BeanPropertySet<BenchmarkEntity> propertySet;
+	private EntityMapper<BenchmarkEntity> mapper;
+	private PropertyBox value;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		propertySet = BeanIntrospector.get().getPropertySet(BenchmarkEntity.class);
+		mapper = EntityMapper.create(BenchmarkEntity.class, propertySet);
+		value = DatastoreState.row(1);
+	}
+
+	@Benchmark
+	public BenchmarkEntity entityMapper() throws ReflectiveOperationException {
+		return mapper.create(value);
+	}
+
+	@Benchmark
+	public BenchmarkEntity beanPropertySet() throws ReflectiveOperationException {
+		return propertySet.write(value, BenchmarkEntity.class.getDeclaredConstructor().newInstance());
+	}
+
+}
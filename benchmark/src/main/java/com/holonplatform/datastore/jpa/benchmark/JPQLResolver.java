@@ -0,0 +1,68 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import com.holonplatform.core.datastore.DatastoreCommodity;
+import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
+import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityFactory;
+import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
+import com.holonplatform.datastore.jpa.jpql.expression.JPQLQuery;
+
+/**
+ * Datastore commodity which exposes the JPQL resolution of a {@link QueryOperation}, without executing it.
+ */
+public final class JPQLResolver implements DatastoreCommodity {
+
+	/**
+	 * Commodity factory
+	 */
+	public static final JpaDatastoreCommodityFactory<JPQLResolver> FACTORY = new JpaDatastoreCommodityFactory<JPQLResolver>() {
+
+		@Override
+		public Class<? extends JPQLResolver> getCommodityType() {
+			return JPQLResolver.class;
+		}
+
+		@Override
+		public JPQLResolver createCommodity(JpaDatastoreCommodityContext context)
+				throws CommodityConfigurationException {
+			return new JPQLResolver(context);
+		}
+
+	};
+
+	private final JpaOperationContext operationContext;
+
+	private JPQLResolver(JpaOperationContext operationContext) {
+		super();
+		this.operationContext = operationContext;
+	}
+
+	/**
+	 * Resolve given query operation into a {@link JPQLQuery}.
+	 * @param operation The query operation
+	 * @return The resolved {@link JPQLQuery}
+	 */
+	public JPQLQuery<?, ?> resolve(QueryOperation<?, ?> operation) {
+		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+		context.addExpressionResolvers(operation.getConfiguration().getExpressionResolvers());
+		return context.resolveOrFail(operation, JPQLQuery.class);
+	}
+
+}
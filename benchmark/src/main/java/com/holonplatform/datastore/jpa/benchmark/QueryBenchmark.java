@@ -0,0 +1,97 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.AMOUNT;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CATEGORY;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CODE;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ID;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.PROPERTIES;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.TARGET;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.BeanProjection;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.benchmark.model.BenchmarkBean;
+
+/**
+ * Query execution benchmarks: measure the end-to-end query execution, including the conversion of the results into
+ * {@link PropertyBox}, bean, single value and tuple results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class QueryBenchmark {
+
+	/**
+	 * Max number of results to fetch
+	 */
+	@Param({ "1", "100" })
+	public int limit;
+
+	@Benchmark
+	public List<PropertyBox> propertyBoxResults(DatastoreState state) {
+		return state.datastore.query(TARGET).filter(AMOUNT.gt(0d)).sort(ID.asc()).limit(limit).list(PROPERTIES);
+	}
+
+	@Benchmark
+	public List<BenchmarkBean> beanResults(DatastoreState state) {
+		return state.datastore.query(TARGET).filter(AMOUNT.gt(0d)).sort(ID.asc()).limit(limit)
+				.list(BeanProjection.of(BenchmarkBean.class));
+	}
+
+	@Benchmark
+	public List<String> singleValueResults(DatastoreState state) {
+		return state.datastore.query(TARGET).filter(AMOUNT.gt(0d)).sort(ID.asc()).limit(limit).list(CODE);
+	}
+
+	@Benchmark
+	public List<PropertyBox> tupleResults(DatastoreState state) {
+		return state.datastore.query(TARGET).filter(AMOUNT.gt(0d)).sort(ID.asc()).limit(limit).list(ID, CODE,
+				CATEGORY);
+	}
+
+	@Benchmark
+	public void streamedResults(DatastoreState state, Blackhole blackhole) {
+		state.datastore.query(TARGET).filter(AMOUNT.gt(0d)).sort(ID.asc()).limit(limit)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, Boolean.TRUE).stream(PROPERTIES)
+				.forEach(blackhole::consume);
+	}
+
+	@Benchmark
+	public long count(DatastoreState state) {
+		return state.datastore.query(TARGET).filter(AMOUNT.gt(0d)).count();
+	}
+
+}
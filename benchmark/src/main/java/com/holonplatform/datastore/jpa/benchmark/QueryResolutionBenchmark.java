@@ -0,0 +1,122 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.AMOUNT;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CATEGORY;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CODE;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.CREATED_ON;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ENABLED;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ID;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.PROPERTIES;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.TARGET;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.internal.query.QueryDefinition;
+import com.holonplatform.core.query.BeanProjection;
+import com.holonplatform.core.query.CountAllProjection;
+import com.holonplatform.core.query.QueryAggregation;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.core.query.QueryProjection;
+import com.holonplatform.datastore.jpa.benchmark.model.BenchmarkBean;
+import com.holonplatform.datastore.jpa.benchmark.model.BenchmarkCategory;
+import com.holonplatform.datastore.jpa.jpql.expression.JPQLQuery;
+
+/**
+ * Query resolution benchmarks: measure the resolution of query definitions (filters, sorts, aggregations and
+ * projections) into JPQL statements, without executing them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryResolutionBenchmark {
+
+	@State(Scope.Thread)
+	public static class Operations {
+
+		JPQLResolver resolver;
+
+		QueryOperation<?, ?> propertySet;
+		QueryOperation<?, ?> bean;
+		QueryOperation<?, ?> aggregation;
+		QueryOperation<?, ?> count;
+
+		@Setup(Level.Trial)
+		public void setup(DatastoreState state) {
+			resolver = state.datastore.create(JPQLResolver.class);
+
+			propertySet = QueryOperation.create(filtered(), QueryProjection.propertySet(PROPERTIES));
+			bean = QueryOperation.create(filtered(), BeanProjection.of(BenchmarkBean.class));
+
+			final QueryDefinition definition = filtered();
+			definition.setAggregation(
+					QueryAggregation.builder().path(CATEGORY).filter(QueryFilter.gt(AMOUNT.max(), 10d)).build());
+			aggregation = QueryOperation.create(definition, QueryProjection.propertySet(CATEGORY, AMOUNT.max()));
+
+			count = QueryOperation.create(filtered(), CountAllProjection.create());
+		}
+
+		private static QueryDefinition filtered() {
+			final QueryDefinition definition = QueryDefinition.create();
+			definition.setTarget(TARGET);
+			definition.addFilter(AMOUNT.gt(10d).and(CODE.startsWith("c1")).and(ENABLED.eq(Boolean.TRUE))
+					.and(CATEGORY.in(BenchmarkCategory.FIRST, BenchmarkCategory.SECOND))
+					.and(CREATED_ON.loe(LocalDate.of(2020, 6, 30)).or(ID.between(100L, 200L))));
+			definition.addSort(CREATED_ON.desc().and(ID.asc()));
+			definition.setLimit(50);
+			return definition;
+		}
+
+	}
+
+	@Benchmark
+	public JPQLQuery<?, ?> propertySetProjection(Operations operations) {
+		return operations.resolver.resolve(operations.propertySet);
+	}
+
+	@Benchmark
+	public JPQLQuery<?, ?> beanProjection(Operations operations) {
+		return operations.resolver.resolve(operations.bean);
+	}
+
+	@Benchmark
+	public JPQLQuery<?, ?> aggregation(Operations operations) {
+		return operations.resolver.resolve(operations.aggregation);
+	}
+
+	@Benchmark
+	public JPQLQuery<?, ?> count(Operations operations) {
+		return operations.resolver.resolve(operations.count);
+	}
+
+}
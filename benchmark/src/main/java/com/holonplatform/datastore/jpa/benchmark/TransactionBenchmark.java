@@ -0,0 +1,81 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ID;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.PROPERTIES;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.TARGET;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * Transaction benchmarks: measure the transaction round-trips, i.e. the transaction begin, the EntityManager
+ * binding and the transaction commit or rollback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionBenchmark {
+
+	@Benchmark
+	public boolean emptyCommit(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			return tx.commit();
+		});
+	}
+
+	@Benchmark
+	public boolean emptyRollback(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			tx.rollback();
+			return tx.isCompleted();
+		});
+	}
+
+	@Benchmark
+	public Optional<PropertyBox> queryInTransaction(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			final Optional<PropertyBox> value = state.datastore.query(TARGET).filter(ID.eq(1L)).findOne(PROPERTIES);
+			tx.commit();
+			return value;
+		});
+	}
+
+	@Benchmark
+	public Optional<PropertyBox> nestedTransaction(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			final Optional<PropertyBox> value = state.datastore.requireTransactional().withTransaction(inner -> {
+				return state.datastore.query(TARGET).filter(ID.eq(1L)).findOne(PROPERTIES);
+			});
+			tx.commit();
+			return value;
+		});
+	}
+
+}
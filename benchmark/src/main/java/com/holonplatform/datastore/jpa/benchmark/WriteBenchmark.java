@@ -0,0 +1,113 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark;
+
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.AMOUNT;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ENABLED;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.ID;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.PROPERTIES;
+import static com.holonplatform.datastore.jpa.benchmark.model.BenchmarkModel.TARGET;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * Write operations benchmarks: measure the <code>insert</code>, <code>bulkInsert</code>, <code>bulkUpdate</code>
+ * and <code>save</code> operations. Each operation is executed in a transaction which is rolled back, so that the
+ * sample data are not modified.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class WriteBenchmark {
+
+	/**
+	 * Number of rows to write with bulk operations
+	 */
+	@Param({ "100" })
+	public int batch;
+
+	private PropertyBox inserted;
+	private PropertyBox saved;
+	private PropertyBox[] bulk;
+
+	@Setup(Level.Trial)
+	public void setup(DatastoreState state) {
+		inserted = DatastoreState.row(state.rows + 1);
+		saved = PropertyBox.builder(PROPERTIES).copyValues(DatastoreState.row(1)).set(AMOUNT, 0.5d).build();
+		bulk = new PropertyBox[batch];
+		for (int i = 0; i < batch; i++) {
+			bulk[i] = DatastoreState.row(state.rows + 1 + i);
+		}
+	}
+
+	@Benchmark
+	public OperationResult insert(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+			return state.datastore.insert(TARGET, inserted);
+		});
+	}
+
+	@Benchmark
+	public OperationResult save(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+			return state.datastore.save(TARGET, saved);
+		});
+	}
+
+	@Benchmark
+	public OperationResult bulkInsert(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+			final BulkInsert insert = state.datastore.bulkInsert(TARGET, PROPERTIES);
+			for (PropertyBox value : bulk) {
+				insert.add(value);
+			}
+			return insert.execute();
+		});
+	}
+
+	@Benchmark
+	public OperationResult bulkUpdate(DatastoreState state) {
+		return state.datastore.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+			return state.datastore.bulkUpdate(TARGET).set(ENABLED, Boolean.TRUE).filter(ID.loe((long) batch))
+					.execute();
+		});
+	}
+
+}
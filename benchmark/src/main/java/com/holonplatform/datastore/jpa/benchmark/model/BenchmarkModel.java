@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.benchmark.model;
+
+import java.time.LocalDate;
+
+import com.holonplatform.core.property.BooleanProperty;
+import com.holonplatform.core.property.NumericProperty;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.property.StringProperty;
+import com.holonplatform.core.property.TemporalProperty;
+import com.holonplatform.datastore.jpa.JpaTarget;
+
+/**
+ * Benchmark data model.
+ */
+public interface BenchmarkModel {
+
+	public final static JpaTarget<BenchmarkEntity> TARGET = JpaTarget.of(BenchmarkEntity.class);
+
+	public final static NumericProperty<Long> ID = NumericProperty.longType("id");
+	public final static StringProperty CODE = StringProperty.create("code");
+	public final static NumericProperty<Double> AMOUNT = NumericProperty.doubleType("amount");
+	public final static TemporalProperty<LocalDate> CREATED_ON = TemporalProperty.localDate("createdOn");
+	public final static BooleanProperty ENABLED = BooleanProperty.create("enabled");
+	public final static PathProperty<BenchmarkCategory> CATEGORY = PathProperty.create("category",
+			BenchmarkCategory.class);
+
+	public final static PropertySet<?> PROPERTIES = PropertySet
+			.builderOf(ID, CODE, AMOUNT, CREATED_ON, ENABLED, CATEGORY).withIdentifier(ID).build();
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.DatastoreOperations.WriteOption;
+import com.holonplatform.core.datastore.transaction.TransactionConfiguration;
+import com.holonplatform.core.datastore.transaction.TransactionalOperation;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.internal.DefaultAsyncJpaDatastore;
+
+/**
+ * Asynchronous facade of a {@link JpaDatastore}.
+ * <p>
+ * Each operation is executed by a dedicated {@link ExecutorService}, which should be bounded according to the size of
+ * the connection pool used by the JPA persistence unit, and its result is provided as a {@link CompletionStage}. The
+ * {@link JpaDatastore} binds the {@link jakarta.persistence.EntityManager} and the transaction to the executing thread,
+ * so each operation, including any transactional operation, is entirely executed by a single executor thread.
+ * </p>
+ * <p>
+ * The query results can be consumed using a {@link Flow.Publisher}: each subscription is served by a single executor
+ * thread, which executes the query and fetches the results according to the subscriber demand, and which is held by
+ * the subscription until it is completed or cancelled.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface AsyncJpaDatastore extends AutoCloseable {
+
+	/**
+	 * Get the {@link JpaDatastore} used to execute the operations.
+	 * @return The JPA Datastore
+	 */
+	JpaDatastore getDatastore();
+
+	/**
+	 * Get the executor used to execute the operations.
+	 * @return The executor
+	 */
+	ExecutorService getExecutor();
+
+	/**
+	 * Asynchronously execute given operation.
+	 * @param <R> Operation result type
+	 * @param operation The operation to execute, using the {@link JpaDatastore} (not null)
+	 * @return The operation result
+	 */
+	<R> CompletionStage<R> execute(Function<? super JpaDatastore, ? extends R> operation);
+
+	/**
+	 * Asynchronously execute given operation within a transaction, using the default transaction configuration.
+	 * @param <R> Operation result type
+	 * @param operation The operation to execute (not null)
+	 * @return The operation result
+	 */
+	default <R> CompletionStage<R> withTransaction(TransactionalOperation<R> operation) {
+		return withTransaction(operation, TransactionConfiguration.getDefault());
+	}
+
+	/**
+	 * Asynchronously execute given operation within a transaction.
+	 * @param <R> Operation result type
+	 * @param operation The operation to execute (not null)
+	 * @param configuration The transaction configuration (not null)
+	 * @return The operation result
+	 */
+	<R> CompletionStage<R> withTransaction(TransactionalOperation<R> operation, TransactionConfiguration configuration);
+
+	/**
+	 * Asynchronously refresh given {@link PropertyBox}.
+	 * @param target The data target (not null)
+	 * @param propertyBox The value to refresh (not null)
+	 * @return The refreshed value
+	 * @see JpaDatastore#refresh(DataTarget, PropertyBox)
+	 */
+	default CompletionStage<PropertyBox> refresh(DataTarget<?> target, PropertyBox propertyBox) {
+		return execute(datastore -> datastore.refresh(target, propertyBox));
+	}
+
+	/**
+	 * Asynchronously insert given {@link PropertyBox}.
+	 * @param target The data target (not null)
+	 * @param propertyBox The value to insert (not null)
+	 * @param options Optional write options
+	 * @return The operation result
+	 * @see JpaDatastore#insert(DataTarget, PropertyBox, WriteOption...)
+	 */
+	default CompletionStage<OperationResult> insert(DataTarget<?> target, PropertyBox propertyBox,
+			WriteOption... options) {
+		return execute(datastore -> datastore.insert(target, propertyBox, options));
+	}
+
+	/**
+	 * Asynchronously update given {@link PropertyBox}.
+	 * @param target The data target (not null)
+	 * @param propertyBox The value to update (not null)
+	 * @param options Optional write options
+	 * @return The operation result
+	 * @see JpaDatastore#update(DataTarget, PropertyBox, WriteOption...)
+	 */
+	default CompletionStage<OperationResult> update(DataTarget<?> target, PropertyBox propertyBox,
+			WriteOption... options) {
+		return execute(datastore -> datastore.update(target, propertyBox, options));
+	}
+
+	/**
+	 * Asynchronously save given {@link PropertyBox}.
+	 * @param target The data target (not null)
+	 * @param propertyBox The value to save (not null)
+	 * @param options Optional write options
+	 * @return The operation result
+	 * @see JpaDatastore#save(DataTarget, PropertyBox, WriteOption...)
+	 */
+	default CompletionStage<OperationResult> save(DataTarget<?> target, PropertyBox propertyBox,
+			WriteOption... options) {
+		return execute(datastore -> datastore.save(target, propertyBox, options));
+	}
+
+	/**
+	 * Asynchronously delete given {@link PropertyBox}.
+	 * @param target The data target (not null)
+	 * @param propertyBox The value to delete (not null)
+	 * @param options Optional write options
+	 * @return The operation result
+	 * @see JpaDatastore#delete(DataTarget, PropertyBox, WriteOption...)
+	 */
+	default CompletionStage<OperationResult> delete(DataTarget<?> target, PropertyBox propertyBox,
+			WriteOption... options) {
+		return execute(datastore -> datastore.delete(target, propertyBox, options));
+	}
+
+	/**
+	 * Get a {@link Flow.Publisher} of the results of given query operation.
+	 * <p>
+	 * For each subscription, the query is executed by an executor thread when the subscriber requests the first
+	 * results, and the results are fetched by the same thread, which waits for the subscriber demand between the
+	 * results. The thread is held until the results stream is closed, that is when the results are exhausted, when the
+	 * subscription is cancelled or when an error occurs. To avoid loading all the query results in memory, the results streaming can be enabled for the query
+	 * using the {@link JpaDatastore#QUERY_PARAMETER_STREAM_RESULTS} query parameter.
+	 * </p>
+	 * @param <R> Results type
+	 * @param query The query operation, which provides the results stream (not null)
+	 * @return The results publisher
+	 */
+	<R> Flow.Publisher<R> publisher(Function<? super JpaDatastore, Stream<R>> query);
+
+	/**
+	 * Shutdown the executor, if it was created by this facade. Any operation which was already submitted is completed.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Create a new {@link AsyncJpaDatastore} which uses a dedicated executor with given number of threads.
+	 * @param datastore The JPA Datastore to use (not null)
+	 * @param threads The number of executor threads, which should not exceed the size of the connection pool (must
+	 *        be greater than 0)
+	 * @return A new {@link AsyncJpaDatastore}
+	 */
+	static AsyncJpaDatastore create(JpaDatastore datastore, int threads) {
+		return new DefaultAsyncJpaDatastore(datastore, threads);
+	}
+
+	/**
+	 * Create a new {@link AsyncJpaDatastore} which uses given executor. The executor lifecycle is not managed by the
+	 * {@link AsyncJpaDatastore}.
+	 * @param datastore The JPA Datastore to use (not null)
+	 * @param executor The executor to use (not null)
+	 * @return A new {@link AsyncJpaDatastore}
+	 */
+	static AsyncJpaDatastore create(JpaDatastore datastore, ExecutorService executor) {
+		return new DefaultAsyncJpaDatastore(datastore, executor);
+	}
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import com.holonplatform.core.datastore.DatastoreOperations.WriteOption;
+import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.datastore.jpa.dialect.ORMDialect;
+import com.holonplatform.datastore.jpa.internal.DefaultJpaBatchSizeWriteOption;
+
+/**
+ * A {@link WriteOption} to configure the batch size to use for bulk data manipulation operations, such as
+ * {@link BulkInsert}.
+ * <p>
+ * When a batch size is configured, the persistence context is flushed and cleared each time the given number of
+ * entities has been processed. This option takes precedence over the batch size detected from the ORM configuration
+ * properties (see {@link ORMDialect#getBatchSizeConfigurationProperty()}).
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaBatchSizeWriteOption extends WriteOption {
+
+	/**
+	 * Get the batch size.
+	 * @return The batch size, a value <code>&lt;= 0</code> means no batching
+	 */
+	int getBatchSize();
+
+	/**
+	 * Create a new {@link JpaBatchSizeWriteOption} using given batch size.
+	 * @param batchSize The batch size, a value <code>&lt;= 0</code> means no batching
+	 * @return A new {@link JpaBatchSizeWriteOption}
+	 */
+	static JpaBatchSizeWriteOption create(int batchSize) {
+		return new DefaultJpaBatchSizeWriteOption(batchSize);
+	}
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.util.Arrays;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.DatastoreCommodity;
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * A bulk <em>save</em> (insert or update) operation for a set of {@link PropertyBox} values.
+ * <p>
+ * Like the single value <code>save</code> operation, a value is inserted when the corresponding entity is considered
+ * <em>new</em>, for example because its identifier is <code>null</code>, and merged otherwise. The values are
+ * processed in batches and, for each batch, the existing entities are loaded using a single query by identifier, so
+ * that the entities to update are merged without a lookup query for each value and the entities not found are
+ * inserted. When the entity has a composite identifier, the entities which are not new are always merged.
+ * </p>
+ * <p>
+ * When the entity identifier is generated (i.e. it is declared using the <code>GeneratedValue</code> annotation), a
+ * value with an identifier which does not match any existing entity is rejected with a
+ * {@link com.holonplatform.core.exceptions.DataAccessException}, since the identifier value cannot be assigned by the
+ * application.
+ * </p>
+ * <p>
+ * At the end of each batch the <code>EntityManager</code> is flushed and cleared. The operation must be executed
+ * within a transaction, like any other write operation.
+ * </p>
+ * <p>
+ * This operation is available as a {@link DatastoreCommodity} of the JPA Datastore, and can be obtained using
+ * <code>datastore.create(JpaBulkSave.class)</code>.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaBulkSave extends DatastoreCommodity {
+
+	/**
+	 * Default batch size, used when a batch size is neither configured nor detected from the ORM configuration.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/**
+	 * Set the data target to save into.
+	 * @param target The data target (not null)
+	 * @return this
+	 */
+	JpaBulkSave target(DataTarget<?> target);
+
+	/**
+	 * Set the batch size, i.e. the number of values to process for each identifier lookup query, after which the
+	 * <code>EntityManager</code> is flushed and cleared.
+	 * <p>
+	 * If not configured, the batch size is detected from the ORM configuration, if supported by the current dialect,
+	 * or the {@link #DEFAULT_BATCH_SIZE} is used.
+	 * </p>
+	 * @param batchSize The batch size (must be greater than 0)
+	 * @return this
+	 */
+	JpaBulkSave batchSize(int batchSize);
+
+	/**
+	 * Execute the operation, saving given values.
+	 * @param values The values to save (not null)
+	 * @return The operation result
+	 * @throws com.holonplatform.core.exceptions.DataAccessException If an error occurred
+	 */
+	Result execute(Iterable<? extends PropertyBox> values);
+
+	/**
+	 * Execute the operation, saving given values.
+	 * @param values The values to save (not null)
+	 * @return The operation result
+	 * @throws com.holonplatform.core.exceptions.DataAccessException If an error occurred
+	 */
+	default Result execute(PropertyBox... values) {
+		return execute(Arrays.asList(values));
+	}
+
+	/**
+	 * Bulk save operation result.
+	 */
+	public interface Result {
+
+		/**
+		 * Get the number of inserted entities.
+		 * @return The number of inserted entities
+		 */
+		long getInsertedCount();
+
+		/**
+		 * Get the number of updated (merged) entities.
+		 * @return The number of updated entities
+		 */
+		long getUpdatedCount();
+
+		/**
+		 * Get the total number of saved entities.
+		 * @return The number of saved entities
+		 */
+		default long getAffectedCount() {
+			return getInsertedCount() + getUpdatedCount();
+		}
+
+	}
+
+}
@@ -15,6 +15,8 @@
  */
 package com.holonplatform.datastore.jpa;
 
+import java.util.Optional;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.FlushModeType;
@@ -30,8 +32,12 @@ import com.holonplatform.core.query.Query;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityFactory;
 import com.holonplatform.datastore.jpa.context.EntityManagerHandler;
+import com.holonplatform.datastore.jpa.context.JpaContextHolder;
 import com.holonplatform.datastore.jpa.dialect.ORMDialect;
 import com.holonplatform.datastore.jpa.internal.DefaultJpaDatastore;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
+import com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
 import com.holonplatform.datastore.jpa.tx.JpaTransactionFactory;
 
 /**
@@ -55,6 +61,107 @@ public interface JpaDatastore extends Datastore, Transactional, EntityManagerHan
 	public static final ConfigProperty<FlushModeType> QUERY_PARAMETER_FLUSH_MODE = ConfigProperty
 			.create("jpaQueryFlushMode", FlushModeType.class);
 
+	/**
+	 * A {@link Query} parameter to enable the query results streaming, using
+	 * {@link Query#parameter(ConfigProperty, Object)}.
+	 * <p>
+	 * When enabled, the query results are lazily fetched using {@link jakarta.persistence.TypedQuery#getResultStream()}
+	 * instead of being loaded in memory before the first element is returned. If the query is not executed within a
+	 * transaction or using an {@link EntityManager} bound to the current thread, the {@link EntityManager} used to
+	 * execute the query is kept open until the results stream is closed or fully consumed, so the stream should be
+	 * closed after use, for example using a <code>try-with-resources</code> block.
+	 * </p>
+	 * @since 6.0.3
+	 */
+	public static final ConfigProperty<Boolean> QUERY_PARAMETER_STREAM_RESULTS = ConfigProperty
+			.create("jpaQueryStreamResults", Boolean.class);
+
+	/**
+	 * A {@link Query} parameter to set the maximum number of values of a <code>IN</code> query filter, using
+	 * {@link Query#parameter(ConfigProperty, Object)}. Overrides the Datastore default chunk size for a specific query.
+	 * <p>
+	 * A value <code>&lt;= 0</code> disables the <code>IN</code> filters chunking for the query.
+	 * </p>
+	 * @see Builder#inFilterChunkSize(int)
+	 * @since 6.0.3
+	 */
+	public static final ConfigProperty<Integer> QUERY_PARAMETER_IN_FILTER_CHUNK_SIZE = ConfigProperty
+			.create("jpaQueryInFilterChunkSize", Integer.class);
+
+	/**
+	 * A {@link Query} parameter to enable or disable the scalar select all mode, using
+	 * {@link Query#parameter(ConfigProperty, Object)}. Overrides the Datastore default mode for a specific query.
+	 * @see Builder#scalarSelectAll(boolean)
+	 * @since 6.0.3
+	 */
+	public static final ConfigProperty<Boolean> QUERY_PARAMETER_SCALAR_SELECT_ALL = ConfigProperty
+			.create("jpaQueryScalarSelectAll", Boolean.class);
+
+	/**
+	 * A {@link Query} parameter to enable or disable the read-only query mode, using
+	 * {@link Query#parameter(ConfigProperty, Object)}. Overrides the Datastore default mode for a specific query.
+	 * @see Builder#readOnlyQueries(boolean)
+	 * @since 6.0.3
+	 */
+	public static final ConfigProperty<Boolean> QUERY_PARAMETER_READ_ONLY = ConfigProperty
+			.create("jpaQueryReadOnly", Boolean.class);
+
+	/**
+	 * A {@link Query} parameter to set the JDBC fetch size, i.e. the number of rows to fetch for each database round
+	 * trip, using {@link Query#parameter(ConfigProperty, Object)}. Overrides the Datastore default fetch size for a
+	 * specific query.
+	 * <p>
+	 * The fetch size is set using the query hint provided by the current {@link ORMDialect}, if available. A value
+	 * <code>&lt;= 0</code> leaves the fetch size to the JDBC driver default.
+	 * </p>
+	 * @see Builder#fetchSize(int)
+	 * @since 6.0.3
+	 */
+	public static final ConfigProperty<Integer> QUERY_PARAMETER_FETCH_SIZE = ConfigProperty
+			.create("jpaQueryFetchSize", Integer.class);
+
+	/**
+	 * A {@link Query} parameter to set the query timeout in milliseconds, using
+	 * {@link Query#parameter(ConfigProperty, Object)}. Overrides the Datastore default query timeout for a specific
+	 * query.
+	 * <p>
+	 * The timeout is set using the query hint provided by the current {@link ORMDialect}, which by default is the
+	 * standard <code>jakarta.persistence.query.timeout</code> hint. A value <code>&lt;= 0</code> disables the query
+	 * timeout.
+	 * </p>
+	 * @see Builder#queryTimeout(int)
+	 * @since 6.0.3
+	 */
+	public static final ConfigProperty<Integer> QUERY_PARAMETER_TIMEOUT = ConfigProperty
+			.create("jpaQueryTimeout", Integer.class);
+
+	/**
+	 * Get the {@link JPQLQueryPlanCache} used by this Datastore to cache the query resolution plans, if enabled.
+	 * <p>
+	 * The query plan cache can be used to monitor the cache usage, for example using the hit and miss counts.
+	 * </p>
+	 * @return Optional query plan cache
+	 * @see Builder#queryPlanCacheSize(int)
+	 * @since 6.0.3
+	 */
+	default Optional<JPQLQueryPlanCache> getQueryPlanCache() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the {@link JPQLStatementStatistics} used by this Datastore to collect the JPQL statements execution
+	 * statistics, if enabled.
+	 * <p>
+	 * The statement statistics can be used to detect the most expensive or most frequently executed statements.
+	 * </p>
+	 * @return Optional statement statistics
+	 * @see Builder#statementStatistics(int, long)
+	 * @since 6.0.3
+	 */
+	default Optional<JPQLStatementStatistics> getStatementStatistics() {
+		return Optional.empty();
+	}
+
 	// Builder
 
 	/**
@@ -147,6 +254,167 @@ public interface JpaDatastore extends Datastore, Transactional, EntityManagerHan
 		 */
 		Builder<D> autoFlush(boolean autoFlush);
 
+		/**
+		 * Set the maximum number of query resolution plans to cache. When the query plan cache is enabled, the JPQL
+		 * statement and the results converter resolved for a query operation are reused by any subsequent query
+		 * operation with the same structure, binding only the query parameters values.
+		 * <p>
+		 * By default, the query plan cache is disabled.
+		 * </p>
+		 * @param maxSize The maximum number of cached plans, a value <code>&lt;= 0</code> disables the cache
+		 * @return this
+		 * @see JPQLQueryPlanCache
+		 * @since 6.0.3
+		 */
+		Builder<D> queryPlanCacheSize(int maxSize);
+
+		/**
+		 * Enable the JPQL statements execution statistics, collected for the query, bulk update and bulk delete
+		 * operations and aggregated by JPQL statement text.
+		 * <p>
+		 * When a slow statement threshold is specified, the statement executions which take longer than the threshold
+		 * are logged using the <code>WARN</code> level, along with a summary of the statement parameters.
+		 * </p>
+		 * <p>
+		 * By default, the statement statistics are disabled.
+		 * </p>
+		 * @param maxStatements The maximum number of tracked statements, a value <code>&lt;= 0</code> disables the
+		 *        statement statistics
+		 * @param slowStatementThreshold The slow statement threshold in milliseconds, a value <code>&lt;= 0</code>
+		 *        disables slow statements detection
+		 * @return this
+		 * @see JPQLStatementStatistics
+		 * @since 6.0.3
+		 */
+		Builder<D> statementStatistics(int maxStatements, long slowStatementThreshold);
+
+		/**
+		 * Set the {@link JPQLCollectionParameterMode} to use to bind the collection values as JPQL statement
+		 * parameters, for example the values of a <code>IN</code> query filter.
+		 * <p>
+		 * Default is {@link JPQLCollectionParameterMode#EXPAND}, which binds each collection element as a distinct
+		 * parameter.
+		 * </p>
+		 * @param collectionParameterMode The collection parameter mode (not null)
+		 * @return this
+		 * @since 6.0.3
+		 */
+		Builder<D> collectionParameterMode(JPQLCollectionParameterMode collectionParameterMode);
+
+		/**
+		 * Set the maximum number of values of a <code>IN</code> query filter. When a query filter contains a
+		 * <code>IN</code> filter with more values than the chunk size, the query is split into a sequence of
+		 * sub-queries, each one using a bounded chunk of the filter values, and the sub-queries results are merged
+		 * into a single results stream.
+		 * <p>
+		 * Only a <code>IN</code> filter which is part of the top level query filter conjunction can be split, and
+		 * sorted queries cannot be split, since the sub-queries results would have to be merged in memory. The limit
+		 * and the offset of an unsorted query are applied to the merged results. A query which cannot be split
+		 * preserving its semantics is rejected with a {@link com.holonplatform.core.exceptions.DataAccessException}.
+		 * </p>
+		 * <p>
+		 * By default, the <code>IN</code> filters chunking is disabled.
+		 * </p>
+		 * @param chunkSize The maximum number of values of a <code>IN</code> filter, a value <code>&lt;= 0</code>
+		 *        disables the <code>IN</code> filters chunking
+		 * @return this
+		 * @see JpaDatastore#QUERY_PARAMETER_IN_FILTER_CHUNK_SIZE
+		 * @since 6.0.3
+		 */
+		Builder<D> inFilterChunkSize(int chunkSize);
+
+		/**
+		 * Set whether to resolve the select all query projections as a list of scalar entity attributes by default.
+		 * <p>
+		 * By default, a select all projection selects the query target entity instances, which are loaded in the
+		 * persistence context and then converted into a property name - value map. When the scalar select all mode is
+		 * enabled, the projection is expanded into the basic entity attributes, including the attributes of the
+		 * embedded types, and each result row is converted straight into the map, so that no entity instance is
+		 * attached to the <code>EntityManager</code>. The embedded type attributes are mapped using their path name,
+		 * for example <code>address.street</code>, while the association and collection attributes are not selected.
+		 * </p>
+		 * <p>
+		 * The scalar select all mode is never used for queries which acquire a lock.
+		 * </p>
+		 * @param scalarSelectAll <code>true</code> to enable the scalar select all mode by default
+		 * @return this
+		 * @see JpaDatastore#QUERY_PARAMETER_SCALAR_SELECT_ALL
+		 * @since 6.0.3
+		 */
+		Builder<D> scalarSelectAll(boolean scalarSelectAll);
+
+		/**
+		 * Set whether to execute the queries in read-only mode by default.
+		 * <p>
+		 * In read-only mode, the query is configured using the read-only query hints provided by the current
+		 * {@link ORMDialect}, if any, for example <code>org.hibernate.readOnly</code> for Hibernate and
+		 * <code>eclipselink.read-only</code> for EclipseLink, so that the ORM can skip the snapshots used for the
+		 * dirty checking of the loaded entities. The entity instances returned by the query are never detached from
+		 * the <code>EntityManager</code>, since they may have been loaded in the persistence context before the query
+		 * execution.
+		 * </p>
+		 * <p>
+		 * The read-only mode is never used for queries which acquire a lock.
+		 * </p>
+		 * @param readOnlyQueries <code>true</code> to execute the queries in read-only mode by default
+		 * @return this
+		 * @see JpaDatastore#QUERY_PARAMETER_READ_ONLY
+		 * @since 6.0.3
+		 */
+		Builder<D> readOnlyQueries(boolean readOnlyQueries);
+
+		/**
+		 * Set the default JDBC fetch size of the queries, i.e. the number of rows to fetch for each database round
+		 * trip.
+		 * <p>
+		 * The fetch size is set using the query hint provided by the current {@link ORMDialect}, if available, and can
+		 * be overridden for a specific query using the {@link JpaDatastore#QUERY_PARAMETER_FETCH_SIZE} query
+		 * parameter. By default, the JDBC driver default fetch size is used.
+		 * </p>
+		 * @param fetchSize The default fetch size, a value <code>&lt;= 0</code> to use the JDBC driver default
+		 * @return this
+		 * @since 6.0.3
+		 */
+		Builder<D> fetchSize(int fetchSize);
+
+		/**
+		 * Set the default timeout of the queries, in milliseconds.
+		 * <p>
+		 * The timeout is set using the query hint provided by the current {@link ORMDialect} and can be overridden for
+		 * a specific query using the {@link JpaDatastore#QUERY_PARAMETER_TIMEOUT} query parameter. By default, no
+		 * query timeout is set.
+		 * </p>
+		 * @param queryTimeout The default query timeout in milliseconds, a value <code>&lt;= 0</code> to disable the
+		 *        query timeout
+		 * @return this
+		 * @since 6.0.3
+		 */
+		Builder<D> queryTimeout(int queryTimeout);
+
+		/**
+		 * Set the {@link JpaContextHolder} to use to bind the current {@link EntityManager} and transaction to the
+		 * execution context.
+		 * <p>
+		 * By default, the {@link JpaContextHolder#getDefault()} holder is used, which binds the resources to the
+		 * current thread.
+		 * </p>
+		 * @param contextHolder The context holder (not null)
+		 * @return this
+		 * @since 6.0.3
+		 */
+		Builder<D> contextHolder(JpaContextHolder contextHolder);
+
+		/**
+		 * Set the {@link JpaOperationMetrics} hook to use to record the Datastore operations metrics.
+		 * <p>
+		 * By default, no operation metrics are recorded.
+		 * </p>
+		 * @param operationMetrics The operation metrics hook (not null)
+		 * @return this
+		 * @since 6.0.3
+		 */
+		Builder<D> operationMetrics(JpaOperationMetrics operationMetrics);
+
 		/**
 		 * Register a {@link JpaDatastoreCommodityFactory}.
 		 * @param <C> Commodity type
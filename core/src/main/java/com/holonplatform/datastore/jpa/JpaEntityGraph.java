@@ -0,0 +1,137 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.config.ConfigProperty;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.datastore.jpa.internal.DefaultJpaEntityGraph;
+
+/**
+ * A JPA entity graph fetch plan, to be used to declare the entity associations to fetch together with the query
+ * results using {@link Query#parameter(ConfigProperty, Object)} with {@link #QUERY_PARAMETER_ENTITY_GRAPH} as
+ * parameter.
+ * <p>
+ * The entity graph can be either a named entity graph, declared in the entity mapping, or a graph built from a set of
+ * attribute paths of the query target entity, where nested attributes are separated by a dot, for example
+ * <code>address.city</code>. The graph is applied only when the query selects the target entity instances, for
+ * example using a {@link JpaTarget} or a select all projection, and it is ignored otherwise.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaEntityGraph extends Serializable {
+
+	/**
+	 * A {@link Query} parameter to set the entity graph fetch plan of the query, using
+	 * {@link Query#parameter(ConfigProperty, Object)}.
+	 */
+	public static final ConfigProperty<JpaEntityGraph> QUERY_PARAMETER_ENTITY_GRAPH = ConfigProperty
+			.create("jpaQueryEntityGraph", JpaEntityGraph.class);
+
+	/**
+	 * Get the entity graph type.
+	 * @return The entity graph type
+	 */
+	Type getType();
+
+	/**
+	 * Get the name of the named entity graph to use.
+	 * @return Optional named entity graph name, empty if the graph is built from the attribute paths
+	 */
+	Optional<String> getName();
+
+	/**
+	 * Get the attribute paths from which the entity graph is built.
+	 * @return The attribute paths, empty for a named entity graph
+	 */
+	List<String> getAttributePaths();
+
+	/**
+	 * Create a {@link Type#LOAD} entity graph using the named entity graph with given name.
+	 * @param name The named entity graph name (not null)
+	 * @return A new {@link JpaEntityGraph}
+	 */
+	static JpaEntityGraph named(String name) {
+		return named(name, Type.LOAD);
+	}
+
+	/**
+	 * Create an entity graph using the named entity graph with given name.
+	 * @param name The named entity graph name (not null)
+	 * @param type The entity graph type (not null)
+	 * @return A new {@link JpaEntityGraph}
+	 */
+	static JpaEntityGraph named(String name, Type type) {
+		return new DefaultJpaEntityGraph(type, name, null);
+	}
+
+	/**
+	 * Create a {@link Type#LOAD} entity graph which includes given attribute paths.
+	 * @param attributePaths The attribute paths, using a dot to separate the nested attribute names (not null)
+	 * @return A new {@link JpaEntityGraph}
+	 */
+	static JpaEntityGraph of(String... attributePaths) {
+		return of(Type.LOAD, attributePaths);
+	}
+
+	/**
+	 * Create an entity graph which includes given attribute paths.
+	 * @param type The entity graph type (not null)
+	 * @param attributePaths The attribute paths, using a dot to separate the nested attribute names (not null)
+	 * @return A new {@link JpaEntityGraph}
+	 */
+	static JpaEntityGraph of(Type type, String... attributePaths) {
+		return new DefaultJpaEntityGraph(type, null, Arrays.asList(attributePaths));
+	}
+
+	/**
+	 * Entity graph type.
+	 */
+	public enum Type {
+
+		/**
+		 * The attributes included in the graph are fetched eagerly, while the other attributes are treated as lazy.
+		 */
+		FETCH("jakarta.persistence.fetchgraph"),
+
+		/**
+		 * The attributes included in the graph are fetched eagerly, while the other attributes are fetched according
+		 * to their mapping.
+		 */
+		LOAD("jakarta.persistence.loadgraph");
+
+		private final String hintName;
+
+		private Type(String hintName) {
+			this.hintName = hintName;
+		}
+
+		/**
+		 * Get the query hint name to use to apply the entity graph.
+		 * @return The query hint name
+		 */
+		public String getHintName() {
+			return hintName;
+		}
+
+	}
+
+}
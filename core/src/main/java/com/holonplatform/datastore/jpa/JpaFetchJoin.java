@@ -0,0 +1,96 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import com.holonplatform.core.datastore.relational.Join;
+import com.holonplatform.core.datastore.relational.RelationalTarget;
+import com.holonplatform.core.internal.datastore.relational.RelationalTargetEditor;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.internal.DefaultJpaFetchJoin;
+
+/**
+ * A JPA <em>fetch join</em>, i.e. a {@link Join} which is resolved as a JPQL <code>JOIN FETCH</code> or
+ * <code>LEFT JOIN FETCH</code> clause, to fetch an association of the query target entity together with the entity
+ * instances, avoiding an additional query for each result to load the association.
+ * <p>
+ * The join name is the association attribute path, relative to the {@link RelationalTarget} root entity, for example
+ * <code>lines</code> to obtain the <code>JOIN FETCH o.lines</code> clause for a root target with alias
+ * <code>o</code>. Only the {@link Join.JoinType#INNER} and {@link Join.JoinType#LEFT} join types are supported, and
+ * a fetch join cannot declare an alias or a <code>ON</code> condition.
+ * </p>
+ * <p>
+ * A fetch join only affects the queries which select the root entity instances, for example using a
+ * {@link JpaTarget} projection. When a collection association is fetched, the query may return the same entity
+ * instance more than once, depending on the ORM, so a <code>distinct</code> query should be used.
+ * </p>
+ *
+ * @param <T> Association type
+ *
+ * @since 6.0.3
+ */
+public interface JpaFetchJoin<T> extends Join<T> {
+
+	/**
+	 * Create a new {@link JpaFetchJoin}.
+	 * @param attribute The association attribute path, relative to the root entity (not null)
+	 * @param joinType The join type, either {@link Join.JoinType#INNER} or {@link Join.JoinType#LEFT} (not null)
+	 * @return A new {@link JpaFetchJoin}
+	 * @throws IllegalArgumentException If the join type is not supported
+	 */
+	static JpaFetchJoin<Object> create(String attribute, JoinType joinType) {
+		return new DefaultJpaFetchJoin<>(attribute, Object.class, joinType);
+	}
+
+	/**
+	 * Add an inner fetch join (<code>JOIN FETCH</code>) to given {@link RelationalTarget}.
+	 * @param <T> Target type
+	 * @param target The relational target (not null)
+	 * @param attribute The association attribute path, relative to the root entity (not null)
+	 * @return A new {@link RelationalTarget} which includes the fetch join
+	 */
+	static <T> RelationalTarget<T> joinFetch(RelationalTarget<T> target, String attribute) {
+		return withJoin(target, create(attribute, JoinType.INNER));
+	}
+
+	/**
+	 * Add a left outer fetch join (<code>LEFT JOIN FETCH</code>) to given {@link RelationalTarget}.
+	 * @param <T> Target type
+	 * @param target The relational target (not null)
+	 * @param attribute The association attribute path, relative to the root entity (not null)
+	 * @return A new {@link RelationalTarget} which includes the fetch join
+	 */
+	static <T> RelationalTarget<T> leftJoinFetch(RelationalTarget<T> target, String attribute) {
+		return withJoin(target, create(attribute, JoinType.LEFT));
+	}
+
+	/**
+	 * Add given fetch join to a {@link RelationalTarget}.
+	 * @param <T> Target type
+	 * @param target The relational target (not null)
+	 * @param join The fetch join to add (not null)
+	 * @return A new {@link RelationalTarget} which includes the fetch join
+	 * @throws IllegalArgumentException If the relational target does not support the joins addition
+	 */
+	static <T> RelationalTarget<T> withJoin(RelationalTarget<T> target, JpaFetchJoin<?> join) {
+		ObjectUtils.argumentNotNull(target, "Relational target must be not null");
+		ObjectUtils.argumentNotNull(join, "Fetch join must be not null");
+		if (!(target instanceof RelationalTargetEditor)) {
+			throw new IllegalArgumentException("The relational target [" + target + "] does not support fetch joins");
+		}
+		return ((RelationalTargetEditor<T>) target).withJoin(join);
+	}
+
+}
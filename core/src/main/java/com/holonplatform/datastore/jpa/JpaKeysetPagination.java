@@ -0,0 +1,142 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.datastore.jpa.internal.DefaultJpaKeysetPagination;
+
+/**
+ * Keyset (or <em>seek</em>) pagination support for {@link Query} operations.
+ * <p>
+ * Instead of skipping the rows of the previous pages using a query offset, the keyset pagination uses the sort values
+ * of the last row of the previous page to filter the next page rows, so that the cost of fetching a page does not
+ * depend on the page position. For example, given a sort on the <code>a</code> and <code>b</code> properties, the next
+ * page is obtained using the <code>a &gt; :a OR (a = :a AND b &gt; :b)</code> restriction.
+ * </p>
+ * <p>
+ * The sort values of the last row of a page are encoded in an opaque <em>continuation token</em>, which can be used
+ * to fetch the next page. To ensure a consistent pagination, the sort should include a unique key (for example, the
+ * entity identifier) and the sort values should be not <code>null</code>.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaKeysetPagination {
+
+	/**
+	 * Get the pagination sort.
+	 * @return The sort
+	 */
+	QuerySort getSort();
+
+	/**
+	 * Get the page size.
+	 * @return The page size
+	 */
+	int getPageSize();
+
+	/**
+	 * Fetch a page of results using given query, which is configured with the pagination sort, the page restriction
+	 * and the page size as query limit.
+	 * @param query The query to use, providing the query target and any additional query filter (not null)
+	 * @param continuationToken The continuation token returned by the previous page, <code>null</code> to fetch the
+	 *        first page
+	 * @param properties The projection properties, which must include the sort properties (not null)
+	 * @return The results page
+	 * @throws IllegalArgumentException If the continuation token is not valid for this pagination
+	 */
+	<P extends Property<?>> Page<PropertyBox> fetch(Query query, String continuationToken, Iterable<P> properties);
+
+	/**
+	 * Fetch a page of results using given query, which is configured with the pagination sort, the page restriction
+	 * and the page size as query limit.
+	 * @param query The query to use, providing the query target and any additional query filter (not null)
+	 * @param continuationToken The continuation token returned by the previous page, <code>null</code> to fetch the
+	 *        first page
+	 * @param properties The projection properties, which must include the sort properties (not null)
+	 * @return The results page
+	 * @throws IllegalArgumentException If the continuation token is not valid for this pagination
+	 */
+	default Page<PropertyBox> fetch(Query query, String continuationToken, Property<?>... properties) {
+		return fetch(query, continuationToken, Arrays.asList(properties));
+	}
+
+	/**
+	 * Get the query restriction which selects the rows which follow the row identified by given continuation token.
+	 * @param continuationToken The continuation token, <code>null</code> for none
+	 * @return Optional query restriction, empty if the continuation token is <code>null</code>
+	 * @throws IllegalArgumentException If the continuation token is not valid for this pagination
+	 */
+	Optional<QueryFilter> getRestriction(String continuationToken);
+
+	/**
+	 * Get the continuation token which identifies given row.
+	 * @param row The row, which must provide the sort property values (not null)
+	 * @return The continuation token
+	 */
+	String getContinuationToken(PropertyBox row);
+
+	/**
+	 * Create a new {@link JpaKeysetPagination}.
+	 * <p>
+	 * The sort must be composed by property sorts, using properties which are also query expressions, such as a
+	 * {@link com.holonplatform.core.property.PathProperty}.
+	 * </p>
+	 * @param sort The pagination sort (not null)
+	 * @param pageSize The page size (must be greater than 0)
+	 * @return A new {@link JpaKeysetPagination}
+	 */
+	static JpaKeysetPagination create(QuerySort sort, int pageSize) {
+		return new DefaultJpaKeysetPagination(sort, pageSize);
+	}
+
+	/**
+	 * A results page.
+	 * @param <R> Results type
+	 */
+	public interface Page<R> {
+
+		/**
+		 * Get the page results.
+		 * @return The page results, empty if none
+		 */
+		List<R> getResults();
+
+		/**
+		 * Get the continuation token to use to fetch the next page, if available.
+		 * @return Optional continuation token, empty if this is the last page
+		 */
+		Optional<String> getContinuationToken();
+
+		/**
+		 * Checks whether a next page is available.
+		 * @return <code>true</code> if a next page is available
+		 */
+		default boolean hasNext() {
+			return getContinuationToken().isPresent();
+		}
+
+	}
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.util.Optional;
+
+import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+
+/**
+ * A hook to collect the JPA Datastore operations metrics, such as the JPQL resolution time, the JPA execution time,
+ * the query results conversion time, the rows count and the operation errors.
+ * <p>
+ * Each metric is recorded along with the {@link Operation} descriptor which provides the operation type, the target
+ * name and the Datastore data context id, if available, which can be used as metric tags. For example, a
+ * <em>Micrometer</em> based implementation may register a timer for each resolution, execution and conversion
+ * metric, tagged by the operation type, the target name and the data context id.
+ * </p>
+ * <p>
+ * The metrics methods are invoked by the thread which executes the operation, so implementations must be thread-safe
+ * and should not perform any blocking or time consuming task. All the metrics methods are no-op by default.
+ * </p>
+ * <p>
+ * Query results conversion is performed lazily, while the query results are consumed, so the conversion metrics are
+ * recorded when the query results are exhausted or the results stream is closed.
+ * </p>
+ *
+ * @since 6.0.3
+ * @see JpaDatastore.Builder#operationMetrics(JpaOperationMetrics)
+ * @see JpaOperationContext#getOperationMetrics()
+ */
+public interface JpaOperationMetrics {
+
+	/**
+	 * Record the time spent to resolve an operation, i.e. to resolve the operation target entity and, when
+	 * applicable, the JPQL statement to execute.
+	 * @param operation The operation descriptor
+	 * @param nanos The resolution time, in nanoseconds
+	 */
+	default void recordResolution(Operation operation, long nanos) {
+	}
+
+	/**
+	 * Record the time spent to execute an operation using the JPA <code>EntityManager</code>.
+	 * @param operation The operation descriptor
+	 * @param nanos The execution time, in nanoseconds
+	 * @param count For data manipulation operations, the affected rows count. For query operations, the fetched rows
+	 *        count or <code>-1</code> if not available at execution time, for example when the query results are
+	 *        streamed
+	 */
+	default void recordExecution(Operation operation, long nanos, long count) {
+	}
+
+	/**
+	 * Record the time spent to convert the query results into the query projection type.
+	 * @param operation The operation descriptor
+	 * @param nanos The total conversion time, in nanoseconds
+	 * @param rows The converted rows count
+	 */
+	default void recordConversion(Operation operation, long nanos, long rows) {
+	}
+
+	/**
+	 * Record an operation error.
+	 * @param operation The operation descriptor
+	 * @param error The error
+	 */
+	default void recordError(Operation operation, Throwable error) {
+	}
+
+	/**
+	 * Datastore operation types.
+	 */
+	public enum OperationType {
+
+		/**
+		 * Query
+		 */
+		QUERY,
+
+		/**
+		 * Insert
+		 */
+		INSERT,
+
+		/**
+		 * Update
+		 */
+		UPDATE,
+
+		/**
+		 * Save (insert or update)
+		 */
+		SAVE,
+
+		/**
+		 * Delete
+		 */
+		DELETE,
+
+		/**
+		 * Refresh
+		 */
+		REFRESH,
+
+		/**
+		 * Bulk insert
+		 */
+		BULK_INSERT,
+
+		/**
+		 * Bulk update
+		 */
+		BULK_UPDATE,
+
+		/**
+		 * Bulk delete
+		 */
+		BULK_DELETE;
+
+	}
+
+	/**
+	 * Operation descriptor.
+	 */
+	public interface Operation {
+
+		/**
+		 * Get the operation type.
+		 * @return The operation type
+		 */
+		OperationType getType();
+
+		/**
+		 * Get the operation target name, i.e. the name of the data target of the operation.
+		 * @return The operation target name
+		 */
+		String getTarget();
+
+		/**
+		 * Get the data context id of the Datastore which executes the operation, if available.
+		 * @return Optional data context id
+		 */
+		Optional<String> getDataContextId();
+
+	}
+
+}
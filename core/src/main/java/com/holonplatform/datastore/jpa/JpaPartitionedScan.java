@@ -0,0 +1,173 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.PropertySetProjection;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryExpression;
+import com.holonplatform.core.query.QueryProjection;
+import com.holonplatform.datastore.jpa.internal.DefaultJpaPartitionedScan;
+
+/**
+ * Partitioned scan support for {@link Query} operations, to read a large number of rows using concurrent queries.
+ * <p>
+ * The value range of a numeric or temporal <em>partition expression</em> (for example, the entity identifier) is
+ * obtained using the <code>min</code> and <code>max</code> aggregate functions and then split into a number of
+ * contiguous sub-ranges. A query is executed for each sub-range, each one using its own thread and hence its own
+ * <code>EntityManager</code> and connection. The rows with a <code>null</code> partition expression value are
+ * included in the first partition.
+ * </p>
+ * <p>
+ * Since the partition queries are executed by different threads, they do not participate in the current transaction,
+ * if any. The query results order is not preserved.
+ * </p>
+ * <p>
+ * Supported partition expression types are the numeric types, {@link java.util.Date}, {@link java.time.Instant},
+ * {@link java.time.LocalDate} and {@link java.time.LocalDateTime}.
+ * </p>
+ *
+ * @param <T> Partition expression type
+ *
+ * @since 6.0.3
+ */
+public interface JpaPartitionedScan<T> {
+
+	/**
+	 * Get the partition expression.
+	 * @return The partition expression
+	 */
+	QueryExpression<T> getPartitionExpression();
+
+	/**
+	 * Get the maximum number of partitions. The actual number of partitions can be lower, if the partition expression
+	 * values range is too narrow.
+	 * @return The maximum number of partitions
+	 */
+	int getPartitions();
+
+	/**
+	 * Execute the partition queries and return the results of all the partitions as a single, unordered
+	 * {@link Stream}.
+	 * <p>
+	 * The results are fetched in background by the partition queries and buffered, so the returned stream must be
+	 * closed after use to release the partition queries resources, for example using a <code>try</code>-with-resources
+	 * statement.
+	 * </p>
+	 * @param <R> Results type
+	 * @param query The query supplier, providing a new query for each partition, configured with the query target and
+	 *        any additional query filter (not null)
+	 * @param projection The query projection (not null)
+	 * @return The merged results stream
+	 * @throws com.holonplatform.core.exceptions.DataAccessException If an error occurred during a partition query
+	 *         execution
+	 */
+	<R> Stream<R> stream(Supplier<? extends Query> query, QueryProjection<R> projection);
+
+	/**
+	 * Execute the partition queries and return the results of all the partitions as a single, unordered
+	 * {@link Stream} of {@link PropertyBox}.
+	 * @param <P> Property type
+	 * @param query The query supplier, providing a new query for each partition (not null)
+	 * @param properties The projection properties (not null)
+	 * @return The merged results stream
+	 * @see #stream(Supplier, QueryProjection)
+	 */
+	default <P extends Property<?>> Stream<PropertyBox> stream(Supplier<? extends Query> query,
+			Iterable<P> properties) {
+		return stream(query, PropertySetProjection.of(properties));
+	}
+
+	/**
+	 * Execute the partition queries and return the results of all the partitions as a single, unordered
+	 * {@link Stream} of {@link PropertyBox}.
+	 * @param query The query supplier, providing a new query for each partition (not null)
+	 * @param properties The projection properties (not null)
+	 * @return The merged results stream
+	 * @see #stream(Supplier, QueryProjection)
+	 */
+	default Stream<PropertyBox> stream(Supplier<? extends Query> query, Property<?>... properties) {
+		return stream(query, Arrays.asList(properties));
+	}
+
+	/**
+	 * Execute the partition queries and provide the results of each partition to given consumer, which is invoked
+	 * concurrently by the partition threads. This method returns when all the partitions have been consumed.
+	 * @param <R> Results type
+	 * @param query The query supplier, providing a new query for each partition, configured with the query target and
+	 *        any additional query filter (not null)
+	 * @param projection The query projection (not null)
+	 * @param consumer The partition results consumer (not null)
+	 * @throws com.holonplatform.core.exceptions.DataAccessException If an error occurred during a partition query
+	 *         execution or consumption
+	 */
+	<R> void forEachPartition(Supplier<? extends Query> query, QueryProjection<R> projection,
+			PartitionConsumer<R> consumer);
+
+	/**
+	 * Create a new {@link JpaPartitionedScan} which executes each partition query using a new virtual thread.
+	 * @param <T> Partition expression type
+	 * @param partitionExpression The partition expression, for example a numeric or temporal property (not null)
+	 * @param partitions The maximum number of partitions (must be greater than 0)
+	 * @return A new {@link JpaPartitionedScan}
+	 * @throws IllegalArgumentException If the partition expression type is not supported
+	 */
+	static <T> JpaPartitionedScan<T> create(QueryExpression<T> partitionExpression, int partitions) {
+		return new DefaultJpaPartitionedScan<>(partitionExpression, partitions, null);
+	}
+
+	/**
+	 * Create a new {@link JpaPartitionedScan} which executes the partition queries using given {@link Executor}, for
+	 * example a bounded thread pool.
+	 * <p>
+	 * The executor should be able to run all the partition queries concurrently, otherwise the partition queries are
+	 * executed as soon as a thread is available.
+	 * </p>
+	 * @param <T> Partition expression type
+	 * @param partitionExpression The partition expression, for example a numeric or temporal property (not null)
+	 * @param partitions The maximum number of partitions (must be greater than 0)
+	 * @param executor The executor to use (not null)
+	 * @return A new {@link JpaPartitionedScan}
+	 * @throws IllegalArgumentException If the partition expression type is not supported
+	 */
+	static <T> JpaPartitionedScan<T> create(QueryExpression<T> partitionExpression, int partitions,
+			Executor executor) {
+		return new DefaultJpaPartitionedScan<>(partitionExpression, partitions, executor);
+	}
+
+	/**
+	 * Consumer of the results of a partition.
+	 * @param <R> Results type
+	 */
+	@FunctionalInterface
+	public interface PartitionConsumer<R> {
+
+		/**
+		 * Consume the results of a partition. The results stream is closed when this method returns.
+		 * @param partition The partition index, starting from <code>0</code>
+		 * @param results The partition results
+		 */
+		void accept(int partition, Stream<R> results);
+
+	}
+
+}
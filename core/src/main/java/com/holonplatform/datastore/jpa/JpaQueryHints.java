@@ -0,0 +1,98 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+
+import com.holonplatform.core.config.ConfigProperty;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.datastore.jpa.internal.DefaultQueryHints;
+
+/**
+ * A set of JPA query hints, to be used to provide more than one {@link Query} execution hint using
+ * {@link Query#parameter(ConfigProperty, Object)} with {@link #QUERY_PARAMETER_HINTS} as parameter.
+ * <p>
+ * The hints are applied in the declaration order and after the hint provided using the
+ * {@link JpaQueryHint#QUERY_PARAMETER_HINT} parameter, if any, so a hint with the same name overrides it.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaQueryHints extends Serializable {
+
+	/**
+	 * A {@link Query} parameter to set a set of JPA query hints, using
+	 * {@link Query#parameter(ConfigProperty, Object)}.
+	 */
+	public static final ConfigProperty<JpaQueryHints> QUERY_PARAMETER_HINTS = ConfigProperty.create("jpaQueryHints",
+			JpaQueryHints.class);
+
+	/**
+	 * Get the query hints.
+	 * @return The query hints, in the declaration order, empty if none
+	 */
+	List<JpaQueryHint> getHints();
+
+	/**
+	 * Create a new {@link JpaQueryHints} using given hints.
+	 * @param hints The query hints (not null)
+	 * @return A new {@link JpaQueryHints}
+	 */
+	static JpaQueryHints of(JpaQueryHint... hints) {
+		return new DefaultQueryHints(Arrays.asList(hints));
+	}
+
+	/**
+	 * Get a builder to create a {@link JpaQueryHints}.
+	 * @return A new {@link JpaQueryHints} builder
+	 */
+	static Builder builder() {
+		return new DefaultQueryHints.DefaultBuilder();
+	}
+
+	/**
+	 * {@link JpaQueryHints} builder.
+	 */
+	public interface Builder {
+
+		/**
+		 * Add a query hint.
+		 * @param hint The query hint to add (not null)
+		 * @return this
+		 */
+		Builder hint(JpaQueryHint hint);
+
+		/**
+		 * Add a query hint.
+		 * @param name Hint name (not null)
+		 * @param value Hint value (not null)
+		 * @return this
+		 */
+		default Builder hint(String name, Object value) {
+			return hint(JpaQueryHint.create(name, value));
+		}
+
+		/**
+		 * Build the {@link JpaQueryHints}.
+		 * @return A new {@link JpaQueryHints}
+		 */
+		JpaQueryHints build();
+
+	}
+
+}
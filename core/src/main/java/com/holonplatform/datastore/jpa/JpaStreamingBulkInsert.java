@@ -0,0 +1,152 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.DatastoreCommodity;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+
+/**
+ * A bulk insert operation which reads the values to insert from an {@link Iterator}, a {@link Stream} or a
+ * {@link Spliterator}, without collecting them in memory.
+ * <p>
+ * The entities are persisted in batches: at the end of each batch the <code>EntityManager</code> is flushed and
+ * cleared, so that the memory used by the operation depends on the batch size and not on the number of values to
+ * insert.
+ * </p>
+ * <p>
+ * When a commit interval is configured, the operation manages its own <code>EntityManager</code> transactions and
+ * commits every given number of batches, so it must not be executed within a transaction. Otherwise, the operation
+ * must be executed within a transaction, like any other write operation.
+ * </p>
+ * <p>
+ * This operation is available as a {@link DatastoreCommodity} of the JPA Datastore, and can be obtained using
+ * <code>datastore.create(JpaStreamingBulkInsert.class)</code>.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaStreamingBulkInsert extends DatastoreCommodity {
+
+	/**
+	 * Default batch size, used when a batch size is neither configured nor detected from the ORM configuration.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/**
+	 * Set the data target to insert into.
+	 * @param target The data target (not null)
+	 * @return this
+	 */
+	JpaStreamingBulkInsert target(DataTarget<?> target);
+
+	/**
+	 * Set the properties to insert. Only the values of these properties are written into the entities.
+	 * @param <P> Property type
+	 * @param properties The properties to insert (not null)
+	 * @return this
+	 */
+	<P extends Property<?>> JpaStreamingBulkInsert propertySet(Iterable<P> properties);
+
+	/**
+	 * Set the properties to insert. Only the values of these properties are written into the entities.
+	 * @param properties The properties to insert (not null)
+	 * @return this
+	 */
+	default JpaStreamingBulkInsert propertySet(Property<?>... properties) {
+		return propertySet(Arrays.asList(properties));
+	}
+
+	/**
+	 * Set the batch size, i.e. the number of entities to persist before the <code>EntityManager</code> is flushed and
+	 * cleared.
+	 * <p>
+	 * If not configured, the batch size is detected from the ORM configuration, if supported by the current dialect,
+	 * or the {@link #DEFAULT_BATCH_SIZE} is used.
+	 * </p>
+	 * @param batchSize The batch size (must be greater than 0)
+	 * @return this
+	 */
+	JpaStreamingBulkInsert batchSize(int batchSize);
+
+	/**
+	 * Set the number of batches after which the current transaction is committed and a new transaction is started.
+	 * @param batches The number of batches, <code>0</code> to disable the transactions management (default)
+	 * @return this
+	 */
+	JpaStreamingBulkInsert commitInterval(int batches);
+
+	/**
+	 * Set the listener to notify about the operation progress, invoked after each batch.
+	 * @param listener The progress listener, <code>null</code> for none
+	 * @return this
+	 */
+	JpaStreamingBulkInsert progressListener(ProgressListener listener);
+
+	/**
+	 * Execute the operation, inserting the values provided by given {@link Iterator}.
+	 * @param values The values to insert (not null)
+	 * @return The operation result, providing the number of inserted entities
+	 * @throws com.holonplatform.core.exceptions.DataAccessException If an error occurred. Any batch already
+	 *         committed using the commit interval is not rolled back.
+	 */
+	OperationResult execute(Iterator<? extends PropertyBox> values);
+
+	/**
+	 * Execute the operation, inserting the values provided by given {@link Stream}. The stream is not closed by this
+	 * method.
+	 * @param values The values to insert (not null)
+	 * @return The operation result, providing the number of inserted entities
+	 * @see #execute(Iterator)
+	 */
+	default OperationResult execute(Stream<? extends PropertyBox> values) {
+		return execute(values.iterator());
+	}
+
+	/**
+	 * Execute the operation, inserting the values provided by given {@link Spliterator}.
+	 * @param values The values to insert (not null)
+	 * @return The operation result, providing the number of inserted entities
+	 * @see #execute(Iterator)
+	 */
+	default OperationResult execute(Spliterator<? extends PropertyBox> values) {
+		return execute(Spliterators.iterator(values));
+	}
+
+	/**
+	 * Listener of the streaming bulk insert progress.
+	 */
+	@FunctionalInterface
+	public interface ProgressListener {
+
+		/**
+		 * Invoked after a batch has been flushed, and committed if a commit interval is configured.
+		 * @param batch The batch number, starting from <code>1</code>
+		 * @param count The total number of entities inserted so far
+		 */
+		void onBatch(int batch, long count);
+
+	}
+
+}
@@ -15,6 +15,10 @@
  */
 package com.holonplatform.datastore.jpa.context;
 
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import jakarta.persistence.EntityManager;
 
 import com.holonplatform.core.exceptions.DataAccessException;
@@ -58,4 +62,31 @@ public interface EntityManagerHandler {
 		});
 	}
 
+	/**
+	 * Execute given <code>operation</code> which returns a {@link Stream} of results, binding the lifecycle of the
+	 * {@link EntityManager} used to execute the operation to the returned {@link Stream} when supported.
+	 * <p>
+	 * When the {@link EntityManager} is not already bound to the current thread or to an active transaction, the
+	 * handler may keep the {@link EntityManager} open until the returned {@link Stream} is closed or fully consumed,
+	 * so that the results can be lazily fetched from the underlying cursor. The returned {@link Stream} should be
+	 * closed after use, for example using a <code>try-with-resources</code> block.
+	 * </p>
+	 * <p>
+	 * By default, the results are collected before the {@link EntityManager} is finalized.
+	 * </p>
+	 * @param <R> Stream elements type
+	 * @param operation The operation to execute (not null)
+	 * @return The operation results stream
+	 * @throws DataAccessException If an error occurred during {@link EntityManager} management or operation execution
+	 * @since 6.0.3
+	 */
+	default <R> Stream<R> streamWithEntityManager(EntityManagerOperation<Stream<R>> operation) {
+		final List<R> results = withEntityManager(em -> {
+			try (Stream<R> stream = operation.execute(em)) {
+				return stream.collect(Collectors.toList());
+			}
+		});
+		return results.stream();
+	}
+
 }
@@ -22,6 +22,7 @@ import jakarta.persistence.EntityManagerFactory;
 import com.holonplatform.core.ExpressionResolver.ExpressionResolverProvider;
 import com.holonplatform.datastore.jpa.ORMPlatform;
 import com.holonplatform.datastore.jpa.dialect.ORMDialect;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueSerializer;
 
@@ -66,6 +67,52 @@ public interface JpaContext extends ExpressionResolverProvider {
 		return JPQLValueDeserializer.getDefault();
 	}
 
+	/**
+	 * Get the {@link JPQLCollectionParameterMode} to use to bind the collection values as JPQL statement parameters.
+	 * @return The collection parameter mode
+	 * @since 6.0.3
+	 */
+	default JPQLCollectionParameterMode getCollectionParameterMode() {
+		return JPQLCollectionParameterMode.EXPAND;
+	}
+
+	/**
+	 * Get whether the select all query projections are resolved as a list of scalar entity attributes by default,
+	 * rather than selecting the entity instances.
+	 * @return <code>true</code> if the scalar select all mode is enabled by default
+	 * @since 6.0.3
+	 */
+	default boolean isScalarSelectAll() {
+		return false;
+	}
+
+	/**
+	 * Get whether the queries are executed in read-only mode by default.
+	 * @return <code>true</code> if the queries are executed in read-only mode by default
+	 * @since 6.0.3
+	 */
+	default boolean isReadOnlyQueries() {
+		return false;
+	}
+
+	/**
+	 * Get the default JDBC fetch size of the queries.
+	 * @return The default fetch size, <code>0</code> if not configured
+	 * @since 6.0.3
+	 */
+	default int getFetchSize() {
+		return 0;
+	}
+
+	/**
+	 * Get the default timeout of the queries, in milliseconds.
+	 * @return The default query timeout, <code>0</code> if not configured
+	 * @since 6.0.3
+	 */
+	default int getQueryTimeout() {
+		return 0;
+	}
+
 	/**
 	 * Trace given JPQL statement.
 	 * <p>
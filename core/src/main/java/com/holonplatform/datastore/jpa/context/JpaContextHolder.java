@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.context;
+
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+
+import com.holonplatform.datastore.jpa.internal.context.ThreadLocalJpaContextHolder;
+import com.holonplatform.datastore.jpa.tx.JpaTransaction;
+
+/**
+ * Holder of the {@link EntityManager} and of the {@link JpaTransaction} bound to the current execution context, used
+ * by the JPA Datastore to share the same {@link EntityManager} among nested operations and the operations executed
+ * within a transaction.
+ * <p>
+ * The resources are bound only for the duration of a scoped operation, using the
+ * {@link #callWithEntityManager(EntityManager, ScopedOperation)} and
+ * {@link #callWithTransaction(JpaTransaction, ScopedOperation)} methods. When the operation ends, either normally or
+ * abruptly, the previous binding (if any) is restored, so nested scopes are supported. This contract matches the one
+ * of a scoped value, so an implementation can rely on scoped values where available.
+ * </p>
+ * <p>
+ * The default implementation binds the resources to the current thread, using a {@link ThreadLocal}. A custom
+ * implementation can be used to bind the resources to a different execution context, for example to integrate with a
+ * context propagation library.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JpaContextHolder {
+
+	/**
+	 * Get the {@link EntityManager} bound to the current execution context, if available.
+	 * @return Optional current {@link EntityManager}
+	 */
+	Optional<EntityManager> getEntityManager();
+
+	/**
+	 * Get the {@link JpaTransaction} bound to the current execution context, if available.
+	 * @return Optional current transaction
+	 */
+	Optional<JpaTransaction> getTransaction();
+
+	/**
+	 * Execute given operation with given {@link EntityManager} bound to the current execution context. The previous
+	 * {@link EntityManager} binding, if any, is restored when the operation ends.
+	 * @param <R> Operation result type
+	 * @param <X> Operation exception type
+	 * @param entityManager The {@link EntityManager} to bind (not null)
+	 * @param operation The operation to execute (not null)
+	 * @return The operation result
+	 * @throws X If an operation execution error occurred
+	 */
+	<R, X extends Exception> R callWithEntityManager(EntityManager entityManager, ScopedOperation<R, X> operation)
+			throws X;
+
+	/**
+	 * Execute given operation with given {@link JpaTransaction} bound to the current execution context. The previous
+	 * transaction binding, if any, is restored when the operation ends.
+	 * @param <R> Operation result type
+	 * @param <X> Operation exception type
+	 * @param transaction The transaction to bind (not null)
+	 * @param operation The operation to execute (not null)
+	 * @return The operation result
+	 * @throws X If an operation execution error occurred
+	 */
+	<R, X extends Exception> R callWithTransaction(JpaTransaction transaction, ScopedOperation<R, X> operation)
+			throws X;
+
+	/**
+	 * Get the default {@link JpaContextHolder}, which binds the resources to the current thread.
+	 * <p>
+	 * The default holder is shared by all the JPA Datastore instances which do not declare a specific holder.
+	 * </p>
+	 * @return The default {@link JpaContextHolder}
+	 */
+	static JpaContextHolder getDefault() {
+		return ThreadLocalJpaContextHolder.INSTANCE;
+	}
+
+	/**
+	 * An operation executed within a {@link JpaContextHolder} binding scope.
+	 * @param <R> Operation result type
+	 * @param <X> Operation exception type
+	 */
+	@FunctionalInterface
+	public interface ScopedOperation<R, X extends Exception> {
+
+		/**
+		 * Execute the operation.
+		 * @return Operation result
+		 * @throws X If an operation execution error occurred
+		 */
+		R execute() throws X;
+
+	}
+
+}
@@ -15,10 +15,15 @@
  */
 package com.holonplatform.datastore.jpa.context;
 
+import java.util.Optional;
+
 import jakarta.persistence.EntityManager;
 
 import com.holonplatform.core.beans.BeanIntrospector;
 import com.holonplatform.core.datastore.DatastoreCommodityHandler;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+import com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
 
 /**
  * JPA datastore operations execution context.
@@ -40,4 +45,50 @@ public interface JpaOperationContext extends JpaContext, EntityManagerHandler, D
 	 */
 	boolean isAutoFlush();
 
+	/**
+	 * Get the {@link JPQLQueryPlanCache} to use to cache the query resolution plans, if enabled.
+	 * @return Optional query plan cache
+	 * @since 6.0.3
+	 */
+	default Optional<JPQLQueryPlanCache> getQueryPlanCache() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the {@link JPQLStatementStatistics} to use to collect the JPQL statements execution statistics, if enabled.
+	 * @return Optional statement statistics
+	 * @since 6.0.3
+	 */
+	default Optional<JPQLStatementStatistics> getStatementStatistics() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the maximum number of values of a <code>IN</code> query filter, above which the query is split into
+	 * sub-queries.
+	 * @return The <code>IN</code> filter chunk size, <code>0</code> if the <code>IN</code> filters chunking is disabled
+	 * @since 6.0.3
+	 */
+	default int getInFilterChunkSize() {
+		return 0;
+	}
+
+	/**
+	 * Get the {@link JpaOperationMetrics} to use to record the operations metrics, if available.
+	 * @return Optional operation metrics hook
+	 * @since 6.0.3
+	 */
+	default Optional<JpaOperationMetrics> getOperationMetrics() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the data context id of the Datastore which executes the operations, if available.
+	 * @return Optional data context id
+	 * @since 6.0.3
+	 */
+	default Optional<String> getDataContextId() {
+		return Optional.empty();
+	}
+
 }
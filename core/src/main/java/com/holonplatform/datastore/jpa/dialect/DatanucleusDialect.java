@@ -15,6 +15,8 @@
  */
 package com.holonplatform.datastore.jpa.dialect;
 
+import java.util.Optional;
+
 /**
  * Datanucleus {@link ORMDialect}.
  *
@@ -97,4 +99,13 @@ public class DatanucleusDialect implements ORMDialect {
 		return '\\';
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#getFetchSizeQueryHint()
+	 */
+	@Override
+	public Optional<String> getFetchSizeQueryHint() {
+		return Optional.of("datanucleus.query.fetchSize");
+	}
+
 }
@@ -16,6 +16,8 @@
 package com.holonplatform.datastore.jpa.dialect;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import com.holonplatform.core.internal.Logger;
@@ -165,4 +167,22 @@ public class EclipselinkDialect implements ORMDialect {
 		return Optional.of("eclipselink.jdbc.batch-writing.size");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#getReadOnlyQueryHints()
+	 */
+	@Override
+	public Map<String, Object> getReadOnlyQueryHints() {
+		return Collections.singletonMap("eclipselink.read-only", "true");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#getFetchSizeQueryHint()
+	 */
+	@Override
+	public Optional<String> getFetchSizeQueryHint() {
+		return Optional.of("eclipselink.jdbc.fetch-size");
+	}
+
 }
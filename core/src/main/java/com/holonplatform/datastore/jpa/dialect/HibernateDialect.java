@@ -16,6 +16,8 @@
 package com.holonplatform.datastore.jpa.dialect;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.persistence.PersistenceException;
@@ -141,6 +143,15 @@ public class HibernateDialect implements ORMDialect {
 		return Optional.of("hibernate.jdbc.batch_size");
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#getReadOnlyQueryHints()
+	 */
+	@Override
+	public Map<String, Object> getReadOnlyQueryHints() {
+		return Collections.singletonMap("org.hibernate.readOnly", Boolean.TRUE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#updateStatementAliasSupported()
@@ -187,4 +198,13 @@ public class HibernateDialect implements ORMDialect {
 		return ORMDialect.super.translateException(exception);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#getFetchSizeQueryHint()
+	 */
+	@Override
+	public Optional<String> getFetchSizeQueryHint() {
+		return Optional.of("org.hibernate.fetchSize");
+	}
+
 }
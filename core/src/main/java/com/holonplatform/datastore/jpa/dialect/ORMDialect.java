@@ -16,6 +16,8 @@
 package com.holonplatform.datastore.jpa.dialect;
 
 import java.time.temporal.Temporal;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.persistence.LockTimeoutException;
@@ -109,6 +111,35 @@ public interface ORMDialect {
 		return false;
 	}
 
+	/**
+	 * Get the query hints to use to execute a query in read-only mode, i.e. to inform the ORM that the entities
+	 * loaded by the query will not be modified.
+	 * @return The read-only query hints, as hint name - hint value map, empty if not supported
+	 * @since 6.0.3
+	 */
+	default Map<String, Object> getReadOnlyQueryHints() {
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Get the query hint name to use to set the JDBC fetch size of a query, i.e. the number of rows to fetch for each
+	 * database round trip.
+	 * @return The fetch size query hint name, if supported
+	 * @since 6.0.3
+	 */
+	default Optional<String> getFetchSizeQueryHint() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the query hint name to use to set the timeout of a query, in milliseconds.
+	 * @return The query timeout hint name, if supported
+	 * @since 6.0.3
+	 */
+	default Optional<String> getQueryTimeoutHint() {
+		return Optional.of("jakarta.persistence.query.timeout");
+	}
+
 	/**
 	 * Get whether the ESCAPE clause in LIKE predicate is supported.
 	 * @return Whether the ESCAPE clause in LIKE predicate is supported.
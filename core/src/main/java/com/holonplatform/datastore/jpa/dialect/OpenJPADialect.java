@@ -16,6 +16,7 @@
 package com.holonplatform.datastore.jpa.dialect;
 
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ClassUtils;
@@ -134,4 +135,13 @@ public class OpenJPADialect implements ORMDialect {
 		return true;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.dialect.ORMDialect#getFetchSizeQueryHint()
+	 */
+	@Override
+	public Optional<String> getFetchSizeQueryHint() {
+		return Optional.of("openjpa.FetchPlan.FetchBatchSize");
+	}
+
 }
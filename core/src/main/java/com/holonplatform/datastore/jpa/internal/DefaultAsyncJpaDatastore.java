@@ -0,0 +1,356 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.datastore.transaction.TransactionConfiguration;
+import com.holonplatform.core.datastore.transaction.TransactionalOperation;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.AsyncJpaDatastore;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+
+/**
+ * Default {@link AsyncJpaDatastore} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultAsyncJpaDatastore implements AsyncJpaDatastore {
+
+	private static final Logger LOGGER = JpaDatastoreLogger.create();
+
+	private final JpaDatastore datastore;
+
+	private final ExecutorService executor;
+
+	private final boolean managedExecutor;
+
+	/**
+	 * Constructor which creates a dedicated executor.
+	 * @param datastore The JPA Datastore to use (not null)
+	 * @param threads The number of executor threads (must be greater than 0)
+	 */
+	public DefaultAsyncJpaDatastore(JpaDatastore datastore, int threads) {
+		super();
+		ObjectUtils.argumentNotNull(datastore, "Datastore must be not null");
+		if (threads < 1) {
+			throw new IllegalArgumentException("The number of executor threads must be greater than 0");
+		}
+		this.datastore = datastore;
+		this.executor = Executors.newFixedThreadPool(threads, new AsyncThreadFactory());
+		this.managedExecutor = true;
+	}
+
+	/**
+	 * Constructor which uses given executor.
+	 * @param datastore The JPA Datastore to use (not null)
+	 * @param executor The executor to use (not null)
+	 */
+	public DefaultAsyncJpaDatastore(JpaDatastore datastore, ExecutorService executor) {
+		super();
+		ObjectUtils.argumentNotNull(datastore, "Datastore must be not null");
+		ObjectUtils.argumentNotNull(executor, "Executor must be not null");
+		this.datastore = datastore;
+		this.executor = executor;
+		this.managedExecutor = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.AsyncJpaDatastore#getDatastore()
+	 */
+	@Override
+	public JpaDatastore getDatastore() {
+		return datastore;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.AsyncJpaDatastore#getExecutor()
+	 */
+	@Override
+	public ExecutorService getExecutor() {
+		return executor;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.AsyncJpaDatastore#execute(java.util.function.Function)
+	 */
+	@Override
+	public <R> CompletionStage<R> execute(Function<? super JpaDatastore, ? extends R> operation) {
+		ObjectUtils.argumentNotNull(operation, "Operation must be not null");
+		try {
+			return CompletableFuture.supplyAsync(() -> operation.apply(datastore), executor);
+		} catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.AsyncJpaDatastore#withTransaction(com.holonplatform.core.datastore.
+	 * transaction.TransactionalOperation, com.holonplatform.core.datastore.transaction.TransactionConfiguration)
+	 */
+	@Override
+	public <R> CompletionStage<R> withTransaction(TransactionalOperation<R> operation,
+			TransactionConfiguration configuration) {
+		ObjectUtils.argumentNotNull(operation, "Operation must be not null");
+		ObjectUtils.argumentNotNull(configuration, "Transaction configuration must be not null");
+		return execute(d -> d.withTransaction(operation, configuration));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.AsyncJpaDatastore#publisher(java.util.function.Function)
+	 */
+	@Override
+	public <R> Flow.Publisher<R> publisher(Function<? super JpaDatastore, Stream<R>> query) {
+		ObjectUtils.argumentNotNull(query, "Query operation must be not null");
+		return subscriber -> {
+			ObjectUtils.argumentNotNull(subscriber, "Subscriber must be not null");
+			subscriber.onSubscribe(new ResultsSubscription<>(subscriber, query));
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.AsyncJpaDatastore#close()
+	 */
+	@Override
+	public void close() {
+		if (managedExecutor) {
+			executor.shutdown();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "AsyncJpaDatastore [datastore=" + datastore + ", executor=" + executor + "]";
+	}
+
+	/**
+	 * Query results subscription. The query is executed and all the results are fetched by a single executor task,
+	 * started when the subscriber requests the first results, which waits for the subscriber demand before fetching
+	 * the next results. This way, the {@link jakarta.persistence.EntityManager} bound to the query execution is never
+	 * accessed by more than one thread.
+	 * @param <R> Results type
+	 */
+	private final class ResultsSubscription<R> implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super R> subscriber;
+
+		private final Function<? super JpaDatastore, Stream<R>> query;
+
+		private final AtomicBoolean started = new AtomicBoolean();
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition signal = lock.newCondition();
+
+		// guarded by lock
+		private long demand = 0L;
+
+		private volatile boolean cancelled = false;
+
+		private volatile Throwable error;
+
+		ResultsSubscription(Flow.Subscriber<? super R> subscriber, Function<? super JpaDatastore, Stream<R>> query) {
+			super();
+			this.subscriber = subscriber;
+			this.query = query;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscription#request(long)
+		 */
+		@Override
+		public void request(long n) {
+			lock.lock();
+			try {
+				if (n <= 0) {
+					error = new IllegalArgumentException("The requested number of results must be greater than 0");
+				} else {
+					final long sum = demand + n;
+					demand = (sum < 0) ? Long.MAX_VALUE : sum;
+				}
+				signal.signalAll();
+			} finally {
+				lock.unlock();
+			}
+			start();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Flow.Subscription#cancel()
+		 */
+		@Override
+		public void cancel() {
+			lock.lock();
+			try {
+				cancelled = true;
+				signal.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Start the subscription task, if not already started.
+		 */
+		private void start() {
+			if (started.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::run);
+				} catch (RejectedExecutionException e) {
+					cancelled = true;
+					subscriber.onError(e);
+				}
+			}
+		}
+
+		/**
+		 * Subscription task: execute the query and fetch the results according to the subscriber demand, then close
+		 * the results stream and signal the subscription termination, if not cancelled.
+		 */
+		private void run() {
+			Stream<R> stream = null;
+			Throwable failure = null;
+			boolean completed = false;
+			try {
+				if (awaitDemand()) {
+					stream = query.apply(datastore);
+					final Iterator<R> iterator = stream.iterator();
+					while (awaitDemand()) {
+						if (!iterator.hasNext()) {
+							completed = true;
+							break;
+						}
+						final R next = iterator.next();
+						consumeDemand();
+						subscriber.onNext(next);
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				failure = e;
+			} catch (Throwable e) {
+				failure = e;
+			} finally {
+				close(stream);
+			}
+			if (cancelled) {
+				return;
+			}
+			if (failure != null) {
+				subscriber.onError(failure);
+			} else if (error != null) {
+				subscriber.onError(error);
+			} else if (completed) {
+				subscriber.onComplete();
+			}
+		}
+
+		/**
+		 * Wait until the subscriber demand is greater than zero, or the subscription is cancelled or failed.
+		 * @return <code>true</code> if the next result can be fetched, <code>false</code> if the subscription is
+		 *         cancelled or failed
+		 * @throws InterruptedException If the executor thread is interrupted while waiting
+		 */
+		private boolean awaitDemand() throws InterruptedException {
+			lock.lock();
+			try {
+				while (demand == 0 && !cancelled && error == null) {
+					signal.await();
+				}
+				return !cancelled && error == null;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Decrement the subscriber demand, unless unbounded.
+		 */
+		private void consumeDemand() {
+			lock.lock();
+			try {
+				if (demand != Long.MAX_VALUE) {
+					demand--;
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		/**
+		 * Close the results stream, if any.
+		 * @param stream The results stream
+		 */
+		private void close(Stream<R> stream) {
+			if (stream != null) {
+				try {
+					stream.close();
+				} catch (RuntimeException e) {
+					LOGGER.warn("Failed to close the query results stream: " + e.getMessage());
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Executor threads factory.
+	 */
+	private static final class AsyncThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+		private final int pool = POOL_COUNTER.incrementAndGet();
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			final Thread thread = new Thread(runnable,
+					"jpa-datastore-async-" + pool + "-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+
+	}
+
+}
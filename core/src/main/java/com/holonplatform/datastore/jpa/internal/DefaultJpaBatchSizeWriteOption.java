@@ -0,0 +1,80 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import com.holonplatform.datastore.jpa.JpaBatchSizeWriteOption;
+
+/**
+ * Default {@link JpaBatchSizeWriteOption} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaBatchSizeWriteOption implements JpaBatchSizeWriteOption {
+
+	private final int batchSize;
+
+	/**
+	 * Constructor
+	 * @param batchSize The batch size
+	 */
+	public DefaultJpaBatchSizeWriteOption(int batchSize) {
+		super();
+		this.batchSize = batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaBatchSizeWriteOption#getBatchSize()
+	 */
+	@Override
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return Integer.hashCode(batchSize);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof DefaultJpaBatchSizeWriteOption)) {
+			return false;
+		}
+		return batchSize == ((DefaultJpaBatchSizeWriteOption) obj).batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JpaBatchSizeWriteOption [batchSize=" + batchSize + "]";
+	}
+
+}
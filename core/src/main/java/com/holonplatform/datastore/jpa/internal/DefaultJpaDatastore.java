@@ -15,7 +15,11 @@
  */
 package com.holonplatform.datastore.jpa.internal;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
@@ -33,14 +37,19 @@ import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.datastore.AbstractInitializableDatastore;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.ORMPlatform;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityFactory;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreExpressionResolver;
 import com.holonplatform.datastore.jpa.context.EntityManagerOperation;
+import com.holonplatform.datastore.jpa.context.JpaContextHolder;
 import com.holonplatform.datastore.jpa.dialect.DefaultDialect;
 import com.holonplatform.datastore.jpa.dialect.ORMDialect;
 import com.holonplatform.datastore.jpa.dialect.ORMDialectContext;
+import com.holonplatform.datastore.jpa.internal.jpql.context.ExpressionResolverSnapshot;
+import com.holonplatform.datastore.jpa.internal.operations.DefaultJpaBulkSave;
+import com.holonplatform.datastore.jpa.internal.operations.DefaultJpaStreamingBulkInsert;
 import com.holonplatform.datastore.jpa.internal.operations.JpaBulkDelete;
 import com.holonplatform.datastore.jpa.internal.operations.JpaBulkInsert;
 import com.holonplatform.datastore.jpa.internal.operations.JpaBulkUpdate;
@@ -88,6 +97,9 @@ import com.holonplatform.datastore.jpa.internal.resolvers.projection.PropertySet
 import com.holonplatform.datastore.jpa.internal.resolvers.projection.QueryProjectionResolver;
 import com.holonplatform.datastore.jpa.internal.resolvers.projection.SelectAllProjectionResolver;
 import com.holonplatform.datastore.jpa.internal.resolvers.projection.TypedExpressionProjectionResolver;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
+import com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueSerializer;
 import com.holonplatform.datastore.jpa.tx.JpaTransaction;
@@ -103,7 +115,7 @@ import com.holonplatform.datastore.jpa.tx.JpaTransactionFactory;
  * @since 5.0.0
  */
 public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatastoreCommodityContext>
-		implements JpaDatastore, JpaDatastoreCommodityContext {
+		implements JpaDatastore, JpaDatastoreCommodityContext, ExpressionResolverSnapshot.Provider {
 
 	private static final long serialVersionUID = -8695844962665825169L;
 
@@ -112,16 +124,6 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 	 */
 	protected final static Logger LOGGER = JpaDatastoreLogger.create();
 
-	/**
-	 * Current operation EntityManager
-	 */
-	private static final ThreadLocal<EntityManager> CURRENT_ENTITY_MANAGER = new ThreadLocal<>();
-
-	/**
-	 * Current local transaction
-	 */
-	private static final ThreadLocal<JpaTransaction> CURRENT_TRANSACTION = new ThreadLocal<>();
-
 	/**
 	 * Datastore EntityManagerFactory
 	 */
@@ -157,6 +159,61 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 	 */
 	private boolean autoFlush = false;
 
+	/**
+	 * Query plan cache
+	 */
+	private transient JPQLQueryPlanCache queryPlanCache;
+
+	/**
+	 * Statement statistics
+	 */
+	private transient JPQLStatementStatistics statementStatistics;
+
+	/**
+	 * Collection parameter mode
+	 */
+	private JPQLCollectionParameterMode collectionParameterMode = JPQLCollectionParameterMode.EXPAND;
+
+	/**
+	 * IN filter chunk size
+	 */
+	private int inFilterChunkSize = 0;
+
+	/**
+	 * Scalar select all mode
+	 */
+	private boolean scalarSelectAll = false;
+
+	/**
+	 * Read-only queries mode
+	 */
+	private boolean readOnlyQueries = false;
+
+	/**
+	 * Default query fetch size
+	 */
+	private int fetchSize = 0;
+
+	/**
+	 * Default query timeout
+	 */
+	private int queryTimeout = 0;
+
+	/**
+	 * Current EntityManager and transaction holder
+	 */
+	private transient JpaContextHolder contextHolder = JpaContextHolder.getDefault();
+
+	/**
+	 * Operation metrics hook
+	 */
+	private transient JpaOperationMetrics operationMetrics;
+
+	/**
+	 * Shared expression resolvers snapshot, lazily created
+	 */
+	private transient volatile ExpressionResolverSnapshot expressionResolverSnapshot;
+
 	/**
 	 * Constructor.
 	 */
@@ -212,8 +269,10 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 		registerCommodity(JpaInsert.FACTORY);
 		registerCommodity(JpaUpdate.FACTORY);
 		registerCommodity(JpaSave.FACTORY);
+		registerCommodity(DefaultJpaBulkSave.FACTORY);
 		registerCommodity(JpaDelete.FACTORY);
 		registerCommodity(JpaBulkInsert.FACTORY);
+		registerCommodity(DefaultJpaStreamingBulkInsert.FACTORY);
 		registerCommodity(JpaBulkUpdate.FACTORY);
 		registerCommodity(JpaBulkDelete.FACTORY);
 		registerCommodity(JpaQuery.FACTORY);
@@ -253,6 +312,14 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 			throw new IllegalStateException("Failed to initialize dialect [" + dialect.getClass().getName() + "]", e);
 		}
 
+		// entity metadata
+		try {
+			final int entities = EntityTargetCache.warmUp(getEntityManagerFactory());
+			LOGGER.debug(() -> "Registered metadata of [" + entities + "] JPA entities");
+		} catch (Exception e) {
+			LOGGER.warn("Failed to register the JPA entities metadata, it will be resolved on demand", e);
+		}
+
 		// default factories and resolvers
 		loadExpressionResolvers(classLoader);
 		loadCommodityFactories(classLoader);
@@ -312,6 +379,235 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 		this.autoFlush = autoFlush;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaDatastore#getQueryPlanCache()
+	 */
+	@Override
+	public Optional<JPQLQueryPlanCache> getQueryPlanCache() {
+		return Optional.ofNullable(queryPlanCache);
+	}
+
+	/**
+	 * Set the maximum number of query resolution plans to cache.
+	 * @param maxSize The maximum number of cached plans, a value <code>&lt;= 0</code> disables the cache
+	 */
+	public void setQueryPlanCacheSize(int maxSize) {
+		this.queryPlanCache = (maxSize > 0) ? JPQLQueryPlanCache.create(maxSize) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaDatastore#getStatementStatistics()
+	 */
+	@Override
+	public Optional<JPQLStatementStatistics> getStatementStatistics() {
+		return Optional.ofNullable(statementStatistics);
+	}
+
+	/**
+	 * Set the {@link JPQLStatementStatistics} to use to collect the JPQL statements execution statistics.
+	 * @param statementStatistics The statement statistics, <code>null</code> to disable the statement statistics
+	 */
+	public void setStatementStatistics(JPQLStatementStatistics statementStatistics) {
+		this.statementStatistics = statementStatistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getCollectionParameterMode()
+	 */
+	@Override
+	public JPQLCollectionParameterMode getCollectionParameterMode() {
+		return collectionParameterMode;
+	}
+
+	/**
+	 * Set the {@link JPQLCollectionParameterMode} to use to bind the collection values as JPQL statement parameters.
+	 * @param collectionParameterMode The collection parameter mode, <code>null</code> to use the default
+	 *        {@link JPQLCollectionParameterMode#EXPAND} mode
+	 */
+	public void setCollectionParameterMode(JPQLCollectionParameterMode collectionParameterMode) {
+		this.collectionParameterMode = (collectionParameterMode != null) ? collectionParameterMode
+				: JPQLCollectionParameterMode.EXPAND;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaOperationContext#getInFilterChunkSize()
+	 */
+	@Override
+	public int getInFilterChunkSize() {
+		return inFilterChunkSize;
+	}
+
+	/**
+	 * Set the maximum number of values of a <code>IN</code> query filter, above which the query is split into
+	 * sub-queries.
+	 * @param inFilterChunkSize The <code>IN</code> filter chunk size, a value <code>&lt;= 0</code> disables the
+	 *        <code>IN</code> filters chunking
+	 */
+	public void setInFilterChunkSize(int inFilterChunkSize) {
+		this.inFilterChunkSize = (inFilterChunkSize > 0) ? inFilterChunkSize : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#isScalarSelectAll()
+	 */
+	@Override
+	public boolean isScalarSelectAll() {
+		return scalarSelectAll;
+	}
+
+	/**
+	 * Set whether to resolve the select all query projections as a list of scalar entity attributes by default.
+	 * @param scalarSelectAll <code>true</code> to enable the scalar select all mode by default
+	 */
+	public void setScalarSelectAll(boolean scalarSelectAll) {
+		this.scalarSelectAll = scalarSelectAll;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#isReadOnlyQueries()
+	 */
+	@Override
+	public boolean isReadOnlyQueries() {
+		return readOnlyQueries;
+	}
+
+	/**
+	 * Set whether to execute the queries in read-only mode by default.
+	 * @param readOnlyQueries <code>true</code> to execute the queries in read-only mode by default
+	 */
+	public void setReadOnlyQueries(boolean readOnlyQueries) {
+		this.readOnlyQueries = readOnlyQueries;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getFetchSize()
+	 */
+	@Override
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Set the default JDBC fetch size of the queries.
+	 * @param fetchSize The default fetch size, a value <code>&lt;= 0</code> to use the JDBC driver default
+	 */
+	public void setFetchSize(int fetchSize) {
+		this.fetchSize = (fetchSize > 0) ? fetchSize : 0;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getQueryTimeout()
+	 */
+	@Override
+	public int getQueryTimeout() {
+		return queryTimeout;
+	}
+
+	/**
+	 * Set the default timeout of the queries, in milliseconds.
+	 * @param queryTimeout The default query timeout, a value <code>&lt;= 0</code> to disable the query timeout
+	 */
+	public void setQueryTimeout(int queryTimeout) {
+		this.queryTimeout = (queryTimeout > 0) ? queryTimeout : 0;
+	}
+
+	/**
+	 * Get the holder of the current {@link EntityManager} and transaction.
+	 * @return the context holder
+	 */
+	protected JpaContextHolder getContextHolder() {
+		return contextHolder;
+	}
+
+	/**
+	 * Set the holder to use to bind the current {@link EntityManager} and transaction to the execution context.
+	 * @param contextHolder The context holder, <code>null</code> to use the default thread bound holder
+	 */
+	public void setContextHolder(JpaContextHolder contextHolder) {
+		this.contextHolder = (contextHolder != null) ? contextHolder : JpaContextHolder.getDefault();
+	}
+
+	/**
+	 * Restore the default context holder, which is not serialized.
+	 * @param in The object input stream
+	 * @throws IOException If an I/O error occurs
+	 * @throws ClassNotFoundException If the class of a serialized object cannot be found
+	 */
+	private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+		in.defaultReadObject();
+		this.contextHolder = JpaContextHolder.getDefault();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaOperationContext#getOperationMetrics()
+	 */
+	@Override
+	public Optional<JpaOperationMetrics> getOperationMetrics() {
+		return Optional.ofNullable(operationMetrics);
+	}
+
+	/**
+	 * Set the {@link JpaOperationMetrics} hook to use to record the operations metrics.
+	 * @param operationMetrics The operation metrics hook, <code>null</code> to disable the operations metrics
+	 */
+	public void setOperationMetrics(JpaOperationMetrics operationMetrics) {
+		this.operationMetrics = operationMetrics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.internal.jpql.context.ExpressionResolverSnapshot.Provider#
+	 * getExpressionResolverSnapshot()
+	 */
+	@Override
+	public ExpressionResolverSnapshot getExpressionResolverSnapshot() {
+		ExpressionResolverSnapshot snapshot = expressionResolverSnapshot;
+		if (snapshot == null) {
+			snapshot = ExpressionResolverSnapshot.create(getExpressionResolvers());
+			expressionResolverSnapshot = snapshot;
+		}
+		return snapshot;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.core.internal.datastore.AbstractDatastore#addExpressionResolver(com.holonplatform.core.
+	 * ExpressionResolver)
+	 */
+	@Override
+	public <E extends Expression, R extends Expression> void addExpressionResolver(
+			ExpressionResolver<E, R> expressionResolver) {
+		super.addExpressionResolver(expressionResolver);
+		expressionResolverSnapshot = null;
+		// the cached plans may be no longer valid
+		getQueryPlanCache().ifPresent(c -> c.clear());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see
+	 * com.holonplatform.core.internal.datastore.AbstractDatastore#removeExpressionResolver(com.holonplatform.core.
+	 * ExpressionResolver)
+	 */
+	@Override
+	public <E extends Expression, R extends Expression> void removeExpressionResolver(
+			ExpressionResolver<E, R> expressionResolver) {
+		super.removeExpressionResolver(expressionResolver);
+		expressionResolverSnapshot = null;
+		// the cached plans may be no longer valid
+		getQueryPlanCache().ifPresent(c -> c.clear());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getDialect()
@@ -479,7 +775,7 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 		try {
 
 			// check current
-			final EntityManager current = CURRENT_ENTITY_MANAGER.get();
+			final EntityManager current = contextHolder.getEntityManager().orElse(null);
 			if (current != null) {
 				return operation.execute(current);
 			}
@@ -490,9 +786,9 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 				return operation.execute(txem);
 			}
 
-			// get an EntityManager from handler
-			CURRENT_ENTITY_MANAGER.set(entityManager = obtainEntityManager());
-			return operation.execute(entityManager);
+			// get an EntityManager from handler and bind it to the operation scope
+			final EntityManager em = entityManager = obtainEntityManager();
+			return contextHolder.callWithEntityManager(em, () -> operation.execute(em));
 
 		} catch (DataAccessException e) {
 			throw e;
@@ -503,12 +799,51 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 			if (entityManager != null) {
 				// finalize EntityManager
 				finalizeEntityManager(entityManager);
-				// remove current
-				CURRENT_ENTITY_MANAGER.remove();
 			}
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.EntityManagerHandler#streamWithEntityManager(com.holonplatform.
+	 * datastore.jpa.context.EntityManagerOperation)
+	 */
+	@Override
+	public <R> Stream<R> streamWithEntityManager(EntityManagerOperation<Stream<R>> operation) {
+		checkInitialized();
+		ObjectUtils.argumentNotNull(operation, "Operation must be not null");
+
+		// check current or transaction EntityManager: the lifecycle is not bound to the stream
+		if (contextHolder.getEntityManager().isPresent() || getCurrentTransactionEntityManager().isPresent()) {
+			return withEntityManager(operation);
+		}
+
+		// get an EntityManager from handler and bind its finalization to the stream close
+		final EntityManager entityManager = obtainEntityManager();
+		final AtomicBoolean finalized = new AtomicBoolean(false);
+		final Runnable finalizer = () -> {
+			if (finalized.compareAndSet(false, true)) {
+				finalizeEntityManager(entityManager);
+			}
+		};
+
+		try {
+			final Stream<R> stream = contextHolder.callWithEntityManager(entityManager,
+					() -> operation.execute(entityManager));
+			if (stream == null) {
+				finalizer.run();
+				return null;
+			}
+			return stream.onClose(finalizer);
+		} catch (DataAccessException e) {
+			finalizer.run();
+			throw e;
+		} catch (Exception e) {
+			finalizer.run();
+			throw new DataAccessException("Failed to execute operation", e);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
@@ -527,7 +862,10 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 				.orElseGet(() -> startTransaction(transactionConfiguration));
 
 		try {
-			// execute operation
+			// execute operation, binding a new transaction to the operation scope
+			if (tx.isNew()) {
+				return contextHolder.callWithTransaction(tx, () -> operation.execute(tx));
+			}
 			return operation.execute(tx);
 		} catch (Exception e) {
 			// check rollback transaction
@@ -564,37 +902,27 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 	 * Get the current transaction, if active.
 	 * @return Optional current transaction
 	 */
-	private static Optional<JpaTransaction> getCurrentTransaction() {
-		return Optional.ofNullable(CURRENT_TRANSACTION.get());
+	private Optional<JpaTransaction> getCurrentTransaction() {
+		return contextHolder.getTransaction();
 	}
 
 	/**
 	 * Get the {@link EntityManager} bound to the current transaction, if available.
 	 * @return Optional {@link EntityManager} bound to the current transaction
 	 */
-	private static Optional<EntityManager> getCurrentTransactionEntityManager() {
+	private Optional<EntityManager> getCurrentTransactionEntityManager() {
 		return getCurrentTransaction().map(tx -> tx.getEntityManager());
 	}
 
 	/**
-	 * Starts a {@link JpaTransaction}. If a local transaction is active, it will be forcedly finalized.
+	 * Starts a {@link JpaTransaction}. The transaction is bound to the current execution context only during the
+	 * transactional operation execution.
 	 * @param configuration Transaction configuration. If <code>null</code>, a default configuration
 	 *        will be used
 	 * @return A new transaction
 	 */
 	private JpaTransaction startTransaction(TransactionConfiguration configuration) throws TransactionException {
 
-		// check if a current transaction is present
-		getCurrentTransaction().ifPresent(tx -> {
-			LOGGER.warn("A thread bound transaction was already present [" + tx
-					+ "] - The current transaction will be finalized");
-			try {
-				endTransaction(tx);
-			} catch (Exception e) {
-				LOGGER.warn("Failed to force current transaction finalization", e);
-			}
-		});
-
 		// configuration
 		final TransactionConfiguration cfg = (configuration != null) ? configuration
 				: TransactionConfiguration.getDefault();
@@ -621,10 +949,7 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 			throw e;
 		}
 
-		// set as current transaction
-		CURRENT_TRANSACTION.set(tx);
-
-		LOGGER.debug(() -> "JPA transaction [" + tx + "] created and setted as current transaction");
+		LOGGER.debug(() -> "JPA transaction [" + tx + "] created");
 
 		// return the transaction
 		return tx;
@@ -645,9 +970,6 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 			return false;
 		}
 
-		// remove reference
-		getCurrentTransaction().filter(current -> current == tx).ifPresent(current -> CURRENT_TRANSACTION.remove());
-
 		try {
 			if (tx.isActive()) {
 				tx.end();
@@ -906,6 +1228,115 @@ public class DefaultJpaDatastore extends AbstractInitializableDatastore<JpaDatas
 			return this;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#queryPlanCacheSize(int)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> queryPlanCacheSize(int maxSize) {
+			datastore.setQueryPlanCacheSize(maxSize);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#statementStatistics(int, long)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> statementStatistics(int maxStatements, long slowStatementThreshold) {
+			datastore.setStatementStatistics((maxStatements > 0)
+					? JPQLStatementStatistics.create(maxStatements, slowStatementThreshold)
+					: null);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#collectionParameterMode(com.holonplatform.
+		 * datastore.jpa.jpql.JPQLCollectionParameterMode)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> collectionParameterMode(JPQLCollectionParameterMode collectionParameterMode) {
+			ObjectUtils.argumentNotNull(collectionParameterMode, "Collection parameter mode must be not null");
+			datastore.setCollectionParameterMode(collectionParameterMode);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#inFilterChunkSize(int)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> inFilterChunkSize(int chunkSize) {
+			datastore.setInFilterChunkSize(chunkSize);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#scalarSelectAll(boolean)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> scalarSelectAll(boolean scalarSelectAll) {
+			datastore.setScalarSelectAll(scalarSelectAll);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#readOnlyQueries(boolean)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> readOnlyQueries(boolean readOnlyQueries) {
+			datastore.setReadOnlyQueries(readOnlyQueries);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#fetchSize(int)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> fetchSize(int fetchSize) {
+			datastore.setFetchSize(fetchSize);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#queryTimeout(int)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> queryTimeout(int queryTimeout) {
+			datastore.setQueryTimeout(queryTimeout);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaDatastore.Builder#contextHolder(com.holonplatform.datastore.jpa.
+		 * context.JpaContextHolder)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> contextHolder(JpaContextHolder contextHolder) {
+			ObjectUtils.argumentNotNull(contextHolder, "Context holder must be not null");
+			datastore.setContextHolder(contextHolder);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see
+		 * com.holonplatform.datastore.jpa.JpaDatastore.Builder#operationMetrics(com.holonplatform.datastore.jpa.
+		 * JpaOperationMetrics)
+		 */
+		@Override
+		public JpaDatastore.Builder<D> operationMetrics(JpaOperationMetrics operationMetrics) {
+			ObjectUtils.argumentNotNull(operationMetrics, "JpaOperationMetrics must be not null");
+			datastore.setOperationMetrics(operationMetrics);
+			return this;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see
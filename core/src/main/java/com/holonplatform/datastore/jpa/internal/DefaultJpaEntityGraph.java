@@ -0,0 +1,102 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.JpaEntityGraph;
+
+/**
+ * Default {@link JpaEntityGraph} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaEntityGraph implements JpaEntityGraph {
+
+	private static final long serialVersionUID = 4190873541218815361L;
+
+	private final Type type;
+
+	private final String name;
+
+	@SuppressWarnings("serial")
+	private final List<String> attributePaths;
+
+	/**
+	 * Constructor
+	 * @param type Entity graph type (not null)
+	 * @param name Named entity graph name, <code>null</code> if the attribute paths are used
+	 * @param attributePaths Attribute paths, ignored if a name is provided
+	 */
+	public DefaultJpaEntityGraph(Type type, String name, List<String> attributePaths) {
+		super();
+		ObjectUtils.argumentNotNull(type, "Entity graph type must be not null");
+		if (name == null) {
+			ObjectUtils.argumentNotNull(attributePaths, "Attribute paths must be not null");
+			for (String path : attributePaths) {
+				if (path == null || path.trim().isEmpty()) {
+					throw new IllegalArgumentException("Entity graph attribute paths must be not null or blank");
+				}
+			}
+		}
+		this.type = type;
+		this.name = name;
+		this.attributePaths = (name != null) ? Collections.emptyList()
+				: Collections.unmodifiableList(new ArrayList<>(attributePaths));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaEntityGraph#getType()
+	 */
+	@Override
+	public Type getType() {
+		return type;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaEntityGraph#getName()
+	 */
+	@Override
+	public Optional<String> getName() {
+		return Optional.ofNullable(name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaEntityGraph#getAttributePaths()
+	 */
+	@Override
+	public List<String> getAttributePaths() {
+		return attributePaths;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JpaEntityGraph [type=" + type + ", " + ((name != null) ? "name=" + name : "paths=" + attributePaths)
+				+ "]";
+	}
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.util.Optional;
+
+import com.holonplatform.core.internal.DefaultPath;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.datastore.jpa.JpaFetchJoin;
+
+/**
+ * Default {@link JpaFetchJoin} implementation.
+ *
+ * @param <T> Association type
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaFetchJoin<T> extends DefaultPath<T> implements JpaFetchJoin<T> {
+
+	private static final long serialVersionUID = -6402738193614092315L;
+
+	private final JoinType joinType;
+
+	/**
+	 * Constructor
+	 * @param attribute Association attribute path (not null)
+	 * @param type Association type (not null)
+	 * @param joinType Join type, either {@link JoinType#INNER} or {@link JoinType#LEFT} (not null)
+	 */
+	public DefaultJpaFetchJoin(String attribute, Class<? extends T> type, JoinType joinType) {
+		super(attribute, type);
+		ObjectUtils.argumentNotNull(joinType, "Join type must be not null");
+		if (attribute.trim().isEmpty()) {
+			throw new IllegalArgumentException("Fetch join attribute must be not blank");
+		}
+		if (joinType != JoinType.INNER && joinType != JoinType.LEFT) {
+			throw new IllegalArgumentException("Unsupported fetch join type [" + joinType + "]");
+		}
+		this.joinType = joinType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.relational.Join#getJoinType()
+	 */
+	@Override
+	public JoinType getJoinType() {
+		return joinType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.relational.Join#getOn()
+	 */
+	@Override
+	public Optional<QueryFilter> getOn() {
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.relational.Aliasable#getAlias()
+	 */
+	@Override
+	public Optional<String> getAlias() {
+		return Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.datastore.relational.Aliasable#alias(java.lang.String)
+	 */
+	@Override
+	public JpaFetchJoin<T> alias(String alias) {
+		throw new UnsupportedOperationException("A fetch join cannot declare an alias");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.internal.DefaultPath#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JpaFetchJoin [attribute=" + getName() + ", joinType=" + joinType + "]";
+	}
+
+}
@@ -0,0 +1,378 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.TypedExpression;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.utils.ConversionUtils;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.core.query.QuerySort.CompositeQuerySort;
+import com.holonplatform.core.query.QuerySort.PathQuerySort;
+import com.holonplatform.core.query.QuerySort.SortDirection;
+import com.holonplatform.datastore.jpa.JpaKeysetPagination;
+
+/**
+ * Default {@link JpaKeysetPagination} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaKeysetPagination implements JpaKeysetPagination {
+
+	private static final char SEPARATOR = ':';
+
+	private final QuerySort sort;
+
+	private final int pageSize;
+
+	private final List<Key<?>> keys;
+
+	private final String signature;
+
+	/**
+	 * Constructor.
+	 * @param sort The pagination sort (not null)
+	 * @param pageSize The page size (must be greater than 0)
+	 */
+	public DefaultJpaKeysetPagination(QuerySort sort, int pageSize) {
+		super();
+		ObjectUtils.argumentNotNull(sort, "Sort must be not null");
+		if (pageSize < 1) {
+			throw new IllegalArgumentException("The page size must be greater than 0");
+		}
+		this.sort = sort;
+		this.pageSize = pageSize;
+		this.keys = new ArrayList<>();
+		addKeys(sort, keys);
+		final StringBuilder sb = new StringBuilder();
+		for (Key<?> key : keys) {
+			sb.append(key.property.getName());
+			sb.append(key.ascending ? "+" : "-");
+		}
+		this.signature = Integer.toHexString(sb.toString().hashCode());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaKeysetPagination#getSort()
+	 */
+	@Override
+	public QuerySort getSort() {
+		return sort;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaKeysetPagination#getPageSize()
+	 */
+	@Override
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaKeysetPagination#fetch(com.holonplatform.core.query.Query,
+	 * java.lang.String, java.lang.Iterable)
+	 */
+	@Override
+	public <P extends Property<?>> Page<PropertyBox> fetch(Query query, String continuationToken,
+			Iterable<P> properties) {
+		ObjectUtils.argumentNotNull(query, "Query must be not null");
+		ObjectUtils.argumentNotNull(properties, "Projection properties must be not null");
+
+		final PropertySet<?> propertySet = PropertySet.of(properties);
+		for (Key<?> key : keys) {
+			if (!propertySet.contains(key.property)) {
+				throw new IllegalArgumentException("The sort property [" + key.property
+						+ "] must be included in the keyset pagination projection properties");
+			}
+		}
+
+		query.sort(sort);
+		getRestriction(continuationToken).ifPresent(query::filter);
+		// fetch an additional row to check whether a next page is available
+		query.limit(pageSize + 1);
+
+		final List<PropertyBox> rows = query.list(propertySet);
+		if (rows.size() > pageSize) {
+			final List<PropertyBox> results = new ArrayList<>(rows.subList(0, pageSize));
+			return new DefaultPage<>(results, getContinuationToken(results.get(pageSize - 1)));
+		}
+		return new DefaultPage<>(rows, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaKeysetPagination#getRestriction(java.lang.String)
+	 */
+	@Override
+	public Optional<QueryFilter> getRestriction(String continuationToken) {
+		if (continuationToken == null) {
+			return Optional.empty();
+		}
+		final List<Object> values = decode(continuationToken);
+
+		// (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...
+		final List<QueryFilter> restrictions = new ArrayList<>(keys.size());
+		for (int i = 0; i < keys.size(); i++) {
+			final List<QueryFilter> conjunction = new ArrayList<>(i + 1);
+			for (int j = 0; j < i; j++) {
+				conjunction.add(keys.get(j).eq(values.get(j)));
+			}
+			conjunction.add(keys.get(i).after(values.get(i), false));
+			restrictions.add(QueryFilter.allOf(conjunction).orElse(null));
+		}
+		final QueryFilter restriction = QueryFilter.anyOf(restrictions).orElse(null);
+		if (keys.size() > 1) {
+			// leading key range restriction, to allow the use of an index on the first sort key
+			return QueryFilter.allOf(keys.get(0).after(values.get(0), true), restriction);
+		}
+		return Optional.ofNullable(restriction);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaKeysetPagination#getContinuationToken(com.holonplatform.core.property.
+	 * PropertyBox)
+	 */
+	@Override
+	public String getContinuationToken(PropertyBox row) {
+		ObjectUtils.argumentNotNull(row, "Row must be not null");
+		final StringBuilder sb = new StringBuilder(signature);
+		for (Key<?> key : keys) {
+			final Object value = row.getValue(key.property);
+			if (value == null) {
+				throw new DataAccessException(
+						"Keyset pagination requires not null sort values: the value of the sort property ["
+								+ key.property + "] is null");
+			}
+			final String serialized = key.serialize(value);
+			sb.append(SEPARATOR).append(serialized.length()).append(SEPARATOR).append(serialized);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decode the sort values from given continuation token.
+	 * @param continuationToken The continuation token
+	 * @return The sort values
+	 */
+	private List<Object> decode(String continuationToken) {
+		try {
+			final String token = new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+			int index = token.indexOf(SEPARATOR);
+			if (index < 0 || !signature.equals(token.substring(0, index))) {
+				throw new IllegalArgumentException(
+						"The continuation token [" + continuationToken + "] was not issued for the pagination sort");
+			}
+			final List<Object> values = new ArrayList<>(keys.size());
+			for (Key<?> key : keys) {
+				final int separator = token.indexOf(SEPARATOR, index + 1);
+				final int start = separator + 1;
+				final int end = start + Integer.parseInt(token.substring(index + 1, separator));
+				values.add(key.deserialize(token.substring(start, end)));
+				index = end;
+			}
+			if (index != token.length()) {
+				throw new IllegalArgumentException("Invalid continuation token [" + continuationToken + "]");
+			}
+			return values;
+		} catch (IllegalArgumentException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid continuation token [" + continuationToken + "]", e);
+		}
+	}
+
+	/**
+	 * Flatten given sort into the pagination keys.
+	 * @param sort The sort
+	 * @param keys The keys list
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private static void addKeys(QuerySort sort, List<Key<?>> keys) {
+		if (sort instanceof CompositeQuerySort) {
+			((CompositeQuerySort) sort).getComposition().forEach(s -> addKeys(s, keys));
+		} else if (sort instanceof PathQuerySort) {
+			final Object path = ((PathQuerySort<?>) sort).getPath();
+			if (!(path instanceof Property) || !(path instanceof TypedExpression)) {
+				throw new IllegalArgumentException("The keyset pagination sort path [" + path
+						+ "] must be a property which is also a query expression");
+			}
+			keys.add(new Key((Property) path, ((PathQuerySort<?>) sort).getDirection() != SortDirection.DESCENDING));
+		} else {
+			throw new IllegalArgumentException("Unsupported keyset pagination sort: [" + sort + "]");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JpaKeysetPagination [sort=" + sort + ", pageSize=" + pageSize + "]";
+	}
+
+	/**
+	 * A pagination key.
+	 * @param <T> Key type
+	 */
+	private static final class Key<T> {
+
+		final Property<T> property;
+
+		final boolean ascending;
+
+		Key(Property<T> property, boolean ascending) {
+			super();
+			this.property = property;
+			this.ascending = ascending;
+			if (!isSupported(TypeUtils.box(property.getType()))) {
+				throw new IllegalArgumentException("Unsupported keyset pagination sort property type: ["
+						+ property.getType().getName() + "]");
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		QueryFilter eq(Object value) {
+			return QueryFilter.eq((TypedExpression<T>) property, (T) value);
+		}
+
+		@SuppressWarnings("unchecked")
+		QueryFilter after(Object value, boolean inclusive) {
+			if (ascending) {
+				return QueryFilter.greaterThan((TypedExpression<T>) property, (T) value, inclusive);
+			}
+			return QueryFilter.lessThan((TypedExpression<T>) property, (T) value, inclusive);
+		}
+
+		String serialize(Object value) {
+			if (value instanceof Enum) {
+				return ((Enum<?>) value).name();
+			}
+			if (value instanceof Date) {
+				return String.valueOf(((Date) value).getTime());
+			}
+			return value.toString();
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		Object deserialize(String value) {
+			final Class<?> type = TypeUtils.box(property.getType());
+			if (String.class == type) {
+				return value;
+			}
+			if (Enum.class.isAssignableFrom(type)) {
+				return Enum.valueOf((Class<Enum>) type, value);
+			}
+			if (Date.class == type) {
+				return new Date(Long.parseLong(value));
+			}
+			if (LocalDate.class == type) {
+				return LocalDate.parse(value);
+			}
+			if (LocalDateTime.class == type) {
+				return LocalDateTime.parse(value);
+			}
+			if (LocalTime.class == type) {
+				return LocalTime.parse(value);
+			}
+			if (OffsetDateTime.class == type) {
+				return OffsetDateTime.parse(value);
+			}
+			if (OffsetTime.class == type) {
+				return OffsetTime.parse(value);
+			}
+			if (Instant.class == type) {
+				return Instant.parse(value);
+			}
+			if (Number.class.isAssignableFrom(type)) {
+				return ConversionUtils.parseNumber(value, (Class<Number>) type);
+			}
+			if (Boolean.class == type) {
+				return Boolean.valueOf(value);
+			}
+			if (Character.class == type && value.length() == 1) {
+				return value.charAt(0);
+			}
+			throw new IllegalArgumentException("Cannot decode the value [" + value + "] as [" + type + "]");
+		}
+
+		private static boolean isSupported(Class<?> type) {
+			return String.class == type || Enum.class.isAssignableFrom(type) || Date.class == type
+					|| LocalDate.class == type || LocalDateTime.class == type || LocalTime.class == type
+					|| OffsetDateTime.class == type || OffsetTime.class == type || Instant.class == type
+					|| Number.class.isAssignableFrom(type) || Boolean.class == type || Character.class == type;
+		}
+
+	}
+
+	/**
+	 * Default {@link Page} implementation.
+	 * @param <R> Results type
+	 */
+	private static final class DefaultPage<R> implements Page<R> {
+
+		private final List<R> results;
+
+		private final String continuationToken;
+
+		DefaultPage(List<R> results, String continuationToken) {
+			super();
+			this.results = Collections.unmodifiableList(results);
+			this.continuationToken = continuationToken;
+		}
+
+		@Override
+		public List<R> getResults() {
+			return results;
+		}
+
+		@Override
+		public Optional<String> getContinuationToken() {
+			return Optional.ofNullable(continuationToken);
+		}
+
+		@Override
+		public String toString() {
+			return "Page [results=" + results.size() + ", continuationToken=" + continuationToken + "]";
+		}
+
+	}
+
+}
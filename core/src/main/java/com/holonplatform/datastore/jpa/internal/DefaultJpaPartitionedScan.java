@@ -0,0 +1,423 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.core.query.QueryExpression;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryProjection;
+import com.holonplatform.datastore.jpa.JpaPartitionedScan;
+
+/**
+ * Default {@link JpaPartitionedScan} implementation.
+ * <p>
+ * The partition expression values are mapped to a {@link BigDecimal} ordinal to compute the partition bounds. Since
+ * the partitions are defined by the bounds only, the bounds precision affects the partitions size but not the
+ * partitions completeness.
+ * </p>
+ *
+ * @param <T> Partition expression type
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaPartitionedScan<T> implements JpaPartitionedScan<T> {
+
+	/**
+	 * Merged results buffer size for each partition
+	 */
+	private static final int PARTITION_BUFFER_SIZE = 256;
+
+	/**
+	 * Default partition threads factory
+	 */
+	private static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("jpa-partitioned-scan-", 1)
+			.factory();
+
+	private final QueryExpression<T> partitionExpression;
+
+	private final int partitions;
+
+	private final Executor executor;
+
+	private final Function<T, BigDecimal> toOrdinal;
+
+	private final Function<BigDecimal, T> fromOrdinal;
+
+	/**
+	 * Constructor.
+	 * @param partitionExpression The partition expression (not null)
+	 * @param partitions The maximum number of partitions (must be greater than 0)
+	 * @param executor The executor to use, <code>null</code> to use a new virtual thread for each partition
+	 */
+	@SuppressWarnings("unchecked")
+	public DefaultJpaPartitionedScan(QueryExpression<T> partitionExpression, int partitions, Executor executor) {
+		super();
+		ObjectUtils.argumentNotNull(partitionExpression, "Partition expression must be not null");
+		ObjectUtils.argumentNotNull(partitionExpression.getType(), "Partition expression type must be not null");
+		if (partitions < 1) {
+			throw new IllegalArgumentException("The number of partitions must be greater than 0");
+		}
+		this.partitionExpression = partitionExpression;
+		this.partitions = partitions;
+		this.executor = (executor != null) ? executor : runnable -> VIRTUAL_THREADS.newThread(runnable).start();
+
+		final Class<T> type = (Class<T>) TypeUtils.box(partitionExpression.getType());
+		if (Long.class == type || Integer.class == type || Short.class == type || Byte.class == type
+				|| BigInteger.class == type) {
+			this.toOrdinal = v -> new BigDecimal(v.toString());
+			this.fromOrdinal = o -> type.cast(fromIntegral(type, o.setScale(0, RoundingMode.FLOOR)));
+		} else if (Double.class == type || Float.class == type || BigDecimal.class == type) {
+			this.toOrdinal = v -> new BigDecimal(v.toString());
+			this.fromOrdinal = o -> type.cast((BigDecimal.class == type) ? o
+					: (Double.class == type) ? Double.valueOf(o.doubleValue()) : Float.valueOf(o.floatValue()));
+		} else if (Date.class == type) {
+			this.toOrdinal = v -> BigDecimal.valueOf(((Date) v).getTime());
+			this.fromOrdinal = o -> type.cast(new Date(o.longValue()));
+		} else if (Instant.class == type) {
+			this.toOrdinal = v -> BigDecimal.valueOf(((Instant) v).toEpochMilli());
+			this.fromOrdinal = o -> type.cast(Instant.ofEpochMilli(o.longValue()));
+		} else if (LocalDate.class == type) {
+			this.toOrdinal = v -> BigDecimal.valueOf(((LocalDate) v).toEpochDay());
+			this.fromOrdinal = o -> type.cast(LocalDate.ofEpochDay(o.setScale(0, RoundingMode.FLOOR).longValue()));
+		} else if (LocalDateTime.class == type) {
+			this.toOrdinal = v -> BigDecimal.valueOf(((LocalDateTime) v).toInstant(ZoneOffset.UTC).toEpochMilli());
+			this.fromOrdinal = o -> type
+					.cast(LocalDateTime.ofInstant(Instant.ofEpochMilli(o.longValue()), ZoneOffset.UTC));
+		} else {
+			throw new IllegalArgumentException(
+					"Unsupported partition expression type [" + type.getName() + "]: a numeric or temporal type is "
+							+ "required");
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaPartitionedScan#getPartitionExpression()
+	 */
+	@Override
+	public QueryExpression<T> getPartitionExpression() {
+		return partitionExpression;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaPartitionedScan#getPartitions()
+	 */
+	@Override
+	public int getPartitions() {
+		return partitions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaPartitionedScan#stream(java.util.function.Supplier,
+	 * com.holonplatform.core.query.QueryProjection)
+	 */
+	@Override
+	public <R> Stream<R> stream(Supplier<? extends Query> query, QueryProjection<R> projection) {
+		ObjectUtils.argumentNotNull(query, "Query supplier must be not null");
+		ObjectUtils.argumentNotNull(projection, "Query projection must be not null");
+
+		final List<Optional<QueryFilter>> filters = getPartitionFilters(query);
+		final MergedResults<R> results = new MergedResults<>(filters.size());
+		for (Optional<QueryFilter> filter : filters) {
+			try {
+				executor.execute(() -> {
+					try (Stream<R> stream = partitionQuery(query, filter).stream(projection)) {
+						final Iterator<R> iterator = stream.iterator();
+						while (iterator.hasNext() && results.offer(iterator.next())) {
+							// next
+						}
+						results.offer(MergedResults.END);
+					} catch (Throwable e) {
+						results.offer(new PartitionFailure(e));
+					}
+				});
+			} catch (RuntimeException e) {
+				results.close();
+				throw new DataAccessException("Failed to execute the partition query", e);
+			}
+		}
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, 0), false).onClose(results::close);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaPartitionedScan#forEachPartition(java.util.function.Supplier,
+	 * com.holonplatform.core.query.QueryProjection,
+	 * com.holonplatform.datastore.jpa.JpaPartitionedScan.PartitionConsumer)
+	 */
+	@Override
+	public <R> void forEachPartition(Supplier<? extends Query> query, QueryProjection<R> projection,
+			PartitionConsumer<R> consumer) {
+		ObjectUtils.argumentNotNull(query, "Query supplier must be not null");
+		ObjectUtils.argumentNotNull(projection, "Query projection must be not null");
+		ObjectUtils.argumentNotNull(consumer, "Partition consumer must be not null");
+
+		final List<Optional<QueryFilter>> filters = getPartitionFilters(query);
+		final List<CompletableFuture<Void>> tasks = new ArrayList<>(filters.size());
+		for (int i = 0; i < filters.size(); i++) {
+			final int partition = i;
+			final Optional<QueryFilter> filter = filters.get(i);
+			tasks.add(CompletableFuture.runAsync(() -> {
+				try (Stream<R> stream = partitionQuery(query, filter).stream(projection)) {
+					consumer.accept(partition, stream);
+				}
+			}, executor));
+		}
+
+		DataAccessException failure = null;
+		for (CompletableFuture<Void> task : tasks) {
+			try {
+				task.join();
+			} catch (CompletionException e) {
+				final Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+				if (failure == null) {
+					failure = (cause instanceof DataAccessException) ? (DataAccessException) cause
+							: new DataAccessException("Failed to execute the partition query", cause);
+				} else {
+					failure.addSuppressed(cause);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Get the query for given partition.
+	 * @param query The query supplier
+	 * @param filter The partition filter, if any
+	 * @return The partition query
+	 */
+	private static Query partitionQuery(Supplier<? extends Query> query, Optional<QueryFilter> filter) {
+		final Query partitionQuery = query.get();
+		if (partitionQuery == null) {
+			throw new DataAccessException("The query supplier returned a null query");
+		}
+		filter.ifPresent(f -> partitionQuery.filter(f));
+		return partitionQuery;
+	}
+
+	/**
+	 * Compute the partitions using the partition expression values range.
+	 * @param query The query supplier
+	 * @return The partition filters, one for each partition. An empty filter means no partition restriction.
+	 */
+	protected List<Optional<QueryFilter>> getPartitionFilters(Supplier<? extends Query> query) {
+		final T min = partitionQuery(query, Optional.empty()).findOne(partitionExpression.min()).orElse(null);
+		final T max = partitionQuery(query, Optional.empty()).findOne(partitionExpression.max()).orElse(null);
+		if (min == null || max == null || partitions == 1) {
+			return Collections.singletonList(Optional.empty());
+		}
+
+		// bounds
+		final BigDecimal minOrdinal = toOrdinal.apply(min);
+		final BigDecimal range = toOrdinal.apply(max).subtract(minOrdinal);
+		final List<T> bounds = new ArrayList<>(partitions - 1);
+		BigDecimal previous = minOrdinal;
+		for (int i = 1; i < partitions; i++) {
+			final T bound = fromOrdinal.apply(minOrdinal.add(range.multiply(BigDecimal.valueOf(i))
+					.divide(BigDecimal.valueOf(partitions), Math.max(range.scale(), 0) + 6, RoundingMode.FLOOR)));
+			final BigDecimal ordinal = toOrdinal.apply(bound);
+			if (ordinal.compareTo(previous) > 0) {
+				bounds.add(bound);
+				previous = ordinal;
+			}
+		}
+		if (bounds.isEmpty()) {
+			return Collections.singletonList(Optional.empty());
+		}
+
+		// filters
+		final List<Optional<QueryFilter>> filters = new ArrayList<>(bounds.size() + 1);
+		filters.add(Optional.of(partitionExpression.lt(bounds.get(0)).or(partitionExpression.isNull())));
+		for (int i = 1; i < bounds.size(); i++) {
+			filters.add(Optional
+					.of(partitionExpression.goe(bounds.get(i - 1)).and(partitionExpression.lt(bounds.get(i)))));
+		}
+		filters.add(Optional.of(partitionExpression.goe(bounds.get(bounds.size() - 1))));
+		return filters;
+	}
+
+	private static Number fromIntegral(Class<?> type, BigDecimal value) {
+		if (BigInteger.class == type) {
+			return value.toBigInteger();
+		}
+		if (Integer.class == type) {
+			return Integer.valueOf(value.intValue());
+		}
+		if (Short.class == type) {
+			return Short.valueOf(value.shortValue());
+		}
+		if (Byte.class == type) {
+			return Byte.valueOf(value.byteValue());
+		}
+		return Long.valueOf(value.longValue());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JpaPartitionedScan [partitionExpression=" + partitionExpression + ", partitions=" + partitions + "]";
+	}
+
+	/**
+	 * A partition query failure.
+	 */
+	private static final class PartitionFailure {
+
+		final Throwable error;
+
+		PartitionFailure(Throwable error) {
+			super();
+			this.error = error;
+		}
+
+	}
+
+	/**
+	 * Partition results buffer, consumed as an {@link Iterator} of the merged results.
+	 * @param <R> Results type
+	 */
+	private static final class MergedResults<R> implements Iterator<R> {
+
+		static final Object END = new Object();
+
+		private static final Object NULL = new Object();
+
+		private final BlockingQueue<Object> queue;
+
+		private volatile boolean closed = false;
+
+		// accessed by the consumer thread only
+		private int running;
+		private Object next;
+
+		MergedResults(int partitions) {
+			super();
+			this.queue = new ArrayBlockingQueue<>(partitions * PARTITION_BUFFER_SIZE);
+			this.running = partitions;
+		}
+
+		/**
+		 * Add an element to the buffer, waiting for space to become available.
+		 * @param element The element to add
+		 * @return <code>true</code> if the element was added, <code>false</code> if the results were closed
+		 */
+		boolean offer(Object element) {
+			final Object value = (element != null) ? element : NULL;
+			try {
+				while (!closed) {
+					if (queue.offer(value, 100, TimeUnit.MILLISECONDS)) {
+						return true;
+					}
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return false;
+		}
+
+		void close() {
+			closed = true;
+			queue.clear();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			while (next == null) {
+				if (running == 0 || closed) {
+					return false;
+				}
+				final Object element;
+				try {
+					element = queue.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					close();
+					throw new DataAccessException("Interrupted while waiting for the partition query results", e);
+				}
+				if (element == END) {
+					running--;
+				} else if (element instanceof PartitionFailure) {
+					close();
+					final Throwable error = ((PartitionFailure) element).error;
+					throw (error instanceof DataAccessException) ? (DataAccessException) error
+							: new DataAccessException("Failed to execute the partition query", error);
+				} else {
+					next = element;
+				}
+			}
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@SuppressWarnings("unchecked")
+		@Override
+		public R next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			final Object element = next;
+			next = null;
+			return (element == NULL) ? null : (R) element;
+		}
+
+	}
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.JpaQueryHint;
+import com.holonplatform.datastore.jpa.JpaQueryHints;
+
+/**
+ * Default {@link JpaQueryHints} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultQueryHints implements JpaQueryHints {
+
+	private static final long serialVersionUID = -2861548427096151723L;
+
+	@SuppressWarnings("serial")
+	private final List<JpaQueryHint> hints;
+
+	/**
+	 * Constructor
+	 * @param hints Query hints (not null)
+	 */
+	public DefaultQueryHints(List<JpaQueryHint> hints) {
+		super();
+		ObjectUtils.argumentNotNull(hints, "Hints must be not null");
+		for (JpaQueryHint hint : hints) {
+			ObjectUtils.argumentNotNull(hint, "Hint must be not null");
+		}
+		this.hints = Collections.unmodifiableList(new ArrayList<>(hints));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaQueryHints#getHints()
+	 */
+	@Override
+	public List<JpaQueryHint> getHints() {
+		return hints;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		final StringBuilder sb = new StringBuilder("JpaQueryHints [");
+		for (int i = 0; i < hints.size(); i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(hints.get(i).getName()).append("=").append(hints.get(i).getValue());
+		}
+		return sb.append("]").toString();
+	}
+
+	/**
+	 * Default {@link JpaQueryHints.Builder} implementation.
+	 */
+	public static class DefaultBuilder implements JpaQueryHints.Builder {
+
+		private final List<JpaQueryHint> hints = new ArrayList<>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaQueryHints.Builder#hint(com.holonplatform.datastore.jpa.JpaQueryHint)
+		 */
+		@Override
+		public JpaQueryHints.Builder hint(JpaQueryHint hint) {
+			ObjectUtils.argumentNotNull(hint, "Hint must be not null");
+			hints.add(hint);
+			return this;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.JpaQueryHints.Builder#build()
+		 */
+		@Override
+		public JpaQueryHints build() {
+			return new DefaultQueryHints(hints);
+		}
+
+	}
+
+}
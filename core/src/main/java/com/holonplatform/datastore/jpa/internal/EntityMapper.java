@@ -0,0 +1,341 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.holonplatform.core.Path;
+import com.holonplatform.core.beans.BeanProperty;
+import com.holonplatform.core.beans.BeanPropertySet;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.Property.PropertyWriteException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertyValueConverter;
+
+/**
+ * Entity class mapper which creates the entity instances and writes the {@link PropertyBox} values into them, using
+ * {@link MethodHandle}s resolved once for the entity class.
+ * <p>
+ * The {@link PropertyBox} values are written using the same semantics of
+ * {@link BeanPropertySet#write(PropertyBox, Object)}: read-only properties are skipped, the values of top level bean
+ * properties without a bean property value converter are written directly using the property setter method or field,
+ * while the other properties (for example nested properties) are delegated to the {@link BeanPropertySet}.
+ * </p>
+ * <p>
+ * Instances are immutable and thread safe, and are cached per entity class by the {@link EntityTargetCache}.
+ * </p>
+ *
+ * @param <T> Entity type
+ *
+ * @since 6.0.3
+ */
+public final class EntityMapper<T> {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = JpaDatastoreLogger.create();
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final Class<? extends T> entityClass;
+
+	private final BeanPropertySet<T> propertySet;
+
+	/**
+	 * No-args constructor handle, <code>null</code> if not available
+	 */
+	private final MethodHandle constructor;
+
+	/**
+	 * Bean property name - property writer mappings
+	 */
+	private final Map<String, PropertyWriter> writers;
+
+	private EntityMapper(Class<? extends T> entityClass, BeanPropertySet<T> propertySet, MethodHandle constructor,
+			Map<String, PropertyWriter> writers) {
+		super();
+		this.entityClass = entityClass;
+		this.propertySet = propertySet;
+		this.constructor = constructor;
+		this.writers = writers;
+	}
+
+	/**
+	 * Get the entity class.
+	 * @return The entity class
+	 */
+	public Class<? extends T> getEntityClass() {
+		return entityClass;
+	}
+
+	/**
+	 * Get the entity class bean property set.
+	 * @return The entity bean property set
+	 */
+	public BeanPropertySet<T> getPropertySet() {
+		return propertySet;
+	}
+
+	/**
+	 * Create a new entity instance, using the entity class no-args constructor.
+	 * @return A new entity instance
+	 * @throws ReflectiveOperationException If the entity class cannot be instantiated
+	 */
+	@SuppressWarnings("unchecked")
+	public T newInstance() throws ReflectiveOperationException {
+		if (constructor == null) {
+			// reports the instantiation error
+			return entityClass.getDeclaredConstructor().newInstance();
+		}
+		try {
+			return (T) constructor.invoke();
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			throw new InvocationTargetException(t);
+		}
+	}
+
+	/**
+	 * Create a new entity instance and write given {@link PropertyBox} values into it.
+	 * @param value The values to write (not null)
+	 * @return A new entity instance
+	 * @throws ReflectiveOperationException If the entity class cannot be instantiated
+	 */
+	public T create(PropertyBox value) throws ReflectiveOperationException {
+		return write(value, newInstance());
+	}
+
+	/**
+	 * Write given {@link PropertyBox} values into given entity instance.
+	 * @param value The values to write (not null)
+	 * @param instance The entity instance (not null)
+	 * @return The entity instance
+	 * @throws PropertyWriteException If an error occurred writing a property value
+	 */
+	@SuppressWarnings("unchecked")
+	public T write(PropertyBox value, T instance) {
+		ObjectUtils.argumentNotNull(value, "PropertyBox must be not null");
+		ObjectUtils.argumentNotNull(instance, "Entity instance must be not null");
+
+		for (Property<?> property : value) {
+			if (!property.isReadOnly() && property instanceof Path) {
+				final Path<Object> path = (Path<Object>) property;
+				final PropertyWriter writer = writers.get(path.relativeName());
+				if (writer == null) {
+					// reports the missing property
+					propertySet.write(path, value.getValue(property), instance);
+					continue;
+				}
+				final Object propertyValue = writer.convert((Property<Object>) property, value.getValue(property));
+				if (writer.accept(propertyValue)) {
+					writer.write(property, instance, propertyValue);
+				} else {
+					propertySet.write(path, propertyValue, instance);
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Create a new {@link EntityMapper} for given entity class.
+	 * @param <T> Entity type
+	 * @param entityClass The entity class (not null)
+	 * @param propertySet The entity class bean property set (not null)
+	 * @return A new {@link EntityMapper}
+	 */
+	public static <T> EntityMapper<T> create(Class<? extends T> entityClass, BeanPropertySet<T> propertySet) {
+		ObjectUtils.argumentNotNull(entityClass, "Entity class must be not null");
+		ObjectUtils.argumentNotNull(propertySet, "Bean property set must be not null");
+
+		final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+		// constructor
+		MethodHandle constructor = null;
+		try {
+			final Constructor<? extends T> c = entityClass.getDeclaredConstructor();
+			if (accessible(c, c.getModifiers(), entityClass)) {
+				constructor = lookup.unreflectConstructor(c);
+			}
+		} catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+			LOGGER.debug(() -> "No-args constructor not available for entity class [" + entityClass.getName() + "]",
+					e);
+		}
+
+		// writers
+		final Map<String, PropertyWriter> writers = new HashMap<>();
+		for (PathProperty<?> property : propertySet) {
+			final BeanProperty<?> beanProperty = (BeanProperty<?>) property;
+			writers.putIfAbsent(beanProperty.relativeName(),
+					new PropertyWriter(beanProperty, setter(lookup, beanProperty)));
+		}
+
+		return new EntityMapper<>(entityClass, propertySet, constructor, writers);
+	}
+
+	/**
+	 * Resolve the setter {@link MethodHandle} of given bean property, if it is a top level property without a bean
+	 * property value converter.
+	 * @param lookup Lookup
+	 * @param property Bean property
+	 * @return The setter {@link MethodHandle}, with <code>(Object,Object)void</code> type, or <code>null</code> if not
+	 *         available
+	 */
+	private static MethodHandle setter(MethodHandles.Lookup lookup, BeanProperty<?> property) {
+		if (property.getParentProperty().isPresent() || property.getConverter().isPresent()) {
+			return null;
+		}
+		try {
+			final Method method = property.getWriteMethod().orElse(null);
+			if (method != null) {
+				if (method.getParameterCount() == 1
+						&& accessible(method, method.getModifiers(), method.getDeclaringClass())) {
+					return lookup.unreflect(method).asType(SETTER_TYPE);
+				}
+				return null;
+			}
+			final Field field = property.getField().orElse(null);
+			if (field != null && !Modifier.isStatic(field.getModifiers()) && !Modifier.isFinal(field.getModifiers())
+					&& accessible(field, field.getModifiers(), field.getDeclaringClass())) {
+				return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+			}
+		} catch (IllegalAccessException | RuntimeException e) {
+			LOGGER.debug(() -> "Property [" + property.relativeName() + "] setter not available, the property value "
+					+ "will be written using the bean property set", e);
+		}
+		return null;
+	}
+
+	/**
+	 * Ensure given member is accessible.
+	 * @param member The member
+	 * @param modifiers The member modifiers
+	 * @param declaringClass The member declaring class
+	 * @return <code>true</code> if the member is accessible
+	 */
+	private static boolean accessible(AccessibleObject member, int modifiers, Class<?> declaringClass) {
+		if (Modifier.isPublic(modifiers) && Modifier.isPublic(declaringClass.getModifiers())) {
+			return true;
+		}
+		return member.trySetAccessible();
+	}
+
+	/**
+	 * Bean property writer.
+	 */
+	private static final class PropertyWriter {
+
+		private final BeanProperty<?> property;
+
+		private final MethodHandle setter;
+
+		/**
+		 * Setter value type, boxed if primitive
+		 */
+		private final Class<?> valueType;
+
+		/**
+		 * Value to write for <code>null</code> values, not <code>null</code> for primitive types
+		 */
+		private final Object nullValue;
+
+		PropertyWriter(BeanProperty<?> property, MethodHandle setter) {
+			super();
+			this.property = property;
+			this.setter = setter;
+			final Class<?> setterType = (setter != null) ? setterParameterType(property) : null;
+			this.valueType = (setterType != null) ? MethodType.methodType(setterType).wrap().returnType() : null;
+			this.nullValue = (setterType != null && setterType.isPrimitive())
+					? Array.get(Array.newInstance(setterType, 1), 0)
+					: null;
+		}
+
+		/**
+		 * Convert the {@link PropertyBox} property value to the bean property type, if required, using the property
+		 * value converter.
+		 * @param boxProperty The {@link PropertyBox} property
+		 * @param value The value to convert
+		 * @return The converted value
+		 */
+		Object convert(Property<Object> boxProperty, Object value) {
+			if (TypeUtils.isAssignable(property.getType(), boxProperty.getType())) {
+				return value;
+			}
+			final Optional<PropertyValueConverter<Object, ?>> converter = boxProperty.getConverter()
+					.filter(c -> TypeUtils.isAssignable(property.getType(), c.getModelType()));
+			return converter.isPresent() ? converter.get().toModel(value, boxProperty) : value;
+		}
+
+		/**
+		 * Checks whether given value can be written using the property setter.
+		 * @param value The value to write
+		 * @return <code>true</code> if the value can be written using the property setter
+		 */
+		boolean accept(Object value) {
+			return setter != null && (value == null || valueType.isInstance(value));
+		}
+
+		/**
+		 * Write given value using the property setter.
+		 * @param boxProperty The {@link PropertyBox} property
+		 * @param instance The bean instance
+		 * @param value The value to write
+		 */
+		void write(Property<?> boxProperty, Object instance, Object value) {
+			try {
+				setter.invokeExact(instance, (value != null) ? value : nullValue);
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new PropertyWriteException(boxProperty,
+						"Failed to write property [" + property.relativeName() + "] value [" + value + "]", t);
+			}
+		}
+
+		/**
+		 * Get the type of the value written by the property setter.
+		 * @param property Bean property
+		 * @return The setter value type
+		 */
+		private static Class<?> setterParameterType(BeanProperty<?> property) {
+			final Optional<Method> method = property.getWriteMethod();
+			if (method.isPresent()) {
+				return method.get().getParameterTypes()[0];
+			}
+			return property.getField().<Class<?>> map(f -> f.getType()).orElse(Object.class);
+		}
+
+	}
+
+}
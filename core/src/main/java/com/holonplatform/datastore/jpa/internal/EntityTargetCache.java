@@ -16,19 +16,29 @@
 package com.holonplatform.datastore.jpa.internal;
 
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
 
+import com.holonplatform.core.beans.BeanIntrospector;
+import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
 
 /**
- * Resolved {@link DataTarget} names to JPA entity class cache.
+ * Per {@link EntityManagerFactory} JPA entity metadata cache, which provides the {@link DataTarget} names to JPA entity
+ * class mappings, the {@link JpaEntity} definitions and the {@link EntityMapper}s of the entity classes.
+ * <p>
+ * The {@link EntityManagerFactory} instances are weakly referenced and all the lookups are lock-free.
+ * </p>
  * 
  * @since 5.0.0
  */
@@ -37,9 +47,19 @@ public final class EntityTargetCache implements Serializable {
 	private static final long serialVersionUID = 1780346234469898465L;
 
 	/**
-	 * Data target name - entity class mappings cache
+	 * Logger
 	 */
-	private final static WeakHashMap<EntityManagerFactory, Map<String, Class<?>>> ENTITY_TARGETS = new WeakHashMap<>();
+	private static final Logger LOGGER = JpaDatastoreLogger.create();
+
+	/**
+	 * Entity metadata registries, weakly bound to the EntityManagerFactory
+	 */
+	private final static Map<Object, EntityRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Cleared EntityManagerFactory references queue
+	 */
+	private final static ReferenceQueue<EntityManagerFactory> STALE_FACTORIES = new ReferenceQueue<>();
 
 	private EntityTargetCache() {
 	}
@@ -50,16 +70,17 @@ public final class EntityTargetCache implements Serializable {
 	 * @param name Path name (not null)
 	 * @return Entity class, or <code>null</code> target was null
 	 */
-	public synchronized static Optional<Class<?>> resolveEntityClass(EntityManagerFactory entityManagerFactory,
-			String name) {
+	public static Optional<Class<?>> resolveEntityClass(EntityManagerFactory entityManagerFactory, String name) {
 
 		ObjectUtils.argumentNotNull(name, "Name must be not null");
 		ObjectUtils.argumentNotNull(entityManagerFactory, "EntityManagerFactory must be not null");
 
+		final EntityRegistry registry = getRegistry(entityManagerFactory);
+
 		// check cache
-		Map<String, Class<?>> mappings = ENTITY_TARGETS.getOrDefault(entityManagerFactory, Collections.emptyMap());
-		if (mappings.containsKey(name)) {
-			return Optional.of(mappings.get(name));
+		final Class<?> cached = registry.targets.get(name);
+		if (cached != null) {
+			return Optional.of(cached);
 		}
 
 		// try to resolve by entity name
@@ -68,14 +89,244 @@ public final class EntityTargetCache implements Serializable {
 		// try to resolve by entity type
 		if (!entityClass.isPresent()) {
 			entityClass = entityManagerFactory.getMetamodel().getEntities().stream()
-					.filter(e -> e.getJavaType().getName().equals(name)).findFirst().map(e -> e.getJavaType());
+					.filter(e -> e.getJavaType() != null && e.getJavaType().getName().equals(name)).findFirst()
+					.map(e -> e.getJavaType());
 		}
 
 		// cache value
-		entityClass.ifPresent(
-				e -> ENTITY_TARGETS.computeIfAbsent(entityManagerFactory, c -> new HashMap<>()).put(name, e));
+		entityClass.ifPresent(e -> registry.targets.putIfAbsent(name, e));
 
 		return entityClass;
+	}
+
+	/**
+	 * Get the {@link JpaEntity} definition of given entity class, creating and caching it if not available.
+	 * @param <T> Entity type
+	 * @param entityManagerFactory EntityManagerFactory to use (not null)
+	 * @param entityClass Entity class (not null)
+	 * @return The {@link JpaEntity} definition of the entity class
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> JpaEntity<T> getEntity(EntityManagerFactory entityManagerFactory, Class<T> entityClass) {
+		ObjectUtils.argumentNotNull(entityManagerFactory, "EntityManagerFactory must be not null");
+		ObjectUtils.argumentNotNull(entityClass, "Entity class must be not null");
+
+		final EntityRegistry registry = getRegistry(entityManagerFactory);
+
+		// check cache
+		final JpaEntity<?> cached = registry.entities.get(entityClass);
+		if (cached != null) {
+			return (JpaEntity<T>) cached;
+		}
+
+		final JpaEntity<?> entity = registry.entities.computeIfAbsent(entityClass,
+				c -> JpaEntity.create(entityManagerFactory.getMetamodel(), c));
+		return (JpaEntity<T>) entity;
+	}
+
+	/**
+	 * Get the {@link EntityMapper} of given entity class, creating and caching it if not available or if it was
+	 * created using a different {@link BeanIntrospector}.
+	 * @param <T> Entity type
+	 * @param entityManagerFactory EntityManagerFactory to use (not null)
+	 * @param entityClass Entity class (not null)
+	 * @param beanIntrospector The {@link BeanIntrospector} to use to obtain the entity bean property set (not null)
+	 * @return The {@link EntityMapper} of the entity class
+	 * @since 6.0.3
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> EntityMapper<T> getMapper(EntityManagerFactory entityManagerFactory,
+			Class<? extends T> entityClass, BeanIntrospector beanIntrospector) {
+		ObjectUtils.argumentNotNull(entityManagerFactory, "EntityManagerFactory must be not null");
+		ObjectUtils.argumentNotNull(entityClass, "Entity class must be not null");
+		ObjectUtils.argumentNotNull(beanIntrospector, "BeanIntrospector must be not null");
+
+		final EntityRegistry registry = getRegistry(entityManagerFactory);
+
+		// check cache
+		final MapperEntry cached = registry.mappers.get(entityClass);
+		if (cached != null && cached.beanIntrospector == beanIntrospector) {
+			return (EntityMapper<T>) cached.mapper;
+		}
+
+		final BeanPropertySet<T> propertySet = beanIntrospector.getPropertySet(entityClass);
+		final EntityMapper<T> mapper = EntityMapper.create(entityClass, propertySet);
+		registry.mappers.put(entityClass, new MapperEntry(beanIntrospector, mapper));
+		return mapper;
+	}
+
+	/**
+	 * Register the metadata of all the entities available from the {@link EntityManagerFactory} metamodel, i.e. the
+	 * entity name and entity class name to entity class mappings and the {@link JpaEntity} definitions.
+	 * @param entityManagerFactory EntityManagerFactory to use (not null)
+	 * @return The number of registered entities
+	 * @since 6.0.3
+	 */
+	public static int warmUp(EntityManagerFactory entityManagerFactory) {
+		ObjectUtils.argumentNotNull(entityManagerFactory, "EntityManagerFactory must be not null");
+
+		final EntityRegistry registry = getRegistry(entityManagerFactory);
+
+		int count = 0;
+		for (EntityType<?> type : entityManagerFactory.getMetamodel().getEntities()) {
+			final Class<?> entityClass = type.getJavaType();
+			if (entityClass == null || Map.class.isAssignableFrom(entityClass)) {
+				// dynamic entity
+				continue;
+			}
+			// entity name mappings take precedence over class name mappings
+			registry.targets.put(type.getName(), entityClass);
+			try {
+				registry.entities.computeIfAbsent(entityClass,
+						c -> JpaEntity.create(entityManagerFactory.getMetamodel(), c));
+				count++;
+			} catch (Exception e) {
+				LOGGER.debug(() -> "Failed to register entity metadata for entity class [" + entityClass.getName()
+						+ "], it will be resolved on demand", e);
+			}
+		}
+		for (EntityType<?> type : entityManagerFactory.getMetamodel().getEntities()) {
+			final Class<?> entityClass = type.getJavaType();
+			if (entityClass != null && !Map.class.isAssignableFrom(entityClass)) {
+				registry.targets.putIfAbsent(entityClass.getName(), entityClass);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Get the entity metadata registry bound to given {@link EntityManagerFactory}, creating it if not available.
+	 * @param entityManagerFactory EntityManagerFactory
+	 * @return The entity metadata registry
+	 */
+	private static EntityRegistry getRegistry(EntityManagerFactory entityManagerFactory) {
+		final EntityRegistry registry = REGISTRIES.get(new LookupKey(entityManagerFactory));
+		if (registry != null) {
+			return registry;
+		}
+		expungeStaleRegistries();
+		return REGISTRIES.computeIfAbsent(new FactoryKey(entityManagerFactory, STALE_FACTORIES),
+				k -> new EntityRegistry());
+	}
+
+	/**
+	 * Remove the registries bound to garbage collected {@link EntityManagerFactory} instances.
+	 */
+	private static void expungeStaleRegistries() {
+		Reference<? extends EntityManagerFactory> reference;
+		while ((reference = STALE_FACTORIES.poll()) != null) {
+			REGISTRIES.remove(reference);
+		}
+	}
+
+	/**
+	 * Entity metadata bound to an {@link EntityManagerFactory}.
+	 */
+	private static final class EntityRegistry {
+
+		/**
+		 * Data target name - entity class mappings
+		 */
+		final Map<String, Class<?>> targets = new ConcurrentHashMap<>();
+
+		/**
+		 * Entity class - JpaEntity mappings
+		 */
+		final Map<Class<?>, JpaEntity<?>> entities = new ConcurrentHashMap<>();
+
+		/**
+		 * Entity class - EntityMapper mappings
+		 */
+		final Map<Class<?>, MapperEntry> mappers = new ConcurrentHashMap<>();
+
+	}
+
+	/**
+	 * An {@link EntityMapper} bound to the {@link BeanIntrospector} used to create it.
+	 */
+	private static final class MapperEntry {
+
+		final BeanIntrospector beanIntrospector;
+
+		final EntityMapper<?> mapper;
+
+		MapperEntry(BeanIntrospector beanIntrospector, EntityMapper<?> mapper) {
+			super();
+			this.beanIntrospector = beanIntrospector;
+			this.mapper = mapper;
+		}
+
+	}
+
+	/**
+	 * Registry key which weakly references an {@link EntityManagerFactory}, using identity equality.
+	 */
+	private static final class FactoryKey extends WeakReference<EntityManagerFactory> {
+
+		private final int hash;
+
+		FactoryKey(EntityManagerFactory referent, ReferenceQueue<EntityManagerFactory> queue) {
+			super(referent, queue);
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			final Object referent = get();
+			if (referent == null) {
+				return false;
+			}
+			if (obj instanceof LookupKey) {
+				return referent == ((LookupKey) obj).referent;
+			}
+			if (obj instanceof FactoryKey) {
+				return referent == ((FactoryKey) obj).get();
+			}
+			return false;
+		}
+
+	}
+
+	/**
+	 * Registry lookup key, which strongly references the {@link EntityManagerFactory} for the lookup duration only.
+	 */
+	private static final class LookupKey {
+
+		final EntityManagerFactory referent;
+
+		private final int hash;
+
+		LookupKey(EntityManagerFactory referent) {
+			super();
+			this.referent = referent;
+			this.hash = System.identityHashCode(referent);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof FactoryKey) {
+				final Object other = ((FactoryKey) obj).get();
+				return other != null && other == referent;
+			}
+			return false;
+		}
 
 	}
 
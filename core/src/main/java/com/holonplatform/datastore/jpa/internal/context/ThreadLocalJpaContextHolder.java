@@ -0,0 +1,115 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.context;
+
+import java.util.Optional;
+
+import jakarta.persistence.EntityManager;
+
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.context.JpaContextHolder;
+import com.holonplatform.datastore.jpa.tx.JpaTransaction;
+
+/**
+ * A {@link JpaContextHolder} which binds the resources to the current thread.
+ *
+ * @since 6.0.3
+ */
+public enum ThreadLocalJpaContextHolder implements JpaContextHolder {
+
+	INSTANCE;
+
+	/**
+	 * Current operation EntityManager
+	 */
+	private static final ThreadLocal<EntityManager> CURRENT_ENTITY_MANAGER = new ThreadLocal<>();
+
+	/**
+	 * Current local transaction
+	 */
+	private static final ThreadLocal<JpaTransaction> CURRENT_TRANSACTION = new ThreadLocal<>();
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContextHolder#getEntityManager()
+	 */
+	@Override
+	public Optional<EntityManager> getEntityManager() {
+		return Optional.ofNullable(CURRENT_ENTITY_MANAGER.get());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContextHolder#getTransaction()
+	 */
+	@Override
+	public Optional<JpaTransaction> getTransaction() {
+		return Optional.ofNullable(CURRENT_TRANSACTION.get());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContextHolder#callWithEntityManager(jakarta.persistence.
+	 * EntityManager, com.holonplatform.datastore.jpa.context.JpaContextHolder.ScopedOperation)
+	 */
+	@Override
+	public <R, X extends Exception> R callWithEntityManager(EntityManager entityManager,
+			ScopedOperation<R, X> operation) throws X {
+		ObjectUtils.argumentNotNull(entityManager, "EntityManager must be not null");
+		return callWith(CURRENT_ENTITY_MANAGER, entityManager, operation);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContextHolder#callWithTransaction(com.holonplatform.datastore.
+	 * jpa.tx.JpaTransaction, com.holonplatform.datastore.jpa.context.JpaContextHolder.ScopedOperation)
+	 */
+	@Override
+	public <R, X extends Exception> R callWithTransaction(JpaTransaction transaction, ScopedOperation<R, X> operation)
+			throws X {
+		ObjectUtils.argumentNotNull(transaction, "Transaction must be not null");
+		return callWith(CURRENT_TRANSACTION, transaction, operation);
+	}
+
+	/**
+	 * Execute given operation with given value bound to given {@link ThreadLocal}, restoring the previous value when
+	 * the operation ends.
+	 * @param <T> Value type
+	 * @param <R> Operation result type
+	 * @param <X> Operation exception type
+	 * @param holder The thread local holder
+	 * @param value The value to bind
+	 * @param operation The operation to execute
+	 * @return The operation result
+	 * @throws X If an operation execution error occurred
+	 */
+	private static <T, R, X extends Exception> R callWith(ThreadLocal<T> holder, T value,
+			ScopedOperation<R, X> operation) throws X {
+		ObjectUtils.argumentNotNull(operation, "Operation must be not null");
+		final T previous = holder.get();
+		holder.set(value);
+		try {
+			return operation.execute();
+		} finally {
+			if (previous != null) {
+				holder.set(previous);
+			} else {
+				holder.remove();
+			}
+		}
+	}
+
+}
@@ -15,13 +15,22 @@
  */
 package com.holonplatform.datastore.jpa.internal.converters;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Optional;
 
 import com.holonplatform.core.Path;
+import com.holonplatform.core.beans.BeanProperty;
 import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger.Level;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.Property.PropertyWriteException;
 import com.holonplatform.datastore.jpa.context.JpaExecutionContext;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer;
 
@@ -46,9 +55,30 @@ public abstract class AbstractBeanConverter<Q, T> extends AbstractResultConverte
 	private final Path<?>[] selection;
 
 	/**
-	 * Selection alias
+	 * Selection deserializers
 	 */
-	private final Map<Path<?>, String> selectionAlias;
+	private volatile ExpressionDeserializers deserializers;
+
+	/**
+	 * Selection aliases, by selection index
+	 */
+	private final String[] aliases;
+
+	/**
+	 * Bean property setters, by selection index. A <code>null</code> setter means that the bean property set has to be
+	 * used to write the property value.
+	 */
+	private final MethodHandle[] setters;
+
+	/**
+	 * Bean property setters parameter type, by selection index
+	 */
+	private final Class<?>[] setterTypes;
+
+	/**
+	 * Bean class no-args constructor, <code>null</code> if not available using a public lookup
+	 */
+	private final MethodHandle constructor;
 
 	/**
 	 * Constructor.
@@ -63,7 +93,20 @@ public abstract class AbstractBeanConverter<Q, T> extends AbstractResultConverte
 		ObjectUtils.argumentNotNull(selection, "Selection must be not null");
 		this.beanPropertySet = beanPropertySet;
 		this.selection = selection;
-		this.selectionAlias = selectionAlias;
+
+		// conversion plan: the selection aliases and the bean accessors are resolved only once
+		this.aliases = new String[selection.length];
+		this.setters = new MethodHandle[selection.length];
+		this.setterTypes = new Class<?>[selection.length];
+		for (int i = 0; i < selection.length; i++) {
+			this.aliases[i] = (selectionAlias != null) ? selectionAlias.get(selection[i]) : null;
+			final Optional<Method> writeMethod = getDirectWriteMethod(beanPropertySet, selection[i]);
+			if (writeMethod.isPresent()) {
+				this.setters[i] = lookupSetter(writeMethod.get());
+				this.setterTypes[i] = writeMethod.get().getParameterTypes()[0];
+			}
+		}
+		this.constructor = lookupConstructor(beanPropertySet.getBeanClass());
 	}
 
 	/*
@@ -85,43 +128,136 @@ public abstract class AbstractBeanConverter<Q, T> extends AbstractResultConverte
 	@Override
 	public T convert(JpaExecutionContext context, Q result) throws DataAccessException {
 
-		final JPQLValueDeserializer deserializer = context.getValueDeserializer();
+		final ExpressionDeserializers deserializers = getDeserializers(context.getValueDeserializer());
 
-		T instance;
-		try {
-			instance = beanPropertySet.getBeanClass().getDeclaredConstructor().newInstance();
-		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException e) {
-			throw new DataAccessException("Failed to istantiate bean class [" + beanPropertySet.getBeanClass() + "]",
-					e);
-		}
+		final boolean debug = LOGGER.isEnabled(Level.DEBUG);
+
+		final T instance = instantiate();
 
-		LOGGER.debug(() -> "Convert result to a bean instance of type [" + beanPropertySet.getBeanClass() + "]");
+		if (debug) {
+			LOGGER.debug(() -> "Convert result to a bean instance of type [" + beanPropertySet.getBeanClass() + "]");
+		}
 
 		for (int i = 0; i < selection.length; i++) {
 
 			final Path<?> expression = selection[i];
 
-			// result index and alias
-			final int index = i;
-			final String alias = selectionAlias.get(expression);
-
 			// get result value
-			final Object value = getResult(result, alias, index);
-
-			LOGGER.debug(() -> "Result value for selection alias [" + alias + "] at index [" + index + "] is [" + value
-					+ "]");
+			final Object value = getResult(result, aliases[i], i);
 
 			// deserialize value
-			Object deserialized = deserializer.deserialize(context, expression, value);
+			final Object deserialized = deserializers.get(i).deserialize(context, value);
 
-			LOGGER.debug(() -> "Deserialized value for selection alias [" + alias + "] at index [" + index + "] is ["
-					+ deserialized + "]");
+			if (debug) {
+				trace(aliases[i], i, value, deserialized);
+			}
 
 			// write value in bean instance
-			beanPropertySet.write((Path<Object>) expression, deserialized, instance);
+			final MethodHandle setter = setters[i];
+			if (setter != null && (deserialized == null || setterTypes[i].isInstance(deserialized))) {
+				try {
+					setter.invokeExact((Object) instance, deserialized);
+				} catch (Throwable e) {
+					throw new PropertyWriteException(beanPropertySet.property(expression.relativeName()),
+							"Failed to write bean property [" + expression.relativeName() + "] value ["
+									+ deserialized + "]",
+							e);
+				}
+			} else {
+				beanPropertySet.write((Path<Object>) expression, deserialized, instance);
+			}
 		}
 
 		return instance;
 	}
 
+	/**
+	 * Get the selection deserializers provided by given value deserializer.
+	 * @param deserializer Value deserializer
+	 * @return The selection deserializers
+	 */
+	private ExpressionDeserializers getDeserializers(JPQLValueDeserializer deserializer) {
+		final ExpressionDeserializers current = this.deserializers;
+		final ExpressionDeserializers ds = ExpressionDeserializers.of(current, deserializer, selection);
+		if (ds != current) {
+			this.deserializers = ds;
+		}
+		return ds;
+	}
+
+	/**
+	 * Create a new bean instance.
+	 * @return A new bean instance
+	 * @throws DataAccessException If the bean class cannot be instantiated
+	 */
+	@SuppressWarnings("unchecked")
+	private T instantiate() throws DataAccessException {
+		if (constructor != null) {
+			try {
+				return (T) constructor.invokeExact();
+			} catch (Throwable e) {
+				throw new DataAccessException(
+						"Failed to istantiate bean class [" + beanPropertySet.getBeanClass() + "]", e);
+			}
+		}
+		try {
+			return beanPropertySet.getBeanClass().getDeclaredConstructor().newInstance();
+		} catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException | SecurityException e) {
+			throw new DataAccessException("Failed to istantiate bean class [" + beanPropertySet.getBeanClass() + "]",
+					e);
+		}
+	}
+
+	/**
+	 * Get the write method of the bean property which corresponds to given path, only if the property value can be
+	 * directly written using the write method, i.e. the property is not a nested property, it has no property value
+	 * converter and the write method parameter type is not a primitive type.
+	 * @param beanPropertySet Bean property set
+	 * @param path Property path
+	 * @return Optional bean property write method
+	 */
+	private static Optional<Method> getDirectWriteMethod(BeanPropertySet<?> beanPropertySet, Path<?> path) {
+		try {
+			final Property<?> property = beanPropertySet.property(path.relativeName());
+			if (property instanceof BeanProperty && !((BeanProperty<?>) property).getParentProperty().isPresent()
+					&& !property.getConverter().isPresent()) {
+				return ((BeanProperty<?>) property).getWriteMethod()
+						.filter(m -> m.getParameterCount() == 1 && !m.getParameterTypes()[0].isPrimitive());
+			}
+		} catch (Exception e) {
+			LOGGER.debug(() -> "Bean property [" + path.relativeName() + "] write method not available", e);
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Get a <code>(Object,Object)void</code> {@link MethodHandle} for given bean property write method.
+	 * @param writeMethod Write method
+	 * @return The setter handle, or <code>null</code> if not accessible
+	 */
+	private static MethodHandle lookupSetter(Method writeMethod) {
+		try {
+			return MethodHandles.publicLookup().unreflect(writeMethod)
+					.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		} catch (Exception e) {
+			LOGGER.debug(() -> "Bean property write method [" + writeMethod + "] not accessible", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Get a <code>()Object</code> {@link MethodHandle} for the public no-args constructor of given bean class.
+	 * @param beanClass Bean class
+	 * @return The constructor handle, or <code>null</code> if not available
+	 */
+	private static MethodHandle lookupConstructor(Class<?> beanClass) {
+		try {
+			return MethodHandles.publicLookup().findConstructor(beanClass, MethodType.methodType(void.class))
+					.asType(MethodType.methodType(Object.class));
+		} catch (Exception e) {
+			LOGGER.debug(() -> "Public no-args constructor not available for bean class [" + beanClass + "]", e);
+			return null;
+		}
+	}
+
 }
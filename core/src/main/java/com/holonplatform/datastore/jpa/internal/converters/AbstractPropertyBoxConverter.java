@@ -20,6 +20,7 @@ import java.util.Map;
 
 import com.holonplatform.core.TypedExpression;
 import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger.Level;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
@@ -42,19 +43,29 @@ public abstract class AbstractPropertyBoxConverter<Q> extends AbstractResultConv
 	private final PropertySet<?> propertySet;
 
 	/**
-	 * Selection
+	 * Converted selection expressions, i.e. the ones bound to a property
 	 */
-	private final TypedExpression<?>[] selection;
+	private final TypedExpression<?>[] expressions;
 
 	/**
-	 * Selection aliases
+	 * Converted selection deserializers
 	 */
-	private final Map<TypedExpression<?>, String> selectionAlias;
+	private volatile ExpressionDeserializers deserializers;
 
 	/**
-	 * Selection properties
+	 * Converted selection result indexes
 	 */
-	private final Map<TypedExpression<?>, Property<?>> selectionProperties;
+	private final int[] indexes;
+
+	/**
+	 * Converted selection result aliases
+	 */
+	private final String[] aliases;
+
+	/**
+	 * Converted selection properties
+	 */
+	private final Property<?>[] properties;
 
 	/**
 	 * Constructor.
@@ -69,9 +80,38 @@ public abstract class AbstractPropertyBoxConverter<Q> extends AbstractResultConv
 		ObjectUtils.argumentNotNull(propertySet, "PropertySet must be not null");
 		ObjectUtils.argumentNotNull(selection, "Selection must be not null");
 		this.propertySet = propertySet;
-		this.selection = selection;
-		this.selectionAlias = (selectionAlias != null) ? selectionAlias : Collections.emptyMap();
-		this.selectionProperties = (selectionProperties != null) ? selectionProperties : Collections.emptyMap();
+
+		// conversion plan: the selection aliases and properties are resolved only once
+		final Map<TypedExpression<?>, String> aliasMap = (selectionAlias != null) ? selectionAlias
+				: Collections.emptyMap();
+		final Map<TypedExpression<?>, Property<?>> propertyMap = (selectionProperties != null) ? selectionProperties
+				: Collections.emptyMap();
+		int count = 0;
+		for (TypedExpression<?> expression : selection) {
+			if (propertyMap.get(expression) != null) {
+				count++;
+			}
+		}
+		this.expressions = new TypedExpression<?>[count];
+		this.indexes = new int[count];
+		this.aliases = new String[count];
+		this.properties = new Property<?>[count];
+		int c = 0;
+		for (int i = 0; i < selection.length; i++) {
+			final Property<?> property = propertyMap.get(selection[i]);
+			if (property != null) {
+				this.expressions[c] = selection[i];
+				this.indexes[c] = i;
+				this.aliases[c] = aliasMap.get(selection[i]);
+				this.properties[c] = property;
+				c++;
+			} else {
+				final String alias = aliasMap.get(selection[i]);
+				final int index = i;
+				LOGGER.debug(() -> "No property available for selection [" + alias + "] at index [" + index
+						+ "] - skip result value");
+			}
+		}
 	}
 
 	/*
@@ -93,47 +133,33 @@ public abstract class AbstractPropertyBoxConverter<Q> extends AbstractResultConv
 	@Override
 	public PropertyBox convert(JpaExecutionContext context, Q result) throws DataAccessException {
 
-		final JPQLValueDeserializer deserializer = context.getValueDeserializer();
+		final ExpressionDeserializers deserializers = getDeserializers(context.getValueDeserializer());
+
+		final boolean debug = LOGGER.isEnabled(Level.DEBUG);
 
 		try {
 			// build the PropertyBox
 			PropertyBox.Builder builder = PropertyBox.builder(propertySet).invalidAllowed(true);
 
-			LOGGER.debug(() -> "Convert result to a PropertyBox using property set [" + propertySet + "]");
-
-			for (int i = 0; i < selection.length; i++) {
-
-				final TypedExpression<?> expression = selection[i];
-
-				// result index and alias
-				final int index = i;
-				final String alias = selectionAlias.get(expression);
-
-				// property
-				final Property<?> property = selectionProperties.get(expression);
-
-				if (property != null) {
-
-					// get result value
-					final Object value = getResult(result, alias, index);
-
-					LOGGER.debug(() -> "Result value for selection alias [" + alias + "] at index [" + index + "] is ["
-							+ value + "]");
+			if (debug) {
+				LOGGER.debug(() -> "Convert result to a PropertyBox using property set [" + propertySet + "]");
+			}
 
-					// deserialize value
-					Object deserialized = deserializer.deserialize(context, expression, value);
+			for (int i = 0; i < properties.length; i++) {
 
-					LOGGER.debug(() -> "Deserialized value for selection alias [" + alias + "] at index [" + index
-							+ "] is [" + deserialized + "]");
+				// get result value
+				final Object value = getResult(result, aliases[i], indexes[i]);
 
-					// set property value
-					builder.setIgnoreReadOnly((Property<Object>) property, deserialized);
+				// deserialize value
+				final Object deserialized = deserializers.get(i).deserialize(context, value);
 
-				} else {
-					LOGGER.debug(() -> "No property available for selection [" + alias + "] at index [" + index
-							+ "] - skip result value");
+				if (debug) {
+					trace(aliases[i], indexes[i], value, deserialized);
 				}
 
+				// set property value
+				builder.setIgnoreReadOnly((Property<Object>) properties[i], deserialized);
+
 			}
 			return builder.build();
 		} catch (DataAccessException e) {
@@ -143,4 +169,18 @@ public abstract class AbstractPropertyBoxConverter<Q> extends AbstractResultConv
 		}
 	}
 
+	/**
+	 * Get the converted selection deserializers provided by given value deserializer.
+	 * @param deserializer Value deserializer
+	 * @return The converted selection deserializers
+	 */
+	private ExpressionDeserializers getDeserializers(JPQLValueDeserializer deserializer) {
+		final ExpressionDeserializers current = this.deserializers;
+		final ExpressionDeserializers ds = ExpressionDeserializers.of(current, deserializer, expressions);
+		if (ds != current) {
+			this.deserializers = ds;
+		}
+		return ds;
+	}
+
 }
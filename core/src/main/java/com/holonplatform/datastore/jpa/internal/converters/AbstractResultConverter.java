@@ -46,4 +46,16 @@ public abstract class AbstractResultConverter<Q, R> implements JPQLResultConvert
 	 */
 	protected abstract Object getResult(Q queryResult, String alias, int index) throws DataAccessException;
 
+	/**
+	 * Log the result value and the deserialized value of a selection using the <code>DEBUG</code> level.
+	 * @param alias Result alias/label
+	 * @param index Result index
+	 * @param value Result value
+	 * @param deserialized Deserialized value
+	 */
+	protected static void trace(String alias, int index, Object value, Object deserialized) {
+		LOGGER.debug(() -> "Result value for selection alias [" + alias + "] at index [" + index + "] is [" + value
+				+ "] - deserialized value is [" + deserialized + "]");
+	}
+
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.converters;
+
+import com.holonplatform.core.TypedExpression;
+import com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer;
+import com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer.ExpressionValueDeserializer;
+
+/**
+ * The {@link ExpressionValueDeserializer}s of a set of selection expressions, bound to the
+ * {@link JPQLValueDeserializer} which provided them.
+ *
+ * @since 6.0.3
+ */
+final class ExpressionDeserializers {
+
+	/**
+	 * Value deserializer
+	 */
+	private final JPQLValueDeserializer deserializer;
+
+	/**
+	 * Expression deserializers, by selection index
+	 */
+	private final ExpressionValueDeserializer<?>[] deserializers;
+
+	/**
+	 * Constructor.
+	 * @param deserializer Value deserializer
+	 * @param expressions Selection expressions
+	 */
+	private ExpressionDeserializers(JPQLValueDeserializer deserializer, TypedExpression<?>[] expressions) {
+		super();
+		this.deserializer = deserializer;
+		this.deserializers = new ExpressionValueDeserializer<?>[expressions.length];
+		for (int i = 0; i < expressions.length; i++) {
+			this.deserializers[i] = deserializer.getDeserializer(expressions[i]);
+		}
+	}
+
+	/**
+	 * Get the expression deserializer at given selection index.
+	 * @param index Selection index
+	 * @return The expression deserializer
+	 */
+	ExpressionValueDeserializer<?> get(int index) {
+		return deserializers[index];
+	}
+
+	/**
+	 * Get the {@link ExpressionDeserializers} for given <code>deserializer</code>, reusing the <code>current</code>
+	 * ones if bound to the same deserializer.
+	 * @param current Current expression deserializers (may be null)
+	 * @param deserializer Value deserializer
+	 * @param expressions Selection expressions
+	 * @return The expression deserializers
+	 */
+	static ExpressionDeserializers of(ExpressionDeserializers current, JPQLValueDeserializer deserializer,
+			TypedExpression<?>[] expressions) {
+		if (current != null && current.deserializer == deserializer) {
+			return current;
+		}
+		return new ExpressionDeserializers(deserializer, expressions);
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.converters;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.datastore.jpa.context.JpaExecutionContext;
+import com.holonplatform.datastore.jpa.jpql.JPQLResultConverter;
+
+/**
+ * Scalar select all projection result converter, which converts a row of scalar entity attribute values into an
+ * attribute name - value map.
+ *
+ * @since 6.0.3
+ */
+public class ScalarSelectAllResultConverter implements JPQLResultConverter<Object, Map<String, Object>> {
+
+	private final Class<?> queryResultType;
+
+	private final String[] names;
+
+	/**
+	 * Constructor.
+	 * @param names The selected attribute names, in the selection order (not empty)
+	 */
+	public ScalarSelectAllResultConverter(List<String> names) {
+		super();
+		this.names = names.toArray(new String[names.size()]);
+		this.queryResultType = (this.names.length == 1) ? Object.class : Object[].class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLResultConverter#getQueryResultType()
+	 */
+	@Override
+	public Class<?> getQueryResultType() {
+		return queryResultType;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLResultConverter#getConversionType()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Class<? extends Map<String, Object>> getConversionType() {
+		return (Class<? extends Map<String, Object>>) (Class<?>) Map.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLResultConverter#convert(com.holonplatform.datastore.jpa.context.
+	 * JpaExecutionContext, java.lang.Object)
+	 */
+	@Override
+	public Map<String, Object> convert(JpaExecutionContext context, Object result) throws DataAccessException {
+		if (result != null) {
+			final Map<String, Object> map = new HashMap<>((int) (names.length / 0.75f) + 1);
+			if (names.length == 1) {
+				map.put(names[0], result);
+			} else {
+				final Object[] values = (Object[]) result;
+				if (values.length != names.length) {
+					throw new DataAccessException("Query result values count [" + values.length
+							+ "] does not match the selection size [" + names.length + "]");
+				}
+				for (int i = 0; i < names.length; i++) {
+					map.put(names[i], values[i]);
+				}
+			}
+			return map;
+		}
+		return null;
+	}
+
+}
@@ -32,10 +32,15 @@ public class TypedExpressionResultConverter<T> implements JPQLResultConverter<Ob
 
 	private final TypedExpression<T> expression;
 
+	private final TypedExpression<?>[] selection;
+
+	private volatile ExpressionDeserializers deserializers;
+
 	public TypedExpressionResultConverter(TypedExpression<T> expression) {
 		super();
 		ObjectUtils.argumentNotNull(expression, "Expression must be not null");
 		this.expression = expression;
+		this.selection = new TypedExpression<?>[] { expression };
 	}
 
 	/*
@@ -62,9 +67,15 @@ public class TypedExpressionResultConverter<T> implements JPQLResultConverter<Ob
 	 * com.holonplatform.datastore.jpa.operation.JpaResultConverter#convert(com.holonplatform.datastore.jpa.context.
 	 * JpaExecutionContext, java.lang.Object)
 	 */
+	@SuppressWarnings("unchecked")
 	@Override
 	public T convert(JpaExecutionContext context, Object result) throws DataAccessException {
-		return context.getValueDeserializer().deserialize(context, expression, result);
+		final ExpressionDeserializers current = this.deserializers;
+		final ExpressionDeserializers ds = ExpressionDeserializers.of(current, context.getValueDeserializer(), selection);
+		if (ds != current) {
+			this.deserializers = ds;
+		}
+		return (T) ds.get(0).deserialize(context, result);
 	}
 
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.jpql;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.datastore.jpa.internal.JpqlDatastoreLogger;
+import com.holonplatform.datastore.jpa.internal.jpql.expression.DefaultJPQLQuery;
+import com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache;
+import com.holonplatform.datastore.jpa.jpql.JPQLResultConverter;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
+import com.holonplatform.datastore.jpa.jpql.expression.JPQLParameter;
+import com.holonplatform.datastore.jpa.jpql.expression.JPQLQuery;
+
+/**
+ * Default {@link JPQLQueryPlanCache} implementation, using a LRU eviction policy.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJPQLQueryPlanCache implements JPQLQueryPlanCache {
+
+	private static final Logger LOGGER = JpqlDatastoreLogger.create();
+
+	/**
+	 * Parameter names comparator: the generated names are ordered by length first, to support any index size
+	 */
+	private static final Comparator<String> PARAMETER_NAMES_COMPARATOR = Comparator.comparingInt(String::length)
+			.thenComparing(Comparator.naturalOrder());
+
+	private final int maxSize;
+
+	private final Map<JPQLQueryShape, Plan> plans;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * Constructor.
+	 * @param maxSize The maximum number of cached plans (must be greater than 0)
+	 */
+	@SuppressWarnings("serial")
+	public DefaultJPQLQueryPlanCache(int maxSize) {
+		super();
+		if (maxSize < 1) {
+			throw new IllegalArgumentException("The query plan cache size must be greater than 0");
+		}
+		this.maxSize = maxSize;
+		this.plans = new LinkedHashMap<JPQLQueryShape, Plan>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Entry<JPQLQueryShape, Plan> eldest) {
+				return size() > DefaultJPQLQueryPlanCache.this.maxSize;
+			}
+
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache#resolve(com.holonplatform.core.query.QueryOperation,
+	 * com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext, java.util.function.Supplier)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <Q, R> JPQLQuery<Q, R> resolve(QueryOperation<?, ?> operation, JPQLResolutionContext context,
+			Supplier<JPQLQuery<Q, R>> resolver) {
+		ObjectUtils.argumentNotNull(operation, "Query operation must be not null");
+		ObjectUtils.argumentNotNull(context, "Resolution context must be not null");
+		ObjectUtils.argumentNotNull(resolver, "Resolver must be not null");
+
+		final JPQLQueryShape shape = JPQLQueryShape.of(operation, context).orElse(null);
+		if (shape != null) {
+			final Plan plan;
+			synchronized (plans) {
+				plan = plans.get(shape);
+			}
+			if (plan != null) {
+				hits.increment();
+				return (JPQLQuery<Q, R>) plan.bind(shape.getValues(), context);
+			}
+		}
+
+		misses.increment();
+
+		final JPQLQuery<Q, R> query = resolver.get();
+
+		if (shape != null) {
+			Plan.create(query, shape.getValues(), context).ifPresent(plan -> {
+				synchronized (plans) {
+					plans.put(shape, plan);
+				}
+				LOGGER.debug(() -> "Cached query plan for JPQL [" + query.getJPQL() + "]");
+			});
+		}
+
+		return query;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache#getMaxSize()
+	 */
+	@Override
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache#getSize()
+	 */
+	@Override
+	public int getSize() {
+		synchronized (plans) {
+			return plans.size();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache#getHitCount()
+	 */
+	@Override
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache#getMissCount()
+	 */
+	@Override
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache#clear()
+	 */
+	@Override
+	public void clear() {
+		synchronized (plans) {
+			plans.clear();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JPQLQueryPlanCache [maxSize=" + maxSize + ", size=" + getSize() + ", hits=" + getHitCount()
+				+ ", misses=" + getMissCount() + "]";
+	}
+
+	/**
+	 * A cached query plan.
+	 */
+	private static final class Plan {
+
+		private final String jpql;
+
+		private final Class<?> queryResultType;
+
+		private final JPQLResultConverter<?, ?> resultConverter;
+
+		/**
+		 * Parameter definitions, in the parameter names generation order
+		 */
+		private final JPQLParameter<?>[] parameters;
+
+		/**
+		 * Index of the shape value to bind to each parameter
+		 */
+		private final int[] slots;
+
+		Plan(String jpql, Class<?> queryResultType, JPQLResultConverter<?, ?> resultConverter,
+				JPQLParameter<?>[] parameters, int[] slots) {
+			super();
+			this.jpql = jpql;
+			this.queryResultType = queryResultType;
+			this.resultConverter = resultConverter;
+			this.parameters = parameters;
+			this.slots = slots;
+		}
+
+		/**
+		 * Bind given values to the context named parameters and build the {@link JPQLQuery}.
+		 * @param values Values to bind
+		 * @param context Resolution context
+		 * @return The {@link JPQLQuery}
+		 */
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		JPQLQuery<?, ?> bind(List<Object> values, JPQLResolutionContext context) {
+			for (int i = 0; i < parameters.length; i++) {
+				final JPQLParameter<?> parameter = parameters[i];
+				context.addNamedParameter(JPQLParameter.create(values.get(slots[i]), (Class) parameter.getType(),
+						parameter.getTemporalType().orElse(null)));
+			}
+			return new DefaultJPQLQuery(jpql, queryResultType, resultConverter,
+					context.getNamedParametersHandler().getNamedParameters());
+		}
+
+		/**
+		 * Create a plan for given resolved query, if the named parameters of the resolution context can be univocally
+		 * matched with the query shape values. More parameters may be bound to the same value, for example when the
+		 * collection parameters are padded, but each value must be bound to at least one parameter.
+		 * @param query Resolved query
+		 * @param values Query shape values
+		 * @param context Resolution context
+		 * @return Optional plan
+		 */
+		static Optional<Plan> create(JPQLQuery<?, ?> query, List<Object> values, JPQLResolutionContext context) {
+			final Map<String, JPQLParameter<?>> namedParameters = context.getNamedParametersHandler()
+					.getNamedParameters();
+			if (namedParameters.size() < values.size()) {
+				return Optional.empty();
+			}
+			// the values must be distinct to be univocally matched
+			final Map<Object, Integer> indexes = new HashMap<>(values.size() * 2);
+			for (int i = 0; i < values.size(); i++) {
+				if (indexes.put(values.get(i), i) != null) {
+					return Optional.empty();
+				}
+			}
+			final List<String> names = new ArrayList<>(namedParameters.keySet());
+			names.sort(PARAMETER_NAMES_COMPARATOR);
+			final JPQLParameter<?>[] parameters = new JPQLParameter<?>[names.size()];
+			final int[] slots = new int[names.size()];
+			final boolean[] bound = new boolean[values.size()];
+			int boundCount = 0;
+			for (int i = 0; i < names.size(); i++) {
+				final JPQLParameter<?> parameter = namedParameters.get(names.get(i));
+				final Integer index = indexes.get(parameter.getValue());
+				if (index == null) {
+					return Optional.empty();
+				}
+				parameters[i] = parameter;
+				slots[i] = index;
+				if (!bound[index]) {
+					bound[index] = true;
+					boundCount++;
+				}
+			}
+			if (boundCount != values.size()) {
+				return Optional.empty();
+			}
+			return Optional.of(new Plan(query.getJPQL(), query.getQueryResultType(), query.getResultConverter(),
+					parameters, slots));
+		}
+
+	}
+
+}
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.jpql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.internal.JpqlDatastoreLogger;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLContextParametersHandler;
+import com.holonplatform.datastore.jpa.jpql.expression.JPQLParameter;
+
+/**
+ * Default {@link JPQLStatementStatistics} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJPQLStatementStatistics implements JPQLStatementStatistics {
+
+	private static final Logger LOGGER = JpqlDatastoreLogger.create();
+
+	/**
+	 * Parameter names comparator: the generated names are ordered by length first, to support any index size
+	 */
+	private static final Comparator<String> PARAMETER_NAMES_COMPARATOR = Comparator.comparingInt(String::length)
+			.thenComparing(Comparator.naturalOrder());
+
+	/**
+	 * Maximum length of a parameter value in the slow statements log
+	 */
+	private static final int MAX_PARAMETER_VALUE_LENGTH = 64;
+
+	private final int maxStatements;
+
+	private final long slowStatementThreshold;
+
+	private final long slowStatementThresholdNanos;
+
+	private final Map<String, Statement> statements = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 * @param maxStatements The maximum number of tracked statements (must be greater than 0)
+	 * @param slowStatementThreshold The slow statement threshold in milliseconds, a value <code>&lt;= 0</code>
+	 *        disables slow statements detection
+	 */
+	public DefaultJPQLStatementStatistics(int maxStatements, long slowStatementThreshold) {
+		super();
+		if (maxStatements < 1) {
+			throw new IllegalArgumentException("The maximum number of tracked statements must be greater than 0");
+		}
+		this.maxStatements = maxStatements;
+		this.slowStatementThreshold = (slowStatementThreshold > 0) ? slowStatementThreshold : 0L;
+		this.slowStatementThresholdNanos = TimeUnit.MILLISECONDS.toNanos(this.slowStatementThreshold);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics#record(java.lang.String, long, long,
+	 * com.holonplatform.datastore.jpa.jpql.context.JPQLContextParametersHandler)
+	 */
+	@Override
+	public void record(String jpql, long nanos, long rows, JPQLContextParametersHandler parameters) {
+		ObjectUtils.argumentNotNull(jpql, "JPQL statement must be not null");
+
+		Statement statement = statements.get(jpql);
+		if (statement == null) {
+			statement = register(jpql);
+		}
+
+		final boolean slow = slowStatementThresholdNanos > 0 && nanos >= slowStatementThresholdNanos;
+		statement.record(nanos, rows, slow);
+
+		if (slow) {
+			LOGGER.warn("Slow JPQL statement (" + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms, " + rows
+					+ " rows): [" + jpql + "] - Parameters: " + summarize(parameters));
+		}
+	}
+
+	/**
+	 * Register given JPQL statement, discarding the statement with the lowest number of calls if the maximum number
+	 * of tracked statements was reached.
+	 * @param jpql The JPQL statement
+	 * @return The registered statement
+	 */
+	private Statement register(String jpql) {
+		synchronized (statements) {
+			final Statement registered = statements.get(jpql);
+			if (registered != null) {
+				return registered;
+			}
+			if (statements.size() >= maxStatements) {
+				statements.values().stream().min(Comparator.comparingLong(Statement::getCalls))
+						.ifPresent(s -> statements.remove(s.getJPQL()));
+			}
+			final Statement statement = new Statement(jpql);
+			statements.put(jpql, statement);
+			return statement;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics#getStatistics(java.lang.String)
+	 */
+	@Override
+	public Optional<StatementStatistics> getStatistics(String jpql) {
+		return (jpql != null) ? Optional.ofNullable(statements.get(jpql)) : Optional.empty();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics#getStatistics()
+	 */
+	@Override
+	public List<StatementStatistics> getStatistics() {
+		final List<StatementStatistics> statistics = new ArrayList<>(statements.values());
+		statistics.sort(Comparator.comparingLong(StatementStatistics::getTotalTime).reversed());
+		return statistics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics#getMaxStatements()
+	 */
+	@Override
+	public int getMaxStatements() {
+		return maxStatements;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics#getSlowStatementThreshold()
+	 */
+	@Override
+	public long getSlowStatementThreshold() {
+		return slowStatementThreshold;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics#reset()
+	 */
+	@Override
+	public void reset() {
+		synchronized (statements) {
+			statements.clear();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "JPQLStatementStatistics [maxStatements=" + maxStatements + ", slowStatementThreshold="
+				+ slowStatementThreshold + ", statements=" + statements.size() + "]";
+	}
+
+	/**
+	 * Build a summary of given statement parameters, listing the parameter names and the abbreviated values.
+	 * @param parameters The statement parameters
+	 * @return The parameters summary
+	 */
+	private static String summarize(JPQLContextParametersHandler parameters) {
+		if (parameters == null || parameters.getNamedParameters().isEmpty()) {
+			return "[]";
+		}
+		final Map<String, JPQLParameter<?>> named = parameters.getNamedParameters();
+		final List<String> names = new ArrayList<>(named.keySet());
+		names.sort(PARAMETER_NAMES_COMPARATOR);
+		final StringBuilder sb = new StringBuilder("[");
+		for (String name : names) {
+			if (sb.length() > 1) {
+				sb.append(", ");
+			}
+			sb.append(name);
+			sb.append("=");
+			sb.append(summarize(named.get(name).getValue()));
+		}
+		sb.append("]");
+		return sb.toString();
+	}
+
+	/**
+	 * Build a summary of given parameter value.
+	 * @param value The parameter value
+	 * @return The value summary
+	 */
+	private static String summarize(Object value) {
+		if (value == null) {
+			return "null";
+		}
+		if (value instanceof Collection) {
+			return value.getClass().getSimpleName() + "(" + ((Collection<?>) value).size() + " elements)";
+		}
+		final String str = String.valueOf(value);
+		return (str.length() > MAX_PARAMETER_VALUE_LENGTH) ? str.substring(0, MAX_PARAMETER_VALUE_LENGTH) + "..."
+				: str;
+	}
+
+	/**
+	 * The statistics of a JPQL statement.
+	 */
+	private static final class Statement implements StatementStatistics {
+
+		private final String jpql;
+
+		private final LongAdder calls = new LongAdder();
+
+		private final LongAdder totalTime = new LongAdder();
+
+		private final AtomicLong maxTime = new AtomicLong();
+
+		private final LongAdder rows = new LongAdder();
+
+		private final LongAdder slowCalls = new LongAdder();
+
+		Statement(String jpql) {
+			super();
+			this.jpql = jpql;
+		}
+
+		/**
+		 * Record a statement execution.
+		 * @param nanos Execution time
+		 * @param count Rows count
+		 * @param slow Whether the execution exceeded the slow statement threshold
+		 */
+		void record(long nanos, long count, boolean slow) {
+			calls.increment();
+			totalTime.add(nanos);
+			maxTime.accumulateAndGet(nanos, Math::max);
+			if (count > 0) {
+				rows.add(count);
+			}
+			if (slow) {
+				slowCalls.increment();
+			}
+		}
+
+		@Override
+		public String getJPQL() {
+			return jpql;
+		}
+
+		@Override
+		public long getCalls() {
+			return calls.sum();
+		}
+
+		@Override
+		public long getTotalTime() {
+			return totalTime.sum();
+		}
+
+		@Override
+		public long getMaxTime() {
+			return maxTime.get();
+		}
+
+		@Override
+		public long getRows() {
+			return rows.sum();
+		}
+
+		@Override
+		public long getSlowCalls() {
+			return slowCalls.sum();
+		}
+
+		@Override
+		public String toString() {
+			return "StatementStatistics [jpql=" + jpql + ", calls=" + getCalls() + ", totalTime=" + getTotalTime()
+					+ ", maxTime=" + getMaxTime() + ", rows=" + getRows() + ", slowCalls=" + getSlowCalls() + "]";
+		}
+
+	}
+
+}
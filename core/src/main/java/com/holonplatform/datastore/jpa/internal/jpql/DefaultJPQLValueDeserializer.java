@@ -27,8 +27,9 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.util.Calendar;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 
 import com.holonplatform.core.ConverterExpression;
 import com.holonplatform.core.ExpressionValueConverter;
@@ -62,7 +63,7 @@ public enum DefaultJPQLValueDeserializer implements JPQLValueDeserializer {
 	/**
 	 * Additional value processors
 	 */
-	private final List<ValueProcessor> valueProcessors = new LinkedList<>();
+	private final List<ValueProcessor> valueProcessors = new CopyOnWriteArrayList<>();
 
 	/*
 	 * (non-Javadoc)
@@ -119,7 +120,7 @@ public enum DefaultJPQLValueDeserializer implements JPQLValueDeserializer {
 				+ ((converter != null) ? "detected" : "not detected") + " - deserialization target type: [" + targetType
 				+ "]");
 
-		Object deserialized = deserialize(targetType, value);
+		Object deserialized = getConversion(targetType, value.getClass()).apply(value);
 
 		if (converter != null) {
 			if (deserialized == null || TypeUtils.isAssignable(deserialized.getClass(), converter.getModelType())) {
@@ -141,120 +142,244 @@ public enum DefaultJPQLValueDeserializer implements JPQLValueDeserializer {
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer#getDeserializer(com.holonplatform.core.
+	 * TypedExpression)
+	 */
+	@Override
+	public <T> ExpressionValueDeserializer<T> getDeserializer(TypedExpression<T> expression) {
+		ObjectUtils.argumentNotNull(expression, "Value deserialization expression must be not null");
+		return new TypedExpressionValueDeserializer<>(expression, valueProcessors);
+	}
+
 	/**
-	 * Deserialize given <code>value</code> using supported value types.
+	 * Get the function to use to convert a value of given <code>valueType</code> into given <code>targetType</code>,
+	 * using the supported value types.
 	 * @param targetType Target type to obtain
-	 * @param value Value to deserialize (not null)
-	 * @return Optional deserialized value
-	 * @throws DataAccessException If an error occurred
+	 * @param valueType Value type
+	 * @return The conversion function
 	 */
 	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private static Object deserialize(Class<?> targetType, Object value) throws DataAccessException {
+	private static Function<Object, Object> getConversion(Class<?> targetType, Class<?> valueType) {
 		// enum
 		if (TypeUtils.isEnum(targetType)) {
-			return ConversionUtils.convertEnumValue((Class<Enum>) targetType, value);
+			return value -> ConversionUtils.convertEnumValue((Class<Enum>) targetType, value);
 		}
 
 		// number
-		if (TypeUtils.isNumber(targetType) && TypeUtils.isNumber(value.getClass())) {
-			return ConversionUtils.convertNumberToTargetClass((Number) value, (Class<Number>) targetType);
+		if (TypeUtils.isNumber(targetType) && TypeUtils.isNumber(valueType)) {
+			return value -> ConversionUtils.convertNumberToTargetClass((Number) value, (Class<Number>) targetType);
 		}
 
 		// date and times
-		if (Date.class.isAssignableFrom(value.getClass())) {
+		if (Date.class.isAssignableFrom(valueType)) {
 			if (LocalDate.class.isAssignableFrom(targetType)) {
-				return ConversionUtils.toLocalDate((Date) value);
+				return value -> ConversionUtils.toLocalDate((Date) value);
 			}
 			if (LocalDateTime.class.isAssignableFrom(targetType)) {
-				return ConversionUtils.toLocalDateTime((Date) value);
+				return value -> ConversionUtils.toLocalDateTime((Date) value);
 			}
 			if (LocalTime.class.isAssignableFrom(targetType)) {
-				return ConversionUtils.toLocalTime((Date) value);
+				return value -> ConversionUtils.toLocalTime((Date) value);
 			}
 		}
-		if (java.util.Date.class.isAssignableFrom(value.getClass())) {
+		if (java.util.Date.class.isAssignableFrom(valueType)) {
 			if (LocalDate.class.isAssignableFrom(targetType)) {
-				return ConversionUtils.toLocalDate((java.util.Date) value);
+				return value -> ConversionUtils.toLocalDate((java.util.Date) value);
 			}
 			if (LocalDateTime.class.isAssignableFrom(targetType)) {
-				return ConversionUtils.toLocalDateTime((java.util.Date) value);
+				return value -> ConversionUtils.toLocalDateTime((java.util.Date) value);
 			}
 			if (LocalTime.class.isAssignableFrom(targetType)) {
-				return ConversionUtils.toLocalTime((java.util.Date) value);
+				return value -> ConversionUtils.toLocalTime((java.util.Date) value);
 			}
 		}
 
-		if (Timestamp.class.isAssignableFrom(value.getClass())) {
+		if (Timestamp.class.isAssignableFrom(valueType)) {
 			if (LocalDateTime.class.isAssignableFrom(targetType)) {
-				return ((Timestamp) value).toLocalDateTime();
+				return value -> ((Timestamp) value).toLocalDateTime();
 			}
 			if (LocalDate.class.isAssignableFrom(targetType)) {
-				return ((Timestamp) value).toLocalDateTime().toLocalDate();
+				return value -> ((Timestamp) value).toLocalDateTime().toLocalDate();
 			}
 			if (LocalTime.class.isAssignableFrom(targetType)) {
-				return ((Timestamp) value).toLocalDateTime().toLocalTime();
+				return value -> ((Timestamp) value).toLocalDateTime().toLocalTime();
 			}
 			if (java.util.Date.class.isAssignableFrom(targetType)) {
-				Calendar c = Calendar.getInstance();
-				c.setTimeInMillis(((Timestamp) value).getTime());
-				return c.getTime();
+				return value -> {
+					Calendar c = Calendar.getInstance();
+					c.setTimeInMillis(((Timestamp) value).getTime());
+					return c.getTime();
+				};
 			}
 		}
 
-		if (Time.class.isAssignableFrom(value.getClass())) {
+		if (Time.class.isAssignableFrom(valueType)) {
 			if (LocalTime.class.isAssignableFrom(targetType)) {
-				return ((Time) value).toLocalTime();
+				return value -> ((Time) value).toLocalTime();
 			}
 		}
 
-		if (LocalDate.class.isAssignableFrom(value.getClass())) {
+		if (LocalDate.class.isAssignableFrom(valueType)) {
 			if (Date.class.isAssignableFrom(targetType) || java.util.Date.class.isAssignableFrom(targetType)) {
-				return Date.valueOf(((LocalDate) value));
+				return value -> Date.valueOf(((LocalDate) value));
 			}
 		}
-		if (LocalDateTime.class.isAssignableFrom(value.getClass())) {
+		if (LocalDateTime.class.isAssignableFrom(valueType)) {
 			if (Date.class.isAssignableFrom(targetType) || java.util.Date.class.isAssignableFrom(targetType)) {
-				return new Date(Timestamp.valueOf(((LocalDateTime) value)).getTime());
+				return value -> new Date(Timestamp.valueOf(((LocalDateTime) value)).getTime());
 			}
 			if (Timestamp.class.isAssignableFrom(targetType)) {
-				return Timestamp.valueOf(((LocalDateTime) value));
+				return value -> Timestamp.valueOf(((LocalDateTime) value));
 			}
 			if (LocalDate.class.isAssignableFrom(targetType)) {
-				return ((LocalDateTime) value).toLocalDate();
+				return value -> ((LocalDateTime) value).toLocalDate();
 			}
 			if (LocalTime.class.isAssignableFrom(targetType)) {
-				return ((LocalDateTime) value).toLocalTime();
+				return value -> ((LocalDateTime) value).toLocalTime();
 			}
 		}
-		if (OffsetDateTime.class.isAssignableFrom(value.getClass())) {
+		if (OffsetDateTime.class.isAssignableFrom(valueType)) {
 			if (Date.class.isAssignableFrom(targetType) || java.util.Date.class.isAssignableFrom(targetType)) {
-				return new Date(Timestamp.valueOf(((OffsetDateTime) value).toLocalDateTime()).getTime());
+				return value -> new Date(Timestamp.valueOf(((OffsetDateTime) value).toLocalDateTime()).getTime());
 			}
 			if (Timestamp.class.isAssignableFrom(targetType)) {
-				return Timestamp.valueOf(((OffsetDateTime) value).toLocalDateTime());
+				return value -> Timestamp.valueOf(((OffsetDateTime) value).toLocalDateTime());
 			}
 			if (LocalDateTime.class.isAssignableFrom(targetType)) {
-				return ((OffsetDateTime) value).toLocalDateTime();
+				return value -> ((OffsetDateTime) value).toLocalDateTime();
 			}
 			if (LocalDate.class.isAssignableFrom(targetType)) {
-				return ((OffsetDateTime) value).toLocalDate();
+				return value -> ((OffsetDateTime) value).toLocalDate();
 			}
 			if (LocalTime.class.isAssignableFrom(targetType)) {
-				return ((OffsetDateTime) value).toLocalTime();
+				return value -> ((OffsetDateTime) value).toLocalTime();
 			}
 		}
 
 		// String to Reader
-		if (TypeUtils.isString(value.getClass()) && Reader.class.isAssignableFrom(targetType)) {
-			return new StringReader((String) value);
+		if (TypeUtils.isString(valueType) && Reader.class.isAssignableFrom(targetType)) {
+			return value -> new StringReader((String) value);
 		}
 
 		// Byte[] to InputStream
-		if (value instanceof byte[] && InputStream.class.isAssignableFrom(targetType)) {
-			return new ByteArrayInputStream((byte[]) value);
+		if (byte[].class == valueType && InputStream.class.isAssignableFrom(targetType)) {
+			return value -> new ByteArrayInputStream((byte[]) value);
+		}
+
+		return Function.identity();
+	}
+
+	/**
+	 * A {@link ExpressionValueDeserializer} bound to a {@link TypedExpression}, which resolves the expression value
+	 * converter and the deserialization target type only once. The conversion function is resolved by value type and
+	 * reused as long as the values to deserialize have the same type.
+	 *
+	 * @param <T> Expression type
+	 */
+	private static final class TypedExpressionValueDeserializer<T> implements ExpressionValueDeserializer<T> {
+
+		private final TypedExpression<T> expression;
+
+		private final List<ValueProcessor> valueProcessors;
+
+		private final ExpressionValueConverter<Object, Object> converter;
+
+		private final Class<?> targetType;
+
+		/**
+		 * Last used conversion
+		 */
+		private Conversion conversion;
+
+		/**
+		 * Last verified deserialized value type
+		 */
+		private Class<?> verifiedType;
+
+		@SuppressWarnings("unchecked")
+		TypedExpressionValueDeserializer(TypedExpression<T> expression, List<ValueProcessor> valueProcessors) {
+			super();
+			this.expression = expression;
+			this.valueProcessors = valueProcessors;
+			this.converter = (expression instanceof ConverterExpression)
+					? ((ConverterExpression<T>) expression).getExpressionValueConverter()
+							.map(c -> (ExpressionValueConverter<Object, Object>) c).orElse(null)
+					: null;
+			this.targetType = (converter != null) ? converter.getModelType() : expression.getType();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer.ExpressionValueDeserializer#deserialize(com.
+		 * holonplatform.datastore.jpa.context.JpaExecutionContext, java.lang.Object)
+		 */
+		@SuppressWarnings("unchecked")
+		@Override
+		public T deserialize(JpaExecutionContext context, Object valueToDeserialize) throws DataAccessException {
+			Object value = valueToDeserialize;
+
+			// apply processors
+			if (!valueProcessors.isEmpty()) {
+				for (ValueProcessor processor : valueProcessors) {
+					value = processor.processValue(context, expression, value);
+				}
+			}
+
+			// null always deserialized as null
+			if (value == null) {
+				return null;
+			}
+
+			// conversion by value type
+			final Class<?> valueType = value.getClass();
+			Conversion c = conversion;
+			if (c == null || c.valueType != valueType) {
+				c = new Conversion(valueType, getConversion(targetType, valueType));
+				conversion = c;
+			}
+
+			Object deserialized = c.function.apply(value);
+
+			if (converter != null) {
+				if (deserialized == null || TypeUtils.isAssignable(deserialized.getClass(), converter.getModelType())) {
+					deserialized = converter.fromModel(deserialized);
+				}
+				if (deserialized == null) {
+					return null;
+				}
+			}
+
+			// check type
+			final Class<?> deserializedType = deserialized.getClass();
+			if (deserializedType != verifiedType) {
+				if (!TypeUtils.isAssignable(deserializedType, expression.getType())) {
+					throw new DataAccessException("Failed to deserialize value [" + value + "] of type ["
+							+ value.getClass() + "] for required type [" + expression.getType() + "]");
+				}
+				verifiedType = deserializedType;
+			}
+			return (T) deserialized;
+		}
+
+	}
+
+	/**
+	 * Conversion function bound to a value type.
+	 */
+	private static final class Conversion {
+
+		final Class<?> valueType;
+
+		final Function<Object, Object> function;
+
+		Conversion(Class<?> valueType, Function<Object, Object> function) {
+			super();
+			this.valueType = valueType;
+			this.function = function;
 		}
 
-		return value;
 	}
 
 }
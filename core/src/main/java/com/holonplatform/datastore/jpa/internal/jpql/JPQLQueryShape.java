@@ -0,0 +1,373 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.jpql;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.core.CollectionConstantExpression;
+import com.holonplatform.core.ConstantConverterExpression;
+import com.holonplatform.core.Expression;
+import com.holonplatform.core.Path;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.relational.Join;
+import com.holonplatform.core.datastore.relational.RelationalTarget;
+import com.holonplatform.core.internal.query.filter.BetweenFilter;
+import com.holonplatform.core.internal.query.filter.OperationQueryFilter;
+import com.holonplatform.core.internal.query.filter.StringMatchFilter;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.BeanProjection;
+import com.holonplatform.core.query.CountAllProjection;
+import com.holonplatform.core.query.PropertySetProjection;
+import com.holonplatform.core.query.QueryAggregation;
+import com.holonplatform.core.query.QueryConfiguration;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryFilter.CompositeQueryFilter;
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.core.query.QuerySort.CompositeQuerySort;
+import com.holonplatform.core.query.QuerySort.PathQuerySort;
+import com.holonplatform.core.query.SelectAllProjection;
+import com.holonplatform.datastore.jpa.context.JpaContext;
+import com.holonplatform.datastore.jpa.internal.resolvers.JPQLParameterizableExpressionResolver;
+import com.holonplatform.datastore.jpa.internal.resolvers.projection.SelectAllProjectionResolver;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
+
+/**
+ * The structural fingerprint of a {@link QueryOperation}, along with the constant values which were collected while
+ * inspecting the query operation structure.
+ * <p>
+ * The {@link Path} expressions are compared by identity, while the data targets are compared by name, type and data
+ * path. The {@link PropertySet} projections are compared by the identity of their properties and identifiers, so
+ * that a property set built for each query execution, for example from a properties array, matches the same shape.
+ * The constant values are not part of the fingerprint, only their model type and temporal type are.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public final class JPQLQueryShape {
+
+	private final List<Object> key;
+
+	private final List<Object> values;
+
+	private final int hash;
+
+	private JPQLQueryShape(List<Object> key, List<Object> values) {
+		super();
+		this.key = key;
+		this.values = values;
+		this.hash = key.hashCode();
+	}
+
+	/**
+	 * Get the constant values collected while inspecting the query operation, in the inspection order.
+	 * @return The constant values
+	 */
+	public List<Object> getValues() {
+		return values;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return hash;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof JPQLQueryShape)) {
+			return false;
+		}
+		final JPQLQueryShape other = (JPQLQueryShape) obj;
+		return hash == other.hash && key.equals(other.key);
+	}
+
+	/**
+	 * Build the {@link JPQLQueryShape} of given query operation.
+	 * @param operation The query operation (not null)
+	 * @param context The context which will be used to resolve the query operation (not null)
+	 * @return The query operation shape, empty if the query operation structure cannot be reliably inspected
+	 */
+	public static Optional<JPQLQueryShape> of(QueryOperation<?, ?> operation, JpaContext context) {
+		final QueryConfiguration configuration = operation.getConfiguration();
+		// custom resolvers may change the resolution outcome
+		if (configuration.getExpressionResolvers().iterator().hasNext()) {
+			return Optional.empty();
+		}
+		final Builder builder = new Builder(context);
+		if (configuration.getTarget().map(t -> builder.target(t)).orElse(false)
+				&& builder.projection(operation.getProjection())
+				&& configuration.getFilter().map(f -> builder.filter(f)).orElseGet(builder::none)
+				&& configuration.getSort().map(s -> builder.sort(s)).orElseGet(builder::none)
+				&& configuration.getAggregation().map(a -> builder.aggregation(a)).orElseGet(builder::none)) {
+			builder.key.add(configuration.isDistinct());
+			if (operation.getProjection() instanceof SelectAllProjection) {
+				builder.key.add(SelectAllProjectionResolver.isScalarSelectAll(configuration, context));
+			}
+			return Optional.of(new JPQLQueryShape(builder.key, Collections.unmodifiableList(builder.values)));
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Query operation structure inspector.
+	 */
+	private static final class Builder {
+
+		final JpaContext context;
+
+		final List<Object> key = new ArrayList<>();
+
+		final List<Object> values = new ArrayList<>();
+
+		Builder(JpaContext context) {
+			super();
+			this.context = context;
+		}
+
+		boolean none() {
+			key.add(null);
+			return true;
+		}
+
+		boolean target(DataTarget<?> target) {
+			key.add(target.getClass());
+			key.add(target.getName());
+			key.add(target.getType());
+			key.add(target.getDataPath().orElse(null));
+			if (target instanceof RelationalTarget) {
+				final RelationalTarget<?> relationalTarget = (RelationalTarget<?>) target;
+				key.add(relationalTarget.getAlias().orElse(null));
+				key.add(relationalTarget.getJoins().size());
+				for (Join<?> join : relationalTarget.getJoins()) {
+					key.add(join.getClass());
+					key.add(join.getName());
+					key.add(join.getType());
+					key.add(join.getDataPath().orElse(null));
+					key.add(join.getJoinType());
+					key.add(join.getAlias().orElse(null));
+					if (!join.getOn().map(f -> filter(f)).orElseGet(this::none)) {
+						return false;
+					}
+				}
+			}
+			return true;
+		}
+
+		boolean projection(Expression projection) {
+			key.add(projection.getClass());
+			if (projection instanceof PropertySetProjection) {
+				return propertySet(((PropertySetProjection) projection).getPropertySet());
+			}
+			if (projection instanceof BeanProjection) {
+				final BeanProjection<?> beanProjection = (BeanProjection<?>) projection;
+				key.add(beanProjection.getBeanClass());
+				final Path<?>[] selection = beanProjection.getSelection().orElse(null);
+				if (selection != null) {
+					key.add(selection.length);
+					for (Path<?> path : selection) {
+						key.add(new IdentityKey(path));
+					}
+				} else {
+					none();
+				}
+				return true;
+			}
+			if (projection instanceof SelectAllProjection || projection instanceof CountAllProjection) {
+				return true;
+			}
+			if (projection instanceof DataTarget) {
+				return target((DataTarget<?>) projection);
+			}
+			if (projection instanceof Path) {
+				key.add(new IdentityKey(projection));
+				return true;
+			}
+			return false;
+		}
+
+		@SuppressWarnings("rawtypes")
+		boolean propertySet(PropertySet<?> propertySet) {
+			// a configured property set is bound to the result converter by identity
+			if (propertySet.getConfiguration().hasParameters()) {
+				key.add(new IdentityKey(propertySet));
+				return true;
+			}
+			key.add(propertySet.size());
+			for (Property property : propertySet) {
+				key.add(new IdentityKey(property));
+			}
+			key.add(propertySet.getIdentifiers().size());
+			for (Property identifier : propertySet.getIdentifiers()) {
+				key.add(new IdentityKey(identifier));
+			}
+			return true;
+		}
+
+		boolean filter(QueryFilter filter) {
+			key.add(filter.getClass());
+			if (filter instanceof StringMatchFilter) {
+				// the match value is transformed during resolution
+				return false;
+			}
+			if (filter instanceof BetweenFilter) {
+				final BetweenFilter<?> between = (BetweenFilter<?>) filter;
+				if (!operand(between.getLeftOperand())) {
+					return false;
+				}
+				constant(between.getFromValue());
+				constant(between.getToValue());
+				return true;
+			}
+			if (filter instanceof OperationQueryFilter) {
+				final OperationQueryFilter<?> operation = (OperationQueryFilter<?>) filter;
+				key.add(operation.getOperator());
+				return operand(operation.getLeftOperand())
+						&& operation.getRightOperand().map(o -> operand(o)).orElseGet(this::none);
+			}
+			if (filter instanceof CompositeQueryFilter) {
+				final List<QueryFilter> composition = ((CompositeQueryFilter) filter).getComposition();
+				key.add(composition.size());
+				for (QueryFilter f : composition) {
+					if (!filter(f)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return false;
+		}
+
+		boolean operand(Expression operand) {
+			if (operand instanceof Path) {
+				key.add(new IdentityKey(operand));
+				return true;
+			}
+			if (operand instanceof CollectionConstantExpression) {
+				final CollectionConstantExpression<?> collection = (CollectionConstantExpression<?>) operand;
+				key.add(CollectionConstantExpression.class);
+				key.add(collection.getModelType());
+				final Collection<?> elements = collection.getModelValue();
+				if (elements == null) {
+					none();
+					values.add(null);
+				} else if (JPQLParameterizableExpressionResolver.getCollectionParameterMode(collection,
+						context) == JPQLCollectionParameterMode.COLLECTION) {
+					// bound as a single parameter, regardless of the collection size
+					key.add(JPQLCollectionParameterMode.COLLECTION);
+					values.add(new ArrayList<>(elements));
+				} else {
+					key.add(elements.size());
+					values.addAll(elements);
+				}
+				return true;
+			}
+			if (operand instanceof ConstantConverterExpression) {
+				final ConstantConverterExpression<?, ?> constant = (ConstantConverterExpression<?, ?>) operand;
+				key.add(ConstantConverterExpression.class);
+				key.add(constant.getModelType());
+				key.add(constant.getTemporalType().orElse(null));
+				values.add(constant.getModelValue());
+				return true;
+			}
+			return false;
+		}
+
+		void constant(Object value) {
+			key.add((value != null) ? value.getClass() : null);
+			values.add(value);
+		}
+
+		boolean sort(QuerySort sort) {
+			key.add(sort.getClass());
+			if (sort instanceof PathQuerySort) {
+				final PathQuerySort<?> pathSort = (PathQuerySort<?>) sort;
+				key.add(new IdentityKey(pathSort.getPath()));
+				key.add(pathSort.getDirection());
+				return true;
+			}
+			if (sort instanceof CompositeQuerySort) {
+				final List<QuerySort> composition = ((CompositeQuerySort) sort).getComposition();
+				key.add(composition.size());
+				for (QuerySort s : composition) {
+					if (!sort(s)) {
+						return false;
+					}
+				}
+				return true;
+			}
+			return false;
+		}
+
+		boolean aggregation(QueryAggregation aggregation) {
+			final Path<?>[] paths = aggregation.getAggregationPaths();
+			key.add(paths.length);
+			for (Path<?> path : paths) {
+				key.add(new IdentityKey(path));
+			}
+			return aggregation.getAggregationFilter().map(f -> filter(f)).orElseGet(this::none);
+		}
+
+	}
+
+	/**
+	 * A fingerprint element compared by identity.
+	 */
+	private static final class IdentityKey {
+
+		private final Object value;
+
+		IdentityKey(Object value) {
+			super();
+			this.value = value;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(value);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof IdentityKey && ((IdentityKey) obj).value == value;
+		}
+
+	}
+
+}
@@ -18,8 +18,11 @@ package com.holonplatform.datastore.jpa.internal.jpql.context;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManagerFactory;
@@ -29,7 +32,6 @@ import com.holonplatform.core.Expression;
 import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.ExpressionResolver;
 import com.holonplatform.core.ExpressionResolver.ResolutionContext;
-import com.holonplatform.core.ExpressionResolverRegistry;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.core.internal.utils.TypeUtils;
@@ -38,6 +40,7 @@ import com.holonplatform.datastore.jpa.ORMPlatform;
 import com.holonplatform.datastore.jpa.context.JpaContext;
 import com.holonplatform.datastore.jpa.dialect.ORMDialect;
 import com.holonplatform.datastore.jpa.internal.JpqlDatastoreLogger;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueDeserializer;
 import com.holonplatform.datastore.jpa.jpql.JPQLValueSerializer;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextParametersHandler;
@@ -53,9 +56,14 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 	private final static Logger LOGGER = JpqlDatastoreLogger.create();
 
 	/**
-	 * Expression resolvers
+	 * Shared expression resolvers
 	 */
-	private final ExpressionResolverRegistry expressionResolverRegistry = ExpressionResolverRegistry.create();
+	private ExpressionResolverSnapshot expressionResolvers;
+
+	/**
+	 * Context expression resolvers, layered on top of the shared ones
+	 */
+	private ExpressionResolverSnapshot contextExpressionResolvers;
 
 	/**
 	 * JPA context
@@ -89,7 +97,8 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 		this.contextSequence = 0;
 		this.namedParametersHandler = JPQLContextParametersHandler.create();
 		// inherit resolvers
-		addExpressionResolvers(context.getExpressionResolvers());
+		this.expressionResolvers = ExpressionResolverSnapshot.of(context);
+		this.contextExpressionResolvers = ExpressionResolverSnapshot.empty();
 	}
 
 	/**
@@ -105,7 +114,13 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 		this.contextSequence = JPQLResolutionContext.getContextSequence(parent, JPQLResolutionContext.class) + 1;
 		this.namedParametersHandler = parent.getNamedParametersHandler();
 		// inherit resolvers
-		addExpressionResolvers(parent.getExpressionResolvers());
+		if (parent instanceof DefaultJPQLResolutionContext) {
+			this.expressionResolvers = ((DefaultJPQLResolutionContext) parent).expressionResolvers;
+			this.contextExpressionResolvers = ((DefaultJPQLResolutionContext) parent).contextExpressionResolvers;
+		} else {
+			this.expressionResolvers = ExpressionResolverSnapshot.of(parent);
+			this.contextExpressionResolvers = ExpressionResolverSnapshot.empty();
+		}
 	}
 
 	/**
@@ -165,6 +180,51 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 		return getContext().getORMPlatform();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getCollectionParameterMode()
+	 */
+	@Override
+	public JPQLCollectionParameterMode getCollectionParameterMode() {
+		return getContext().getCollectionParameterMode();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#isScalarSelectAll()
+	 */
+	@Override
+	public boolean isScalarSelectAll() {
+		return getContext().isScalarSelectAll();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#isReadOnlyQueries()
+	 */
+	@Override
+	public boolean isReadOnlyQueries() {
+		return getContext().isReadOnlyQueries();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getFetchSize()
+	 */
+	@Override
+	public int getFetchSize() {
+		return getContext().getFetchSize();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getQueryTimeout()
+	 */
+	@Override
+	public int getQueryTimeout() {
+		return getContext().getQueryTimeout();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.datastore.jpa.context.JpaContext#getValueSerializer()
@@ -219,7 +279,12 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 	@SuppressWarnings("rawtypes")
 	@Override
 	public Iterable<ExpressionResolver> getExpressionResolvers() {
-		return expressionResolverRegistry.getExpressionResolvers();
+		if (contextExpressionResolvers.isEmpty()) {
+			return expressionResolvers.getExpressionResolvers();
+		}
+		final List<ExpressionResolver> resolvers = new ArrayList<>(expressionResolvers.getExpressionResolvers());
+		resolvers.addAll(contextExpressionResolvers.getExpressionResolvers());
+		return Collections.unmodifiableList(resolvers);
 	}
 
 	/*
@@ -231,7 +296,8 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 	@Override
 	public <E extends Expression, R extends Expression> Optional<R> resolve(E expression, Class<R> resolutionType,
 			ResolutionContext context) throws InvalidExpressionException {
-		return expressionResolverRegistry.resolve(expression, resolutionType, context);
+		return ExpressionResolverSnapshot.resolve(expressionResolvers, contextExpressionResolvers, expression,
+				resolutionType, context);
 	}
 
 	/*
@@ -243,7 +309,7 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 	@Override
 	public <E extends Expression, R extends Expression> void addExpressionResolver(
 			ExpressionResolver<E, R> expressionResolver) {
-		expressionResolverRegistry.addExpressionResolver(expressionResolver);
+		contextExpressionResolvers = contextExpressionResolvers.with(expressionResolver);
 	}
 
 	/*
@@ -255,7 +321,13 @@ public class DefaultJPQLResolutionContext implements JPQLResolutionContext {
 	@Override
 	public <E extends Expression, R extends Expression> void removeExpressionResolver(
 			ExpressionResolver<E, R> expressionResolver) {
-		expressionResolverRegistry.removeExpressionResolver(expressionResolver);
+		ObjectUtils.argumentNotNull(expressionResolver, "ExpressionResolver to remove must be not null");
+		if (contextExpressionResolvers.contains(expressionResolver)) {
+			contextExpressionResolvers = contextExpressionResolvers.without(expressionResolver);
+		} else {
+			// the shared resolvers are not modified
+			expressionResolvers = expressionResolvers.without(expressionResolver);
+		}
 	}
 
 	/*
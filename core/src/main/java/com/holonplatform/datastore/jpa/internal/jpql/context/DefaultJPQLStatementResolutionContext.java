@@ -25,6 +25,7 @@ import com.holonplatform.core.datastore.relational.Aliasable.AliasablePath;
 import com.holonplatform.core.datastore.relational.RelationalTarget;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.JpaFetchJoin;
 import com.holonplatform.datastore.jpa.context.JpaContext;
 import com.holonplatform.datastore.jpa.internal.JpqlDatastoreLogger;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
@@ -112,7 +113,8 @@ public class DefaultJPQLStatementResolutionContext extends DefaultJPQLResolution
 		// target alias
 		parsePathAlias(rootTarget);
 		// check joins
-		rootTarget.getJoins().forEach(j -> parsePathAlias(j));
+		// fetch joins cannot declare an identification variable
+		rootTarget.getJoins().stream().filter(j -> !(j instanceof JpaFetchJoin)).forEach(j -> parsePathAlias(j));
 	}
 
 	/**
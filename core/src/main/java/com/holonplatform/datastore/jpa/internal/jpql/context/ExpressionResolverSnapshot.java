@@ -0,0 +1,324 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.jpql.context;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.annotation.Priority;
+
+import com.holonplatform.core.Expression;
+import com.holonplatform.core.Expression.InvalidExpressionException;
+import com.holonplatform.core.ExpressionResolver;
+import com.holonplatform.core.ExpressionResolver.ExpressionResolverProvider;
+import com.holonplatform.core.ExpressionResolver.ResolutionContext;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+
+/**
+ * Immutable set of {@link ExpressionResolver}s, sorted by priority and indexed by expression type and resolution
+ * type, which can be safely shared across resolution contexts.
+ * <p>
+ * The resolvers ordering is the same of the default {@link com.holonplatform.core.ExpressionResolverRegistry}: the
+ * resolvers are sorted by the {@link Priority} annotation value, if present, or using the default
+ * <code>10000</code> priority value otherwise, preserving the registration order for resolvers with the same
+ * priority.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+@SuppressWarnings("rawtypes")
+public final class ExpressionResolverSnapshot {
+
+	/**
+	 * Default resolver priority, consistent with the default expression resolver registry
+	 */
+	private static final int DEFAULT_PRIORITY = 10000;
+
+	/**
+	 * Empty snapshot
+	 */
+	private static final ExpressionResolverSnapshot EMPTY = new ExpressionResolverSnapshot(new ExpressionResolver[0],
+			new int[0]);
+
+	/**
+	 * Empty resolution candidates
+	 */
+	private static final Candidates NO_CANDIDATES = new Candidates(new ExpressionResolver[0], new int[0]);
+
+	/**
+	 * Resolvers, sorted by priority
+	 */
+	private final ExpressionResolver[] resolvers;
+
+	/**
+	 * Resolvers priority, with the same order of the resolvers array
+	 */
+	private final int[] priorities;
+
+	/**
+	 * Resolution candidates, by expression type and resolution type
+	 */
+	private final Map<Class<?>, Map<Class<?>, Candidates>> index = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 * @param resolvers Sorted resolvers
+	 * @param priorities Resolvers priority
+	 */
+	private ExpressionResolverSnapshot(ExpressionResolver[] resolvers, int[] priorities) {
+		super();
+		this.resolvers = resolvers;
+		this.priorities = priorities;
+	}
+
+	/**
+	 * Get an empty snapshot.
+	 * @return The empty snapshot
+	 */
+	public static ExpressionResolverSnapshot empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Create a new snapshot using given resolvers.
+	 * @param resolvers The expression resolvers (not null)
+	 * @return A new snapshot, or the empty snapshot if no resolver is provided
+	 */
+	public static ExpressionResolverSnapshot create(Iterable<ExpressionResolver> resolvers) {
+		ObjectUtils.argumentNotNull(resolvers, "Expression resolvers must be not null");
+		final List<ExpressionResolver> list = new ArrayList<>();
+		for (ExpressionResolver resolver : resolvers) {
+			list.add(resolver);
+		}
+		if (list.isEmpty()) {
+			return EMPTY;
+		}
+		// stable sort
+		list.sort(Comparator.comparingInt(ExpressionResolverSnapshot::getPriority));
+		final ExpressionResolver[] sorted = list.toArray(new ExpressionResolver[list.size()]);
+		final int[] priorities = new int[sorted.length];
+		for (int i = 0; i < sorted.length; i++) {
+			priorities[i] = getPriority(sorted[i]);
+		}
+		return new ExpressionResolverSnapshot(sorted, priorities);
+	}
+
+	/**
+	 * Get the snapshot of the expression resolvers of given provider. If the provider is a {@link Provider}, the
+	 * shared snapshot it provides is returned, otherwise a new snapshot is created.
+	 * @param provider The expression resolvers provider (not null)
+	 * @return The expression resolvers snapshot
+	 */
+	public static ExpressionResolverSnapshot of(ExpressionResolverProvider provider) {
+		ObjectUtils.argumentNotNull(provider, "Expression resolvers provider must be not null");
+		if (provider instanceof Provider) {
+			return ((Provider) provider).getExpressionResolverSnapshot();
+		}
+		return create(provider.getExpressionResolvers());
+	}
+
+	/**
+	 * Get whether this snapshot contains no resolver.
+	 * @return <code>true</code> if empty
+	 */
+	public boolean isEmpty() {
+		return resolvers.length == 0;
+	}
+
+	/**
+	 * Get the resolvers, sorted by priority.
+	 * @return Unmodifiable resolvers list
+	 */
+	public List<ExpressionResolver> getExpressionResolvers() {
+		return Collections.unmodifiableList(Arrays.asList(resolvers));
+	}
+
+	/**
+	 * Get whether this snapshot contains given resolver.
+	 * @param resolver The resolver
+	 * @return <code>true</code> if contained
+	 */
+	public boolean contains(ExpressionResolver resolver) {
+		for (ExpressionResolver r : resolvers) {
+			if (r.equals(resolver)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Create a new snapshot which contains the resolvers of this snapshot and given resolver.
+	 * @param resolver The resolver to add (not null)
+	 * @return A new snapshot
+	 */
+	public ExpressionResolverSnapshot with(ExpressionResolver resolver) {
+		ObjectUtils.argumentNotNull(resolver, "ExpressionResolver to add must be not null");
+		final List<ExpressionResolver> list = new ArrayList<>(resolvers.length + 1);
+		list.addAll(Arrays.asList(resolvers));
+		list.add(resolver);
+		return create(list);
+	}
+
+	/**
+	 * Create a new snapshot which contains the resolvers of this snapshot, except for the first occurrence of given
+	 * resolver.
+	 * @param resolver The resolver to remove (not null)
+	 * @return A new snapshot, or this snapshot if it does not contain given resolver
+	 */
+	public ExpressionResolverSnapshot without(ExpressionResolver resolver) {
+		ObjectUtils.argumentNotNull(resolver, "ExpressionResolver to remove must be not null");
+		final List<ExpressionResolver> list = new ArrayList<>(Arrays.asList(resolvers));
+		return list.remove(resolver) ? create(list) : this;
+	}
+
+	/**
+	 * Get the resolvers which can resolve given expression type into given resolution type.
+	 * @param expressionType Expression type
+	 * @param resolutionType Resolution type
+	 * @return The resolution candidates, sorted by priority
+	 */
+	private Candidates getCandidates(Class<?> expressionType, Class<?> resolutionType) {
+		if (resolvers.length == 0) {
+			return NO_CANDIDATES;
+		}
+		Map<Class<?>, Candidates> byResolutionType = index.get(expressionType);
+		if (byResolutionType == null) {
+			byResolutionType = index.computeIfAbsent(expressionType, t -> new ConcurrentHashMap<>(4));
+		}
+		final Candidates candidates = byResolutionType.get(resolutionType);
+		if (candidates != null) {
+			return candidates;
+		}
+		return byResolutionType.computeIfAbsent(resolutionType, t -> lookup(expressionType, t));
+	}
+
+	/**
+	 * Lookup the resolvers which can resolve given expression type into given resolution type.
+	 * @param expressionType Expression type
+	 * @param resolutionType Resolution type
+	 * @return The resolution candidates, sorted by priority
+	 */
+	private Candidates lookup(Class<?> expressionType, Class<?> resolutionType) {
+		final List<Integer> positions = new ArrayList<>();
+		for (int i = 0; i < resolvers.length; i++) {
+			final Class<?> type = resolvers[i].getExpressionType();
+			if (type.isAssignableFrom(expressionType) && resolvers[i].getResolvedType() == resolutionType) {
+				positions.add(i);
+			}
+		}
+		if (positions.isEmpty()) {
+			return NO_CANDIDATES;
+		}
+		final ExpressionResolver[] rs = new ExpressionResolver[positions.size()];
+		final int[] ps = new int[positions.size()];
+		for (int i = 0; i < rs.length; i++) {
+			rs[i] = resolvers[positions.get(i)];
+			ps[i] = priorities[positions.get(i)];
+		}
+		return new Candidates(rs, ps);
+	}
+
+	/**
+	 * Resolve given expression using the resolvers of the <code>base</code> snapshot, layered with the resolvers of
+	 * the <code>overlay</code> snapshot. The resolvers of both the snapshots are invoked by priority and the base
+	 * resolvers precede the overlay ones with the same priority.
+	 * @param <E> Expression type
+	 * @param <R> Resolution type
+	 * @param base Base resolvers (not null)
+	 * @param overlay Overlay resolvers (not null)
+	 * @param expression Expression to resolve (not null)
+	 * @param resolutionType Resolution type (not null)
+	 * @param context Resolution context
+	 * @return The resolved expression, or an empty Optional if no resolver was able to resolve the expression
+	 * @throws InvalidExpressionException If the expression is not valid or an error occurred during resolution
+	 */
+	@SuppressWarnings("unchecked")
+	public static <E extends Expression, R extends Expression> Optional<R> resolve(ExpressionResolverSnapshot base,
+			ExpressionResolverSnapshot overlay, E expression, Class<R> resolutionType, ResolutionContext context)
+			throws InvalidExpressionException {
+		ObjectUtils.argumentNotNull(expression, "Expression to resolve must be not null");
+		ObjectUtils.argumentNotNull(resolutionType, "Resolution type must be not null");
+
+		// validate
+		expression.validate();
+
+		final Candidates b = base.getCandidates(expression.getClass(), resolutionType);
+		final Candidates o = overlay.getCandidates(expression.getClass(), resolutionType);
+
+		int i = 0;
+		int j = 0;
+		while (i < b.resolvers.length || j < o.resolvers.length) {
+			final ExpressionResolver resolver;
+			if (j >= o.resolvers.length || (i < b.resolvers.length && b.priorities[i] <= o.priorities[j])) {
+				resolver = b.resolvers[i++];
+			} else {
+				resolver = o.resolvers[j++];
+			}
+			final Optional<R> resolved = resolver.resolve(expression, context);
+			if (resolved.isPresent()) {
+				return resolved;
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the priority of given resolver.
+	 * @param resolver The resolver
+	 * @return The resolver priority
+	 */
+	private static int getPriority(ExpressionResolver resolver) {
+		final Priority priority = resolver.getClass().getAnnotation(Priority.class);
+		return (priority != null) ? priority.value() : DEFAULT_PRIORITY;
+	}
+
+	/**
+	 * Resolution candidates.
+	 */
+	private static final class Candidates {
+
+		final ExpressionResolver[] resolvers;
+		final int[] priorities;
+
+		Candidates(ExpressionResolver[] resolvers, int[] priorities) {
+			super();
+			this.resolvers = resolvers;
+			this.priorities = priorities;
+		}
+
+	}
+
+	/**
+	 * Provider of a shared {@link ExpressionResolverSnapshot}.
+	 */
+	public interface Provider {
+
+		/**
+		 * Get the current expression resolvers snapshot.
+		 * @return The expression resolvers snapshot
+		 */
+		ExpressionResolverSnapshot getExpressionResolverSnapshot();
+
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.jpql.expression;
+
+import java.util.Map;
+
+import com.holonplatform.core.query.SelectAllProjection;
+
+/**
+ * A {@link SelectAllProjection} which is resolved as a list of scalar entity attributes, rather than selecting the
+ * entity instances.
+ *
+ * @since 6.0.3
+ */
+public enum ScalarSelectAllProjection implements SelectAllProjection {
+
+	/**
+	 * Singleton instance
+	 */
+	INSTANCE;
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.TypedExpression#getType()
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public Class<? extends Map<String, Object>> getType() {
+		return (Class<? extends Map<String, Object>>) (Class<?>) Map.class;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.core.Expression#validate()
+	 */
+	@Override
+	public void validate() throws InvalidExpressionException {
+	}
+
+}
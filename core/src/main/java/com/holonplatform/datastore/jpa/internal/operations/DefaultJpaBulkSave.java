@@ -0,0 +1,299 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.operations;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
+import com.holonplatform.core.datastore.DatastoreCommodityFactory;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaBulkSave;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
+import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
+import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
+import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
+
+/**
+ * Default {@link JpaBulkSave} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaBulkSave implements JpaBulkSave {
+
+	private static final long serialVersionUID = -5312367043938404862L;
+
+	private final static Logger LOGGER = JpaDatastoreLogger.create();
+
+	// Commodity factory
+	@SuppressWarnings("serial")
+	public static final DatastoreCommodityFactory<JpaDatastoreCommodityContext, JpaBulkSave> FACTORY = new DatastoreCommodityFactory<JpaDatastoreCommodityContext, JpaBulkSave>() {
+
+		@Override
+		public Class<? extends JpaBulkSave> getCommodityType() {
+			return JpaBulkSave.class;
+		}
+
+		@Override
+		public JpaBulkSave createCommodity(JpaDatastoreCommodityContext context)
+				throws CommodityConfigurationException {
+			return new DefaultJpaBulkSave(context);
+		}
+	};
+
+	private final transient JpaOperationContext operationContext;
+
+	private DataTarget<?> target;
+
+	private int batchSize = 0;
+
+	public DefaultJpaBulkSave(JpaOperationContext operationContext) {
+		super();
+		this.operationContext = operationContext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaBulkSave#target(com.holonplatform.core.datastore.DataTarget)
+	 */
+	@Override
+	public JpaBulkSave target(DataTarget<?> target) {
+		ObjectUtils.argumentNotNull(target, "Data target must be not null");
+		this.target = target;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaBulkSave#batchSize(int)
+	 */
+	@Override
+	public JpaBulkSave batchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size must be greater than 0");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaBulkSave#execute(java.lang.Iterable)
+	 */
+	@Override
+	public Result execute(Iterable<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		if (target == null) {
+			throw new DataAccessException("Missing bulk save operation data target");
+		}
+
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext, JpaOperationMetrics.OperationType.SAVE,
+				target);
+
+		try {
+			// get entity
+			@SuppressWarnings("unchecked")
+			final JpaEntity<Object> entity = JPQLResolutionContext.create(operationContext).resolveOrFail(target,
+					JpaEntity.class);
+
+			sample.resolved();
+
+			final Result operationResult = operationContext.withEntityManager(entityManager -> {
+
+				// batch size
+				final int size = (batchSize > 0) ? batchSize
+						: JpaBulkInsert.detectBatchSize(operationContext, entityManager);
+				final int operationBatchSize = (size > 0) ? size : DEFAULT_BATCH_SIZE;
+
+				// identifier lookup
+				final SingularAttribute<?, ?> idAttribute = getLookupIdAttribute(entityManager,
+						entity.getEntityClass());
+
+				// entity mapper
+				final EntityMapper<Object> mapper = EntityTargetCache.getMapper(
+						operationContext.getEntityManagerFactory(), entity.getEntityClass(),
+						operationContext.getBeanIntrospector());
+
+				final DefaultResult result = new DefaultResult();
+				final List<Object> batch = new ArrayList<>(operationBatchSize);
+				for (PropertyBox value : values) {
+					batch.add(mapper.create(value));
+					if (batch.size() == operationBatchSize) {
+						saveBatch(entityManager, entity, idAttribute, batch, result);
+						batch.clear();
+					}
+				}
+				if (!batch.isEmpty()) {
+					saveBatch(entityManager, entity, idAttribute, batch, result);
+				}
+
+				return result;
+			});
+
+			sample.executed(operationResult.getAffectedCount());
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
+	}
+
+	/**
+	 * Save a batch of entity instances.
+	 * @param entityManager EntityManager
+	 * @param entity Entity metadata
+	 * @param idAttribute Identifier attribute to use for the existing entities lookup, <code>null</code> if not
+	 *        available
+	 * @param instances Entity instances
+	 * @param result Operation result
+	 */
+	private void saveBatch(EntityManager entityManager, JpaEntity<Object> entity, SingularAttribute<?, ?> idAttribute,
+			List<Object> instances, DefaultResult result) {
+
+		// classify
+		final List<Boolean> isNew = new ArrayList<>(instances.size());
+		final Set<Object> ids = new HashSet<>();
+		for (Object instance : instances) {
+			final boolean n = JpaSave.isNew(operationContext, entity, instance);
+			isNew.add(n);
+			if (!n && idAttribute != null) {
+				entity.getId(instance).ifPresent(ids::add);
+			}
+		}
+
+		// load the existing entities in the persistence context
+		final Set<Object> existing = new HashSet<>();
+		if (!ids.isEmpty()) {
+			final String jpql = "SELECT e FROM " + entity.getEntityName() + " e WHERE e." + idAttribute.getName()
+					+ " IN :ids";
+			operationContext.traceOperation(jpql);
+			for (Object found : entityManager.createQuery(jpql, entity.getEntityClass())
+					.setParameter("ids", new ArrayList<>(ids)).getResultList()) {
+				entity.getId(found).ifPresent(existing::add);
+			}
+		}
+
+		final boolean generatedId = idAttribute != null && isGenerated(idAttribute);
+		for (int i = 0; i < instances.size(); i++) {
+			final Object instance = instances.get(i);
+			if (isNew.get(i)) {
+				entityManager.persist(instance);
+				result.inserted++;
+				continue;
+			}
+			if (idAttribute == null) {
+				entityManager.merge(instance);
+				result.updated++;
+				continue;
+			}
+			final Object id = entity.getId(instance).orElse(null);
+			if (existing.contains(id)) {
+				entityManager.merge(instance);
+				result.updated++;
+			} else {
+				if (generatedId) {
+					// a generated identifier cannot be assigned by the application
+					throw new DataAccessException("Cannot save entity [" + entity.getEntityName()
+							+ "]: no entity exists with the generated identifier value [" + id + "]");
+				}
+				entityManager.persist(instance);
+				existing.add(id);
+				result.inserted++;
+			}
+		}
+
+		entityManager.flush();
+		entityManager.clear();
+
+		operationContext.traceOperation("Bulk SAVE [" + instances.size() + "] entities [" + entity.getEntityName()
+				+ "]: FLUSH EntityManager");
+	}
+
+	/**
+	 * Get the identifier attribute to use for the existing entities lookup, if the entity has a single, basic
+	 * identifier attribute.
+	 * @param entityManager EntityManager
+	 * @param entityClass Entity class
+	 * @return The identifier attribute, <code>null</code> if not available
+	 */
+	private static SingularAttribute<?, ?> getLookupIdAttribute(EntityManager entityManager, Class<?> entityClass) {
+		try {
+			final EntityType<?> type = entityManager.getMetamodel().entity(entityClass);
+			if (type.hasSingleIdAttribute()) {
+				final SingularAttribute<?, ?> id = type.getId(type.getIdType().getJavaType());
+				if (id != null && PersistentAttributeType.BASIC == id.getPersistentAttributeType()) {
+					return id;
+				}
+			}
+		} catch (RuntimeException e) {
+			LOGGER.debug(() -> "Failed to resolve the identifier attribute of entity [" + entityClass.getName() + "]",
+					e);
+		}
+		return null;
+	}
+
+	/**
+	 * Checks whether the value of given identifier attribute is generated.
+	 * @param idAttribute Identifier attribute
+	 * @return <code>true</code> if the identifier attribute is annotated with {@link GeneratedValue}
+	 */
+	private static boolean isGenerated(SingularAttribute<?, ?> idAttribute) {
+		return idAttribute.getJavaMember() instanceof AnnotatedElement
+				&& ((AnnotatedElement) idAttribute.getJavaMember()).isAnnotationPresent(GeneratedValue.class);
+	}
+
+	private static final class DefaultResult implements Result {
+
+		long inserted = 0;
+
+		long updated = 0;
+
+		@Override
+		public long getInsertedCount() {
+			return inserted;
+		}
+
+		@Override
+		public long getUpdatedCount() {
+			return updated;
+		}
+
+		@Override
+		public String toString() {
+			return "BulkSaveResult [inserted=" + inserted + ", updated=" + updated + "]";
+		}
+
+	}
+
+}
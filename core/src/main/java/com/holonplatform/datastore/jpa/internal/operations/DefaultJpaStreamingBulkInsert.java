@@ -0,0 +1,293 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.operations;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityTransaction;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.Datastore.OperationType;
+import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
+import com.holonplatform.core.datastore.DatastoreCommodityFactory;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+import com.holonplatform.datastore.jpa.JpaStreamingBulkInsert;
+import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
+import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
+import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
+import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
+
+/**
+ * Default {@link JpaStreamingBulkInsert} implementation.
+ *
+ * @since 6.0.3
+ */
+public class DefaultJpaStreamingBulkInsert implements JpaStreamingBulkInsert {
+
+	private static final long serialVersionUID = 4370214393460866208L;
+
+	private final static Logger LOGGER = JpaDatastoreLogger.create();
+
+	// Commodity factory
+	@SuppressWarnings("serial")
+	public static final DatastoreCommodityFactory<JpaDatastoreCommodityContext, JpaStreamingBulkInsert> FACTORY = new DatastoreCommodityFactory<JpaDatastoreCommodityContext, JpaStreamingBulkInsert>() {
+
+		@Override
+		public Class<? extends JpaStreamingBulkInsert> getCommodityType() {
+			return JpaStreamingBulkInsert.class;
+		}
+
+		@Override
+		public JpaStreamingBulkInsert createCommodity(JpaDatastoreCommodityContext context)
+				throws CommodityConfigurationException {
+			return new DefaultJpaStreamingBulkInsert(context);
+		}
+	};
+
+	private final transient JpaOperationContext operationContext;
+
+	private DataTarget<?> target;
+
+	private transient PropertySet<?> propertySet;
+
+	private int batchSize = 0;
+
+	private int commitInterval = 0;
+
+	private transient ProgressListener progressListener;
+
+	public DefaultJpaStreamingBulkInsert(JpaOperationContext operationContext) {
+		super();
+		this.operationContext = operationContext;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaStreamingBulkInsert#target(com.holonplatform.core.datastore.DataTarget)
+	 */
+	@Override
+	public JpaStreamingBulkInsert target(DataTarget<?> target) {
+		ObjectUtils.argumentNotNull(target, "Data target must be not null");
+		this.target = target;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaStreamingBulkInsert#propertySet(java.lang.Iterable)
+	 */
+	@Override
+	public <P extends Property<?>> JpaStreamingBulkInsert propertySet(Iterable<P> properties) {
+		ObjectUtils.argumentNotNull(properties, "Properties must be not null");
+		this.propertySet = (properties instanceof PropertySet) ? (PropertySet<?>) properties
+				: PropertySet.of(properties);
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaStreamingBulkInsert#batchSize(int)
+	 */
+	@Override
+	public JpaStreamingBulkInsert batchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("The batch size must be greater than 0");
+		}
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaStreamingBulkInsert#commitInterval(int)
+	 */
+	@Override
+	public JpaStreamingBulkInsert commitInterval(int batches) {
+		if (batches < 0) {
+			throw new IllegalArgumentException("The commit interval must be greater or equal to 0");
+		}
+		this.commitInterval = batches;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaStreamingBulkInsert#progressListener(com.holonplatform.datastore.jpa.
+	 * JpaStreamingBulkInsert.ProgressListener)
+	 */
+	@Override
+	public JpaStreamingBulkInsert progressListener(ProgressListener listener) {
+		this.progressListener = listener;
+		return this;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaStreamingBulkInsert#execute(java.util.Iterator)
+	 */
+	@Override
+	public OperationResult execute(Iterator<? extends PropertyBox> values) {
+		ObjectUtils.argumentNotNull(values, "Values must be not null");
+		if (target == null) {
+			throw new DataAccessException("Missing bulk insert operation data target");
+		}
+		if (propertySet == null) {
+			throw new DataAccessException("Missing bulk insert operation property set");
+		}
+
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.BULK_INSERT, target);
+
+		try {
+			// get entity class
+			final Class<?> entity = JPQLResolutionContext.create(operationContext)
+					.resolveOrFail(target, JpaEntity.class).getEntityClass();
+
+			sample.resolved();
+
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
+
+				// batch size
+				final int size = (batchSize > 0) ? batchSize
+						: JpaBulkInsert.detectBatchSize(operationContext, entityManager);
+				final int operationBatchSize = (size > 0) ? size : DEFAULT_BATCH_SIZE;
+
+				// transaction
+				final EntityTransaction tx = (commitInterval > 0) ? beginTransaction(entityManager) : null;
+
+				// entity mapper
+				final EntityMapper<Object> mapper = EntityTargetCache.getMapper(
+						operationContext.getEntityManagerFactory(), entity, operationContext.getBeanIntrospector());
+
+				// values buffer
+				final PropertyBox box = PropertyBox.builder(propertySet).invalidAllowed(true).build();
+
+				long count = 0;
+				int batch = 0;
+				int pending = 0;
+				long batchStart = System.nanoTime();
+				try {
+					while (values.hasNext()) {
+						JpaBulkInsert.copyValues(propertySet, values.next(), box);
+
+						// persist entity
+						entityManager.persist(mapper.create(box));
+						count++;
+						pending++;
+
+						operationContext.traceOperation("Bulk PERSIST entity [" + entity.getName() + "]");
+
+						// check batch
+						if (pending == operationBatchSize) {
+							batch++;
+							completeBatch(entityManager, tx, entity, batch, count, pending, batchStart);
+							pending = 0;
+							batchStart = System.nanoTime();
+						}
+					}
+
+					// last batch
+					if (pending > 0) {
+						batch++;
+						completeBatch(entityManager, tx, entity, batch, count, pending, batchStart);
+					}
+					if (tx != null) {
+						tx.commit();
+					}
+				} catch (Exception e) {
+					if (tx != null && tx.isActive()) {
+						tx.rollback();
+					}
+					throw e;
+				}
+
+				return OperationResult.builder().type(OperationType.INSERT).affectedCount(count).build();
+
+			});
+
+			sample.executed(operationResult.getAffectedCount());
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
+	}
+
+	/**
+	 * Flush and clear the EntityManager at the end of a batch, committing the transaction if the commit interval is
+	 * reached, and notify the progress listener.
+	 * @param entityManager EntityManager
+	 * @param tx Operation transaction, <code>null</code> if the operation does not manage transactions
+	 * @param entity Entity class
+	 * @param batch Batch number
+	 * @param count Total entities count
+	 * @param batchCount Batch entities count
+	 * @param batchStart Batch start time in nanoseconds
+	 */
+	private void completeBatch(EntityManager entityManager, EntityTransaction tx, Class<?> entity, int batch,
+			long count, int batchCount, long batchStart) {
+		entityManager.flush();
+		entityManager.clear();
+
+		if (tx != null && batch % commitInterval == 0) {
+			tx.commit();
+			operationContext.traceOperation("COMMIT bulk insert transaction");
+			tx.begin();
+		}
+
+		final long elapsed = System.nanoTime() - batchStart;
+		LOGGER.debug(() -> "Streaming bulk PERSIST batch [" + batch + "] of [" + batchCount + "] entities ["
+				+ entity.getName() + "] flushed in [" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "] ms");
+
+		if (progressListener != null) {
+			progressListener.onBatch(batch, count);
+		}
+	}
+
+	/**
+	 * Begin the transaction managed by the operation.
+	 * @param entityManager EntityManager
+	 * @return The transaction
+	 */
+	private static EntityTransaction beginTransaction(EntityManager entityManager) {
+		final EntityTransaction tx;
+		try {
+			tx = entityManager.getTransaction();
+		} catch (IllegalStateException e) {
+			throw new DataAccessException("A commit interval requires a resource-local EntityManager", e);
+		}
+		if (tx.isActive()) {
+			throw new DataAccessException(
+					"A commit interval cannot be used when the operation is executed within a transaction");
+		}
+		tx.begin();
+		return tx;
+	}
+
+}
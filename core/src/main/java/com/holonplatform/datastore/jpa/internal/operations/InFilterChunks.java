@@ -0,0 +1,308 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.operations;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.holonplatform.core.CollectionConstantExpression;
+import com.holonplatform.core.Path;
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.query.QueryDefinition;
+import com.holonplatform.core.internal.query.filter.AndFilter;
+import com.holonplatform.core.internal.query.filter.InFilter;
+import com.holonplatform.core.internal.query.filter.NotInFilter;
+import com.holonplatform.core.internal.query.filter.OperationQueryFilter;
+import com.holonplatform.core.property.Property;
+import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.core.query.BeanProjection;
+import com.holonplatform.core.query.CountAllProjection;
+import com.holonplatform.core.query.PropertySetProjection;
+import com.holonplatform.core.query.QueryConfiguration;
+import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.core.query.QueryFilter.CompositeQueryFilter;
+import com.holonplatform.core.query.QueryFunction;
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.core.query.QueryProjection;
+import com.holonplatform.core.query.SelectAllProjection;
+
+/**
+ * Splits a query operation with a <code>IN</code> filter which exceeds the maximum number of values into a sequence of
+ * query operations, each one using a bounded chunk of the filter values, merging their results.
+ * <p>
+ * The chunk values are disjoint, so each result is returned by at most one chunk query. The chunk queries are lazily
+ * executed one after another while the results are consumed. The limit and the offset of an unsorted query operation
+ * are applied to the merged results. A sorted query operation is not split, since the chunk results could only be
+ * merged in memory, without the database collation and null values ordering, so the merged results may differ from
+ * the ones of a single query.
+ * </p>
+ *
+ * @param <R> Query results type
+ *
+ * @since 6.0.3
+ */
+final class InFilterChunks<R> {
+
+	private final QueryOperation<QueryConfiguration, R> operation;
+
+	private final OperationQueryFilter<?> filter;
+
+	private final List<QueryFilter> restrictions;
+
+	private final List<List<Object>> chunks;
+
+	private InFilterChunks(QueryOperation<QueryConfiguration, R> operation, OperationQueryFilter<?> filter,
+			List<QueryFilter> restrictions, List<List<Object>> chunks) {
+		super();
+		this.operation = operation;
+		this.filter = filter;
+		this.restrictions = restrictions;
+		this.chunks = chunks;
+	}
+
+	/**
+	 * Check whether given query operation has to be split into chunks, i.e. if its filter contains a <code>IN</code>
+	 * filter with more values than the given chunk size.
+	 * @param <R> Query results type
+	 * @param operation The query operation
+	 * @param chunkSize The maximum number of values of a <code>IN</code> filter
+	 * @return The query operation chunks, empty if the query operation has not to be split
+	 * @throws DataAccessException If the query operation has to be split but it cannot be split preserving its
+	 *         semantics
+	 */
+	static <R> Optional<InFilterChunks<R>> of(QueryOperation<QueryConfiguration, R> operation, int chunkSize) {
+		if (chunkSize <= 0) {
+			return Optional.empty();
+		}
+		final QueryConfiguration configuration = operation.getConfiguration();
+		final QueryFilter queryFilter = configuration.getFilter().orElse(null);
+		if (queryFilter == null) {
+			return Optional.empty();
+		}
+
+		// top level conjunction
+		final List<QueryFilter> restrictions = new ArrayList<>();
+		conjunction(queryFilter, restrictions);
+
+		OperationQueryFilter<?> oversized = null;
+		for (QueryFilter restriction : restrictions) {
+			if (restriction instanceof InFilter && getSize(restriction) > chunkSize) {
+				if (oversized != null) {
+					throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+							+ " values: more than one IN filter exceeds the maximum number of values");
+				}
+				oversized = (OperationQueryFilter<?>) restriction;
+			} else {
+				checkNotOversized(restriction, chunkSize);
+			}
+		}
+		if (oversized == null) {
+			return Optional.empty();
+		}
+
+		// check the query operation
+		if (configuration.getAggregation().isPresent()) {
+			throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+					+ " values: queries with an aggregation clause are not supported");
+		}
+		if (configuration.isDistinct()) {
+			throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+					+ " values: distinct queries are not supported");
+		}
+		final QueryProjection<R> projection = operation.getProjection();
+		if (!isSupported(projection)) {
+			throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+					+ " values: the query projection [" + projection + "] is not supported");
+		}
+
+		if (!(projection instanceof CountAllProjection)) {
+			if (configuration.getSort().isPresent()) {
+				throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+						+ " values: sorted queries are not supported");
+			}
+		}
+
+		// disjoint chunks
+		final List<Object> values = new ArrayList<>(new LinkedHashSet<>(getValues(oversized)));
+		final List<List<Object>> chunks = new ArrayList<>((values.size() / chunkSize) + 1);
+		for (int i = 0; i < values.size(); i += chunkSize) {
+			chunks.add(values.subList(i, Math.min(i + chunkSize, values.size())));
+		}
+
+		restrictions.remove(oversized);
+		return Optional.of(new InFilterChunks<>(operation, oversized, restrictions, chunks));
+	}
+
+	/**
+	 * Execute the chunk queries using given executor and merge the results.
+	 * @param executor The function to use to execute a chunk query operation
+	 * @return The merged results stream
+	 */
+	@SuppressWarnings("unchecked")
+	Stream<R> execute(Function<QueryOperation<QueryConfiguration, R>, Stream<R>> executor) {
+		// count
+		if (operation.getProjection() instanceof CountAllProjection) {
+			long count = 0L;
+			for (List<Object> chunk : chunks) {
+				try (Stream<R> results = executor.apply(getChunkOperation(chunk))) {
+					count += results.findFirst().map(c -> ((Number) c).longValue()).orElse(0L);
+				}
+			}
+			return Stream.of((R) Long.valueOf(count));
+		}
+
+		// lazy sequential execution
+		final QueryConfiguration configuration = operation.getConfiguration();
+		Stream<R> results = chunks.stream().flatMap(chunk -> executor.apply(getChunkOperation(chunk)));
+		final int offset = configuration.getOffset().orElse(0);
+		if (offset > 0) {
+			results = results.skip(offset);
+		}
+		final Integer limit = configuration.getLimit().orElse(null);
+		if (limit != null) {
+			results = results.limit(limit);
+		}
+		return results;
+	}
+
+	/**
+	 * Build the query operation for given chunk values.
+	 * @param values The chunk values
+	 * @return The chunk query operation
+	 */
+	private QueryOperation<QueryConfiguration, R> getChunkOperation(List<Object> values) {
+		final QueryConfiguration configuration = operation.getConfiguration();
+		final QueryDefinition definition = QueryDefinition.create();
+		configuration.getTarget().ifPresent(target -> setTarget(definition, target));
+		definition.addFilter(getChunkFilter(filter, values));
+		restrictions.forEach(definition::addFilter);
+		configuration.forEachParameter(definition::addParameter);
+		definition.addExpressionResolvers(configuration.getExpressionResolvers());
+		return QueryOperation.create(definition, operation.getProjection());
+	}
+
+	/**
+	 * Build a <code>IN</code> filter using the left operand of given filter and given values.
+	 * @param <T> Expression type
+	 * @param filter The filter
+	 * @param values The filter values
+	 * @return The chunk filter
+	 */
+	@SuppressWarnings("unchecked")
+	private static <T> QueryFilter getChunkFilter(OperationQueryFilter<T> filter, List<Object> values) {
+		return new InFilter<>(filter.getLeftOperand(),
+				CollectionConstantExpression.create(filter.getLeftOperand(), (Collection<T>) values));
+	}
+
+	private static <T> void setTarget(QueryDefinition definition, DataTarget<T> target) {
+		definition.setTarget(target);
+	}
+
+	/**
+	 * Flatten given filter into the list of its conjunction restrictions.
+	 * @param filter The filter
+	 * @param restrictions The restrictions list
+	 */
+	private static void conjunction(QueryFilter filter, List<QueryFilter> restrictions) {
+		if (filter instanceof AndFilter) {
+			((AndFilter) filter).getComposition().forEach(f -> conjunction(f, restrictions));
+		} else {
+			restrictions.add(filter);
+		}
+	}
+
+	/**
+	 * Check that given filter does not contain a <code>IN</code> or <code>NOT IN</code> filter which exceeds the
+	 * chunk size.
+	 * @param filter The filter to check
+	 * @param chunkSize The chunk size
+	 * @throws DataAccessException If the filter contains an oversized filter
+	 */
+	private static void checkNotOversized(QueryFilter filter, int chunkSize) {
+		if (filter instanceof NotInFilter && getSize(filter) > chunkSize) {
+			throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+					+ " values: a NOT IN filter with " + getSize(filter) + " values cannot be split");
+		}
+		if (filter instanceof InFilter && getSize(filter) > chunkSize) {
+			throw new DataAccessException("The query cannot be split into IN filter chunks of " + chunkSize
+					+ " values: a IN filter with " + getSize(filter)
+					+ " values which is not part of the top level query filter conjunction cannot be split");
+		}
+		if (filter instanceof CompositeQueryFilter) {
+			((CompositeQueryFilter) filter).getComposition().forEach(f -> checkNotOversized(f, chunkSize));
+		}
+	}
+
+	/**
+	 * Get the number of values of given <code>IN</code> or <code>NOT IN</code> filter.
+	 * @param filter The filter
+	 * @return The number of constant values, <code>0</code> if the right operand is not a collection constant
+	 */
+	private static int getSize(QueryFilter filter) {
+		return getValues((OperationQueryFilter<?>) filter).size();
+	}
+
+	/**
+	 * Get the constant values of given <code>IN</code> or <code>NOT IN</code> filter.
+	 * @param filter The filter
+	 * @return The filter values, empty if the right operand is not a collection constant
+	 */
+	private static Collection<?> getValues(OperationQueryFilter<?> filter) {
+		final Object operand = filter.getRightOperand().orElse(null);
+		if (operand instanceof CollectionConstantExpression) {
+			final Collection<?> values = ((CollectionConstantExpression<?>) operand).getValue();
+			if (values != null) {
+				return values;
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Checks whether given projection returns a result for each selected row.
+	 * @param projection The query projection
+	 * @return <code>true</code> if the projection is supported
+	 */
+	private static boolean isSupported(QueryProjection<?> projection) {
+		if (projection instanceof PropertySetProjection) {
+			for (Property<?> property : ((PropertySetProjection) projection).getPropertySet()) {
+				if (isAggregateFunction(property)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (projection instanceof Path) {
+			return !isAggregateFunction(projection);
+		}
+		return projection instanceof BeanProjection || projection instanceof SelectAllProjection
+				|| projection instanceof CountAllProjection || projection instanceof DataTarget;
+	}
+
+	private static boolean isAggregateFunction(Object expression) {
+		return expression instanceof QueryFunction.Count || expression instanceof QueryFunction.Min
+				|| expression instanceof QueryFunction.Max || expression instanceof QueryFunction.Avg
+				|| expression instanceof QueryFunction.Sum;
+	}
+
+}
@@ -16,21 +16,30 @@
 package com.holonplatform.datastore.jpa.internal.operations;
 
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.EntityManager;
 
 import com.holonplatform.core.Expression.InvalidExpressionException;
-import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.Datastore.OperationResult;
 import com.holonplatform.core.datastore.Datastore.OperationType;
 import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.core.datastore.operation.commons.DatastoreOperationConfiguration;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.datastore.bulk.AbstractBulkInsert;
+import com.holonplatform.core.property.Property;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.datastore.jpa.JpaBatchSizeWriteOption;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.JpaWriteOption;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
 import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
@@ -78,75 +87,158 @@ public class JpaBulkInsert extends AbstractBulkInsert {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
-
-		// property set
-		final PropertySet<?> propertySet = getConfiguration().getPropertySet()
-				.orElseThrow(() -> new InvalidExpressionException("Missing bulk insert operation property set"));
-
-		// get entity class
-		final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class).getEntityClass();
-
-		return operationContext.withEntityManager(entityManager -> {
-
-			// try to detect batch size
-			int batchSize = operationContext.getDialect().getBatchSizeConfigurationProperty().map(propertyName -> {
-				Map<String, Object> properties = entityManager.getEntityManagerFactory().getProperties();
-				if (properties != null) {
-					try {
-						Object batchSizeValue = properties.get(propertyName);
-						if (batchSizeValue != null) {
-							if (batchSizeValue instanceof Number) {
-								return ((Number) batchSizeValue).intValue();
-							} else if (batchSizeValue instanceof String) {
-								return Integer.valueOf((String) batchSizeValue);
-							}
-						}
-					} catch (Exception e) {
-						LOGGER.warn("Failed to detect batch insert size", e);
-					}
-				}
-				return 0;
-			}).orElse(0);
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.BULK_INSERT, getConfiguration().getTarget());
 
-			// Bean property set
-			final BeanPropertySet<Object> set = operationContext.getBeanIntrospector().getPropertySet(entity);
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
 
-			int i = 0;
-			for (PropertyBox value : getConfiguration().getValues()) {
+			// property set
+			final PropertySet<?> propertySet = getConfiguration().getPropertySet()
+					.orElseThrow(() -> new InvalidExpressionException("Missing bulk insert operation property set"));
 
-				PropertyBox box = PropertyBox.builder(propertySet).invalidAllowed(true).build();
-				propertySet.forEach(property -> {
-					if (value.contains(property)) {
-						box.setValue(property, value.getValue(property));
-					}
-				});
+			// get entity class
+			final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class)
+					.getEntityClass();
+
+			sample.resolved();
+
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
+
+				// batch size
+				final int batchSize = getBatchSize(operationContext, entityManager, getConfiguration());
+
+				// entity mapper
+				final EntityMapper<Object> mapper = EntityTargetCache.getMapper(
+						operationContext.getEntityManagerFactory(), entity, operationContext.getBeanIntrospector());
+
+				// values buffer
+				final PropertyBox box = PropertyBox.builder(propertySet).invalidAllowed(true).build();
 
-				// persist entity
-				entityManager.persist(set.write(box, entity.getDeclaredConstructor().newInstance()));
+				int count = 0;
+				long batchStart = System.nanoTime();
+				for (PropertyBox value : getConfiguration().getValues()) {
 
-				operationContext.traceOperation("Bulk PERSIST entity [" + entity.getName() + "]");
+					copyValues(propertySet, value, box);
 
-				// check flush
-				if (batchSize > 0 && i % batchSize == 0) {
+					// persist entity
+					entityManager.persist(mapper.create(box));
+					count++;
+
+					operationContext.traceOperation("Bulk PERSIST entity [" + entity.getName() + "]");
+
+					// check flush
+					if (batchSize > 0 && count % batchSize == 0) {
+						entityManager.flush();
+						entityManager.clear();
+
+						traceBatch(entity, count / batchSize, batchSize, batchStart);
+						batchStart = System.nanoTime();
+					}
+				}
+
+				// check auto-flush
+				if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
 					entityManager.flush();
-					entityManager.clear();
+
+					operationContext.traceOperation("FLUSH EntityManager");
 				}
-			}
 
-			// check auto-flush
-			if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
-				entityManager.flush();
+				return OperationResult.builder().type(OperationType.INSERT).affectedCount(count).build();
+
+			});
 
-				operationContext.traceOperation("FLUSH EntityManager");
+			sample.executed(operationResult.getAffectedCount());
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
+	}
+
+	/**
+	 * Copy the values of the properties of given property set from the <code>source</code> {@link PropertyBox} to the
+	 * <code>target</code> one, resetting any previous <code>target</code> value which is not available from the
+	 * <code>source</code>.
+	 * @param propertySet Property set
+	 * @param source Source values
+	 * @param target Target values buffer
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	static void copyValues(PropertySet<?> propertySet, PropertyBox source, PropertyBox target) {
+		for (Property property : propertySet) {
+			if (source.contains(property)) {
+				target.setValue(property, source.getValue(property));
+			} else if (target.containsValue(property)) {
+				target.setValue(property, null);
 			}
+		}
+	}
+
+	/**
+	 * Log the execution time of a bulk operation batch.
+	 * @param entity Entity class
+	 * @param batch Batch number
+	 * @param batchSize Batch size
+	 * @param batchStart Batch start time in nanoseconds
+	 */
+	private static void traceBatch(Class<?> entity, int batch, int batchSize, long batchStart) {
+		final long elapsed = System.nanoTime() - batchStart;
+		LOGGER.debug(() -> "Bulk PERSIST batch [" + batch + "] of [" + batchSize + "] entities [" + entity.getName()
+				+ "] flushed in [" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "] ms");
+	}
 
-			return OperationResult.builder().type(OperationType.INSERT)
-					.affectedCount(getConfiguration().getValues().size()).build();
+	/**
+	 * Get the batch size to use for a bulk operation.
+	 * <p>
+	 * The {@link JpaBatchSizeWriteOption}, if available from the operation configuration, takes precedence over the
+	 * batch size detected from the ORM configuration property, if provided by the current dialect.
+	 * </p>
+	 * @param operationContext Operation context
+	 * @param entityManager Current EntityManager
+	 * @param configuration Operation configuration
+	 * @return The batch size, <code>0</code> if not available
+	 */
+	static int getBatchSize(JpaOperationContext operationContext, EntityManager entityManager,
+			DatastoreOperationConfiguration configuration) {
+		// check write option
+		final Optional<JpaBatchSizeWriteOption> batchSizeOption = configuration
+				.getWriteOption(JpaBatchSizeWriteOption.class);
+		if (batchSizeOption.isPresent()) {
+			return Math.max(batchSizeOption.get().getBatchSize(), 0);
+		}
+		// try to detect batch size
+		return detectBatchSize(operationContext, entityManager);
+	}
 
-		});
+	/**
+	 * Detect the batch size from the ORM configuration property, if provided by the current dialect.
+	 * @param operationContext Operation context
+	 * @param entityManager Current EntityManager
+	 * @return The batch size, <code>0</code> if not available
+	 */
+	static int detectBatchSize(JpaOperationContext operationContext, EntityManager entityManager) {
+		return operationContext.getDialect().getBatchSizeConfigurationProperty().map(propertyName -> {
+			Map<String, Object> properties = entityManager.getEntityManagerFactory().getProperties();
+			if (properties != null) {
+				try {
+					Object batchSizeValue = properties.get(propertyName);
+					if (batchSizeValue != null) {
+						if (batchSizeValue instanceof Number) {
+							return ((Number) batchSizeValue).intValue();
+						} else if (batchSizeValue instanceof String) {
+							return Integer.valueOf((String) batchSizeValue);
+						}
+					}
+				} catch (Exception e) {
+					LOGGER.warn("Failed to detect batch insert size", e);
+				}
+			}
+			return 0;
+		}).orElse(0);
 	}
 
 }
@@ -24,9 +24,11 @@ import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.datastore.bulk.BulkUpdate;
 import com.holonplatform.core.internal.datastore.bulk.AbstractBulkUpdate;
 import com.holonplatform.core.internal.datastore.operation.common.UpdateOperationConfiguration;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.JpaWriteOption;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JPQLStatement;
 
@@ -71,41 +73,63 @@ public class JpaBulkUpdate extends AbstractBulkUpdate {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.BULK_UPDATE, getConfiguration().getTarget());
 
-		// create operation configuration
-		final UpdateOperationConfiguration configuration = UpdateOperationConfiguration.builder()
-				.target(getConfiguration().getTarget()).withWriteOptions(getConfiguration().getWriteOptions())
-				.withExpressionResolvers(getConfiguration().getExpressionResolvers())
-				.values(getConfiguration().getValues()).filter(getConfiguration().getFilter().orElse(null)).build();
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
 
-		// resolve
-		final JPQLStatement statement = context.resolveOrFail(configuration, JPQLStatement.class);
+			// create operation configuration
+			final UpdateOperationConfiguration configuration = UpdateOperationConfiguration.builder()
+					.target(getConfiguration().getTarget()).withWriteOptions(getConfiguration().getWriteOptions())
+					.withExpressionResolvers(getConfiguration().getExpressionResolvers())
+					.values(getConfiguration().getValues()).filter(getConfiguration().getFilter().orElse(null)).build();
 
-		// trace
-		operationContext.trace(statement.getJPQL());
+			// resolve
+			final JPQLStatement statement = context.resolveOrFail(configuration, JPQLStatement.class);
 
-		// execute
-		return operationContext.withEntityManager(entityManager -> {
+			// trace
+			operationContext.trace(statement.getJPQL());
 
-			final Query query = entityManager.createQuery(statement.getJPQL());
+			// execute
+			sample.resolved();
 
-			context.setupQueryParameters(query);
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
 
-			int results = query.executeUpdate();
+				final Query query = entityManager.createQuery(statement.getJPQL());
 
-			// check auto-flush
-			if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
-				entityManager.flush();
+				context.setupQueryParameters(query);
 
-				operationContext.traceOperation("FLUSH EntityManager");
-			}
+				final JPQLStatementStatistics statistics = operationContext.getStatementStatistics().orElse(null);
+				final long start = (statistics != null) ? System.nanoTime() : 0L;
 
-			return OperationResult.builder().type(OperationType.UPDATE).affectedCount(results).build();
+				int results = query.executeUpdate();
 
-		});
+				if (statistics != null) {
+					statistics.record(statement.getJPQL(), System.nanoTime() - start, results,
+							context.getNamedParametersHandler());
+				}
+
+				// check auto-flush
+				if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
+					entityManager.flush();
+
+					operationContext.traceOperation("FLUSH EntityManager");
+				}
+
+				return OperationResult.builder().type(OperationType.UPDATE).affectedCount(results).build();
+
+			});
+
+			sample.executed(operationResult.getAffectedCount());
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
 	}
 
 }
@@ -21,9 +21,11 @@ import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfi
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.datastore.operation.Delete;
 import com.holonplatform.core.internal.datastore.operation.AbstractDelete;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.JpaWriteOption;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
 
@@ -68,41 +70,54 @@ public class JpaDelete extends AbstractDelete {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.DELETE, getConfiguration().getTarget());
 
-		// get entity class
-		final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class).getEntityClass();
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
 
-		return operationContext.withEntityManager(entityManager -> {
+			// get entity class
+			final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class)
+					.getEntityClass();
 
-			// create a new instance
-			Object instance = entity.getDeclaredConstructor().newInstance();
+			sample.resolved();
 
-			// write box values into instance
-			operationContext.getBeanIntrospector().write(getConfiguration().getValue(), instance);
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
 
-			// merge to ensure entity is not detached
-			if (!entityManager.contains(instance)) {
-				instance = entityManager.merge(instance);
-			}
+				// create a new instance and write box values into instance
+				Object instance = EntityTargetCache.getMapper(operationContext.getEntityManagerFactory(), entity,
+						operationContext.getBeanIntrospector()).create(getConfiguration().getValue());
 
-			// delete entity
-			entityManager.remove(instance);
+				// merge to ensure entity is not detached
+				if (!entityManager.contains(instance)) {
+					instance = entityManager.merge(instance);
+				}
 
-			operationContext.traceOperation("REMOVE entity [" + entity.getName() + "]");
+				// delete entity
+				entityManager.remove(instance);
 
-			// check auto-flush
-			if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
-				entityManager.flush();
+				operationContext.traceOperation("REMOVE entity [" + entity.getName() + "]");
 
-				operationContext.traceOperation("FLUSH EntityManager");
-			}
+				// check auto-flush
+				if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
+					entityManager.flush();
 
-			return OperationResult.builder().type(OperationType.DELETE).affectedCount(1).build();
+					operationContext.traceOperation("FLUSH EntityManager");
+				}
 
-		});
+				return OperationResult.builder().type(OperationType.DELETE).affectedCount(1).build();
+
+			});
+
+			sample.executed(operationResult.getAffectedCount());
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
 	}
 
 }
@@ -34,14 +34,18 @@ import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfi
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.datastore.DefaultWriteOption;
 import com.holonplatform.core.datastore.operation.Insert;
+import com.holonplatform.core.datastore.operation.commons.PropertyBoxOperationConfiguration;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.datastore.operation.AbstractInsert;
 import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.property.PathPropertyBoxAdapter;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.JpaWriteOption;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
 import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
@@ -92,41 +96,74 @@ public class JpaInsert extends AbstractInsert {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.INSERT, getConfiguration().getTarget());
 
-		// get entity class
-		final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class).getEntityClass();
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
 
-		return operationContext.withEntityManager(entityManager -> {
+			// get entity class
+			final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class)
+					.getEntityClass();
 
-			// create a new instance
-			Object instance = entity.getDeclaredConstructor().newInstance();
-			// Bean property set
-			final BeanPropertySet<Object> set = operationContext.getBeanIntrospector().getPropertySet(entity);
-			// persist entity
-			entityManager.persist(set.write(getConfiguration().getValue(), instance));
+			sample.resolved();
 
-			operationContext.traceOperation("PERSIST entity [" + entity.getName() + "]");
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
 
-			// check auto-flush
-			if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
-				entityManager.flush();
+				// entity mapper
+				final EntityMapper<Object> mapper = EntityTargetCache.getMapper(
+						operationContext.getEntityManagerFactory(), entity, operationContext.getBeanIntrospector());
+				// create a new instance
+				final Object instance = mapper.create(getConfiguration().getValue());
 
-				operationContext.traceOperation("FLUSH EntityManager");
-			}
+				return persist(operationContext, entityManager, getConfiguration(), mapper.getPropertySet(), entity,
+						instance);
+
+			});
+
+			sample.executed(operationResult.getAffectedCount());
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
+	}
+
+	/**
+	 * Persist given entity instance, which must be already written with the operation value.
+	 * @param operationContext Operation context
+	 * @param entityManager EntityManager
+	 * @param configuration Operation configuration
+	 * @param set Entity bean property set
+	 * @param entity Entity class
+	 * @param instance Entity instance
+	 * @return Operation result
+	 */
+	static OperationResult persist(JpaOperationContext operationContext, EntityManager entityManager,
+			PropertyBoxOperationConfiguration configuration, BeanPropertySet<Object> set, Class<?> entity,
+			Object instance) {
+		// persist entity
+		entityManager.persist(instance);
+
+		operationContext.traceOperation("PERSIST entity [" + entity.getName() + "]");
 
-			OperationResult.Builder result = OperationResult.builder().type(OperationType.INSERT).affectedCount(1);
+		// check auto-flush
+		if (operationContext.isAutoFlush() || configuration.hasWriteOption(JpaWriteOption.FLUSH)) {
+			entityManager.flush();
+
+			operationContext.traceOperation("FLUSH EntityManager");
+		}
 
-			// get ids
-			setInsertedIds(result, entityManager, set, entity, instance,
-					getConfiguration().hasWriteOption(DefaultWriteOption.BRING_BACK_GENERATED_IDS),
-					getConfiguration().getValue());
+		OperationResult.Builder result = OperationResult.builder().type(OperationType.INSERT).affectedCount(1);
 
-			return result.build();
+		// get ids
+		setInsertedIds(result, entityManager, set, entity, instance,
+				configuration.hasWriteOption(DefaultWriteOption.BRING_BACK_GENERATED_IDS), configuration.getValue());
 
-		});
+		return result.build();
 	}
 
 	/**
@@ -15,17 +15,27 @@
  */
 package com.holonplatform.datastore.jpa.internal.operations;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Subgraph;
 import jakarta.persistence.TypedQuery;
 
 import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.query.QueryAdapterQuery;
 import com.holonplatform.core.internal.query.QueryDefinition;
 import com.holonplatform.core.internal.query.QueryUtils;
@@ -41,11 +51,18 @@ import com.holonplatform.core.query.lock.LockMode;
 import com.holonplatform.core.query.lock.LockQuery;
 import com.holonplatform.core.query.lock.LockQueryAdapter;
 import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaEntityGraph;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.JpaQueryHint;
+import com.holonplatform.datastore.jpa.JpaQueryHints;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
+import com.holonplatform.datastore.jpa.context.JpaContext;
 import com.holonplatform.datastore.jpa.context.JpaExecutionContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
 import com.holonplatform.datastore.jpa.jpql.JPQLResultConverter;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLContextParametersHandler;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JPQLQuery;
 
@@ -56,6 +73,8 @@ import com.holonplatform.datastore.jpa.jpql.expression.JPQLQuery;
  */
 public class JpaQuery implements LockQueryAdapter<QueryConfiguration> {
 
+	private final static Logger LOGGER = JpaDatastoreLogger.create();
+
 	// Commodity factory
 	@SuppressWarnings("serial")
 	public static final DatastoreCommodityFactory<JpaDatastoreCommodityContext, Query> FACTORY = new DatastoreCommodityFactory<JpaDatastoreCommodityContext, Query>() {
@@ -100,50 +119,148 @@ public class JpaQuery implements LockQueryAdapter<QueryConfiguration> {
 	@Override
 	public <R> Stream<R> stream(QueryOperation<QueryConfiguration, R> queryOperation) throws DataAccessException {
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(queryOperation.getConfiguration().getExpressionResolvers());
+		// check IN filters chunking
+		final int chunkSize = queryOperation.getConfiguration().getParameter(
+				JpaDatastore.QUERY_PARAMETER_IN_FILTER_CHUNK_SIZE, operationContext.getInFilterChunkSize());
+		if (chunkSize > 0) {
+			final Optional<InFilterChunks<R>> chunks = InFilterChunks.of(queryOperation, chunkSize);
+			if (chunks.isPresent()) {
+				return chunks.get().execute(chunk -> stream(chunk));
+			}
+		}
 
-		// resolve to JPQLQuery
-		@SuppressWarnings("unchecked")
-		final JPQLQuery<Object, R> query = context.resolveOrFail(queryOperation, JPQLQuery.class);
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext, JpaOperationMetrics.OperationType.QUERY,
+				queryOperation.getConfiguration().getTarget().orElse(null));
 
-		// converter
-		final JPQLResultConverter<Object, R> converter = query.getResultConverter();
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(queryOperation.getConfiguration().getExpressionResolvers());
 
-		// check types consistency
-		if (!TypeUtils.isAssignable(converter.getConversionType(), queryOperation.getProjection().getType())) {
-			throw new DataAccessException("The results converter type [" + converter.getConversionType()
-					+ "] is not compatible with the query projection type [" + queryOperation.getProjection().getType()
-					+ "]");
-		}
-		if (!TypeUtils.isAssignable(query.getQueryResultType(), converter.getQueryResultType())) {
-			throw new DataAccessException("The results converter query type [" + converter.getQueryResultType()
-					+ "] is not compatible with the JPQL query result type [" + query.getQueryResultType() + "]");
-		}
+			// resolve to JPQLQuery, using the query plan cache if available
+			final JPQLQuery<Object, R> query = operationContext.getQueryPlanCache()
+					.map(cache -> cache.resolve(queryOperation, context, () -> resolveQuery(queryOperation, context)))
+					.orElseGet(() -> resolveQuery(queryOperation, context));
 
-		// trace
-		operationContext.trace(query.getJPQL());
+			// converter
+			final JPQLResultConverter<Object, R> converter = query.getResultConverter();
 
-		// execute
-		return operationContext.withEntityManager(entityManager -> {
+			// check types consistency
+			if (!TypeUtils.isAssignable(converter.getConversionType(), queryOperation.getProjection().getType())) {
+				throw new DataAccessException("The results converter type [" + converter.getConversionType()
+						+ "] is not compatible with the query projection type ["
+						+ queryOperation.getProjection().getType() + "]");
+			}
+			if (!TypeUtils.isAssignable(query.getQueryResultType(), converter.getQueryResultType())) {
+				throw new DataAccessException("The results converter query type [" + converter.getQueryResultType()
+						+ "] is not compatible with the JPQL query result type [" + query.getQueryResultType() + "]");
+			}
 
-			// configure query
-			final TypedQuery<?> q = createEntityManagerQuery(context, entityManager, query,
-					queryOperation.getConfiguration());
+			sample.resolved();
+
+			// trace
+			operationContext.trace(query.getJPQL());
+
+			// statement statistics
+			final JPQLStatementStatistics statistics = operationContext.getStatementStatistics().orElse(null);
+
+			// check results streaming
+			if (queryOperation.getConfiguration().getParameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS,
+					Boolean.FALSE)) {
+				return operationContext.streamWithEntityManager(entityManager -> {
+
+					// configure query
+					final TypedQuery<?> q = createEntityManagerQuery(context, entityManager, query,
+							queryOperation.getConfiguration());
+
+					// execute and convert results
+					final JpaExecutionContext ctx = JpaExecutionContext.create(operationContext, entityManager);
+
+					try {
+						final long start = (statistics != null) ? System.nanoTime() : 0L;
+						final Stream<?> results = q.getResultStream();
+						sample.executed(-1);
+						final ResultsIterator iterator = new ResultsIterator(results.iterator());
+						if (statistics != null) {
+							iterator.setStatementStatistics(statistics, query.getJPQL(),
+									context.getNamedParametersHandler(), System.nanoTime() - start);
+						}
+						final Stream<Object> stream = QueryUtils.asResultsStream(iterator, () -> {
+							iterator.statementCompleted();
+							results.close();
+						});
+						// release resources as soon as the results are fully consumed
+						iterator.setOnExhausted(stream::close);
+						if (sample.isEnabled()) {
+							return stream.onClose(sample::conversionCompleted)
+									.map(t -> convert(sample, converter, ctx, t));
+						}
+						return stream.map(t -> converter.convert(ctx, t));
+					} catch (PersistenceException e) {
+						// translate PersistenceException using dialect
+						throw operationContext.getDialect().translateException(e);
+					}
+
+				});
+			}
 
-			// execute and convert results
-			final JpaExecutionContext ctx = JpaExecutionContext.create(operationContext, entityManager);
+			// execute
+			return operationContext.withEntityManager(entityManager -> {
+
+				// configure query
+				final TypedQuery<?> q = createEntityManagerQuery(context, entityManager, query,
+						queryOperation.getConfiguration());
+
+				// execute and convert results
+				final JpaExecutionContext ctx = JpaExecutionContext.create(operationContext, entityManager);
+
+				try {
+					final long start = (statistics != null) ? System.nanoTime() : 0L;
+					final List<?> results = q.getResultList();
+					if (statistics != null) {
+						statistics.record(query.getJPQL(), System.nanoTime() - start, results.size(),
+								context.getNamedParametersHandler());
+					}
+					if (sample.isEnabled()) {
+						sample.executed(results.size());
+						final ResultsIterator iterator = new ResultsIterator(results.iterator());
+						iterator.setOnExhausted(sample::conversionCompleted);
+						return QueryUtils.asResultsStream(iterator, sample::conversionCompleted)
+								.map(t -> convert(sample, converter, ctx, t));
+					}
+					return QueryUtils.asResultsStream(results, null).map(t -> converter.convert(ctx, t));
+				} catch (PersistenceException e) {
+					// translate PersistenceException using dialect
+					throw operationContext.getDialect().translateException(e);
+				}
 
-			try {
-				return QueryUtils.asResultsStream(q.getResultList(), null).map(t -> converter.convert(ctx, t));
-			} catch (PersistenceException e) {
-				// translate PersistenceException using dialect
-				throw operationContext.getDialect().translateException(e);
-			}
+			});
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
 
-		});
+	}
 
+	/**
+	 * Convert a query result using given converter, recording the conversion time in given operation sample.
+	 * @param <R> Conversion type
+	 * @param sample Operation sample
+	 * @param converter Result converter
+	 * @param context Execution context
+	 * @param result Query result to convert
+	 * @return The converted result
+	 */
+	private static <R> R convert(OperationSample sample, JPQLResultConverter<Object, R> converter,
+			JpaExecutionContext context, Object result) {
+		final long start = System.nanoTime();
+		try {
+			final R converted = converter.convert(context, result);
+			sample.converted(System.nanoTime() - start);
+			return converted;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
 	}
 
 	/*
@@ -190,6 +307,19 @@ public class JpaQuery implements LockQueryAdapter<QueryConfiguration> {
 		});
 	}
 
+	/**
+	 * Resolve given query operation into a {@link JPQLQuery}.
+	 * @param <R> Query results type
+	 * @param queryOperation Query operation
+	 * @param context Resolution context
+	 * @return The resolved {@link JPQLQuery}
+	 */
+	@SuppressWarnings("unchecked")
+	private static <R> JPQLQuery<Object, R> resolveQuery(QueryOperation<QueryConfiguration, R> queryOperation,
+			JPQLResolutionContext context) {
+		return context.resolveOrFail(queryOperation, JPQLQuery.class);
+	}
+
 	/**
 	 * Create a JPA {@link TypedQuery} using given {@link JPQLQuery} statement and configured according to given query
 	 * configuration.
@@ -213,9 +343,34 @@ public class JpaQuery implements LockQueryAdapter<QueryConfiguration> {
 		configuration.getLimit().ifPresent((l) -> q.setMaxResults(l));
 		configuration.getOffset().ifPresent((o) -> q.setFirstResult(o));
 
+		// fetch size
+		final int fetchSize = configuration.getParameter(JpaDatastore.QUERY_PARAMETER_FETCH_SIZE,
+				context.getFetchSize());
+		if (fetchSize > 0) {
+			context.getDialect().getFetchSizeQueryHint().ifPresent(hint -> q.setHint(hint, fetchSize));
+		}
+
+		// timeout
+		final int queryTimeout = configuration.getParameter(JpaDatastore.QUERY_PARAMETER_TIMEOUT,
+				context.getQueryTimeout());
+		if (queryTimeout > 0) {
+			context.getDialect().getQueryTimeoutHint().ifPresent(hint -> q.setHint(hint, queryTimeout));
+		}
+
+		// read-only hints
+		if (isReadOnly(configuration, context)) {
+			context.getDialect().getReadOnlyQueryHints().forEach((name, value) -> q.setHint(name, value));
+		}
+
+		// entity graph
+		configuration.getParameter(JpaEntityGraph.QUERY_PARAMETER_ENTITY_GRAPH)
+				.ifPresent(graph -> setEntityGraph(entityManager, q, query.getQueryResultType(), graph));
+
 		// query hints
 		configuration.getParameter(JpaQueryHint.QUERY_PARAMETER_HINT)
 				.ifPresent(p -> q.setHint(p.getName(), p.getValue()));
+		configuration.getParameter(JpaQueryHints.QUERY_PARAMETER_HINTS)
+				.ifPresent(hints -> hints.getHints().forEach(p -> q.setHint(p.getName(), p.getValue())));
 
 		// flush mode
 		configuration.getParameter(JpaDatastore.QUERY_PARAMETER_FLUSH_MODE).ifPresent(p -> q.setFlushMode(p));
@@ -237,6 +392,202 @@ public class JpaQuery implements LockQueryAdapter<QueryConfiguration> {
 		return q;
 	}
 
+	/**
+	 * Set the entity graph fetch plan of given query, if the query selects entity instances.
+	 * @param entityManager EntityManager
+	 * @param query The query
+	 * @param resultType The query result type
+	 * @param entityGraph The entity graph definition
+	 */
+	private static void setEntityGraph(EntityManager entityManager, TypedQuery<?> query, Class<?> resultType,
+			JpaEntityGraph entityGraph) {
+		if (!isEntity(entityManager, resultType)) {
+			LOGGER.debug(() -> "The query result type [" + resultType + "] is not an entity type: the entity graph ["
+					+ entityGraph + "] will be ignored");
+			return;
+		}
+		query.setHint(entityGraph.getType().getHintName(), createEntityGraph(entityManager, resultType, entityGraph));
+	}
+
+	/**
+	 * Create a JPA {@link EntityGraph} for given entity class using given entity graph definition.
+	 * @param <T> Entity type
+	 * @param entityManager EntityManager
+	 * @param entityClass Entity class
+	 * @param entityGraph The entity graph definition
+	 * @return The JPA entity graph
+	 */
+	private static <T> EntityGraph<?> createEntityGraph(EntityManager entityManager, Class<T> entityClass,
+			JpaEntityGraph entityGraph) {
+		if (entityGraph.getName().isPresent()) {
+			return entityManager.getEntityGraph(entityGraph.getName().get());
+		}
+
+		// the path prefixes are added as subgraphs only
+		final Set<String> prefixes = new HashSet<>();
+		for (String path : entityGraph.getAttributePaths()) {
+			int index = path.indexOf('.');
+			while (index > 0) {
+				prefixes.add(path.substring(0, index));
+				index = path.indexOf('.', index + 1);
+			}
+		}
+
+		final EntityGraph<T> graph = entityManager.createEntityGraph(entityClass);
+		final Map<String, Subgraph<?>> subgraphs = new HashMap<>();
+		for (String path : entityGraph.getAttributePaths()) {
+			if (prefixes.contains(path)) {
+				continue;
+			}
+			final String[] names = path.split("\\.");
+			Subgraph<?> parent = null;
+			for (int i = 0; i < names.length - 1; i++) {
+				final Subgraph<?> current = parent;
+				final String name = names[i];
+				parent = subgraphs.computeIfAbsent(String.join(".", Arrays.copyOf(names, i + 1)),
+						k -> (current == null) ? graph.addSubgraph(name) : current.addSubgraph(name));
+			}
+			if (parent == null) {
+				graph.addAttributeNodes(names[names.length - 1]);
+			} else {
+				parent.addAttributeNodes(names[names.length - 1]);
+			}
+		}
+		return graph;
+	}
+
+	/**
+	 * Checks whether a query with given configuration has to be executed in read-only mode. The read-only mode is
+	 * never used when the query acquires a lock.
+	 * @param configuration Query configuration
+	 * @param context JPA context
+	 * @return <code>true</code> if the read-only mode is enabled
+	 */
+	static boolean isReadOnly(QueryConfiguration configuration, JpaContext context) {
+		if (configuration.hasNotNullParameter(LockQueryAdapterQuery.LOCK_MODE)
+				|| configuration.hasNotNullParameter(JpaDatastore.QUERY_PARAMETER_LOCK_MODE)) {
+			return false;
+		}
+		return configuration.getParameter(JpaDatastore.QUERY_PARAMETER_READ_ONLY, context.isReadOnlyQueries());
+	}
+
+	/**
+	 * Checks whether given type is a managed entity type.
+	 * @param entityManager EntityManager
+	 * @param type The type to check
+	 * @return <code>true</code> if given type is an entity type
+	 */
+	private static boolean isEntity(EntityManager entityManager, Class<?> type) {
+		try {
+			return type != null && entityManager.getMetamodel().entity(type) != null;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Query results iterator which translates the {@link PersistenceException}s thrown while fetching the results
+	 * and notifies when the results are exhausted. When the statement statistics are enabled, the time spent to fetch
+	 * the results and the fetched rows count are recorded.
+	 */
+	private final class ResultsIterator implements Iterator<Object> {
+
+		private final Iterator<?> iterator;
+
+		private Runnable onExhausted;
+
+		private JPQLStatementStatistics statistics;
+		private String jpql;
+		private JPQLContextParametersHandler parameters;
+		private long nanos;
+		private long rows;
+
+		ResultsIterator(Iterator<?> iterator) {
+			super();
+			this.iterator = iterator;
+		}
+
+		/**
+		 * Set the operation to perform when the results are exhausted.
+		 * @param onExhausted the operation to set
+		 */
+		void setOnExhausted(Runnable onExhausted) {
+			this.onExhausted = onExhausted;
+		}
+
+		/**
+		 * Set the statement statistics to use to record the statement execution.
+		 * @param statistics Statement statistics
+		 * @param jpql The JPQL statement
+		 * @param parameters The statement parameters
+		 * @param executionNanos The statement execution time, before the results fetch
+		 */
+		void setStatementStatistics(JPQLStatementStatistics statistics, String jpql,
+				JPQLContextParametersHandler parameters, long executionNanos) {
+			this.statistics = statistics;
+			this.jpql = jpql;
+			this.parameters = parameters;
+			this.nanos = executionNanos;
+		}
+
+		/**
+		 * Record the statement execution in the statement statistics, if available and not already recorded.
+		 */
+		void statementCompleted() {
+			if (statistics != null) {
+				final JPQLStatementStatistics s = statistics;
+				statistics = null;
+				s.record(jpql, nanos, rows, parameters);
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+			final boolean hasNext;
+			final long start = (statistics != null) ? System.nanoTime() : 0L;
+			try {
+				hasNext = iterator.hasNext();
+			} catch (PersistenceException e) {
+				// translate PersistenceException using dialect
+				throw operationContext.getDialect().translateException(e);
+			}
+			if (statistics != null) {
+				nanos += System.nanoTime() - start;
+			}
+			if (!hasNext && onExhausted != null) {
+				final Runnable operation = onExhausted;
+				onExhausted = null;
+				operation.run();
+			}
+			return hasNext;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Object next() {
+			final long start = (statistics != null) ? System.nanoTime() : 0L;
+			try {
+				final Object next = iterator.next();
+				if (statistics != null) {
+					nanos += System.nanoTime() - start;
+					rows++;
+				}
+				return next;
+			} catch (PersistenceException e) {
+				// translate PersistenceException using dialect
+				throw operationContext.getDialect().translateException(e);
+			}
+		}
+
+	}
+
 	/**
 	 * Get the JPA {@link LockModeType} which corresponds to given {@link LockMode}, if available.
 	 * @param lockMode Lock mode
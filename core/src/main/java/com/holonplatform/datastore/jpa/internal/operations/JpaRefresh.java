@@ -20,8 +20,10 @@ import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.datastore.operation.Refresh;
 import com.holonplatform.core.internal.datastore.operation.AbstractRefresh;
 import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
 
@@ -66,30 +68,45 @@ public class JpaRefresh extends AbstractRefresh {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.REFRESH, getConfiguration().getTarget());
 
-		// get entity class
-		final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class).getEntityClass();
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
 
-		return operationContext.withEntityManager(entityManager -> {
+			// get entity class
+			final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class)
+					.getEntityClass();
 
-			// create a new instance
-			Object instance = operationContext.getBeanIntrospector().write(getConfiguration().getValue(),
-					entity.getDeclaredConstructor().newInstance());
+			sample.resolved();
 
-			// ensure managed
-			Object managed = !entityManager.contains(instance) ? entityManager.merge(instance) : instance;
-			// refresh
-			entityManager.refresh(managed);
+			final PropertyBox operationResult = operationContext.withEntityManager(entityManager -> {
 
-			operationContext.traceOperation("REFRESH entity [" + entity.getName() + "]");
+				// create a new instance
+				Object instance = EntityTargetCache.getMapper(operationContext.getEntityManagerFactory(), entity,
+						operationContext.getBeanIntrospector()).create(getConfiguration().getValue());
 
-			// return refreshed entity property values
-			return operationContext.getBeanIntrospector()
-					.read(PropertyBox.builder(getConfiguration().getValue()).invalidAllowed(true).build(), managed);
-		});
+				// ensure managed
+				Object managed = !entityManager.contains(instance) ? entityManager.merge(instance) : instance;
+				// refresh
+				entityManager.refresh(managed);
+
+				operationContext.traceOperation("REFRESH entity [" + entity.getName() + "]");
+
+				// return refreshed entity property values
+				return operationContext.getBeanIntrospector()
+						.read(PropertyBox.builder(getConfiguration().getValue()).invalidAllowed(true).build(), managed);
+			});
+
+			sample.executed(1);
+
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
 	}
 
 }
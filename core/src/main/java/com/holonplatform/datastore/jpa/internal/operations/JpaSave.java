@@ -15,18 +15,17 @@
  */
 package com.holonplatform.datastore.jpa.internal.operations;
 
-import com.holonplatform.core.beans.BeanPropertySet;
 import com.holonplatform.core.datastore.Datastore.OperationResult;
 import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
-import com.holonplatform.core.datastore.operation.Insert;
 import com.holonplatform.core.datastore.operation.Save;
-import com.holonplatform.core.datastore.operation.Update;
-import com.holonplatform.core.datastore.operation.commons.PropertyBoxOperationConfiguration;
 import com.holonplatform.core.internal.Logger;
 import com.holonplatform.core.internal.datastore.operation.AbstractSave;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
 import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
@@ -74,67 +73,66 @@ public class JpaSave extends AbstractSave {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.SAVE, getConfiguration().getTarget());
 
-		// get entity class
-		@SuppressWarnings("unchecked")
-		final JpaEntity<Object> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class);
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
 
-		return operationContext.withEntityManager(entityManager -> {
+			// get entity class
+			@SuppressWarnings("unchecked")
+			final JpaEntity<Object> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class);
 
-			// Bean property set
-			final BeanPropertySet<Object> set = operationContext.getBeanIntrospector()
-					.getPropertySet(entity.getEntityClass());
+			sample.resolved();
 
-			// create instance and write values
-			Object instance = set.write(getConfiguration().getValue(),
-					entity.getEntityClass().getDeclaredConstructor().newInstance());
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
 
-			OperationResult result;
+				// entity mapper
+				final EntityMapper<Object> mapper = EntityTargetCache.getMapper(
+						operationContext.getEntityManagerFactory(), entity.getEntityClass(),
+						operationContext.getBeanIntrospector());
 
-			// check has identifier
-			boolean isNew;
-			try {
-				isNew = entity.isNew(instance);
-			} catch (IllegalStateException e) {
-				LOGGER.debug(
-						() -> "New entity instance check not available from entity metadata, falling back to PersistenceUnitUtil.getIdentifier",
-						e);
-				isNew = operationContext.getEntityManagerFactory().getPersistenceUnitUtil()
-						.getIdentifier(instance) == null;
-			}
+				// create instance and write values, reused by the insert or update operation
+				final Object instance = mapper.create(getConfiguration().getValue());
 
-			if (isNew) {
-				result = insert(getConfiguration());
-			} else {
-				result = update(getConfiguration());
-			}
+				// check has identifier
+				if (isNew(operationContext, entity, instance)) {
+					return JpaInsert.persist(operationContext, entityManager, getConfiguration(),
+							mapper.getPropertySet(), entity.getEntityClass(), instance);
+				}
+				return JpaUpdate.merge(operationContext, entityManager, getConfiguration(), entity.getEntityClass(),
+						instance);
 
-			return result;
+			});
 
-		});
-	}
+			sample.executed(operationResult.getAffectedCount());
 
-	/**
-	 * Perform an insert operation using given <code>configuration</code>.
-	 * @param configuration Operation configuration
-	 * @return Operation result
-	 */
-	private OperationResult insert(PropertyBoxOperationConfiguration configuration) {
-		return operationContext.create(Insert.class).target(configuration.getTarget()).value(configuration.getValue())
-				.withWriteOptions(configuration.getWriteOptions()).execute();
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
 	}
 
 	/**
-	 * Perform an update operation using given <code>configuration</code>.
-	 * @param configuration Operation configuration
-	 * @return Operation result
+	 * Checks whether given entity instance has to be considered new, falling back to the
+	 * <code>PersistenceUnitUtil</code> identifier check if the entity identifier metadata are not available.
+	 * @param operationContext Operation context
+	 * @param entity Entity metadata
+	 * @param instance Entity instance
+	 * @return <code>true</code> if the entity instance has to be considered new
 	 */
-	private OperationResult update(PropertyBoxOperationConfiguration configuration) {
-		return operationContext.create(Update.class).target(configuration.getTarget()).value(configuration.getValue())
-				.withWriteOptions(configuration.getWriteOptions()).execute();
+	static boolean isNew(JpaOperationContext operationContext, JpaEntity<Object> entity, Object instance) {
+		try {
+			return entity.isNew(instance);
+		} catch (IllegalStateException e) {
+			LOGGER.debug(
+					() -> "New entity instance check not available from entity metadata, falling back to PersistenceUnitUtil.getIdentifier",
+					e);
+			return operationContext.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(instance) == null;
+		}
 	}
 
 }
@@ -15,15 +15,20 @@
  */
 package com.holonplatform.datastore.jpa.internal.operations;
 
+import jakarta.persistence.EntityManager;
+
 import com.holonplatform.core.datastore.Datastore.OperationResult;
 import com.holonplatform.core.datastore.Datastore.OperationType;
 import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
 import com.holonplatform.core.datastore.DatastoreCommodityFactory;
 import com.holonplatform.core.datastore.operation.Update;
+import com.holonplatform.core.datastore.operation.commons.PropertyBoxOperationConfiguration;
 import com.holonplatform.core.internal.datastore.operation.AbstractUpdate;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.JpaWriteOption;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
 
@@ -68,33 +73,65 @@ public class JpaUpdate extends AbstractUpdate {
 		// validate
 		getConfiguration().validate();
 
-		// composition context
-		final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
-		context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+		// metrics
+		final OperationSample sample = OperationSample.start(operationContext,
+				JpaOperationMetrics.OperationType.UPDATE, getConfiguration().getTarget());
+
+		try {
+			// composition context
+			final JPQLResolutionContext context = JPQLResolutionContext.create(operationContext);
+			context.addExpressionResolvers(getConfiguration().getExpressionResolvers());
+
+			// get entity class
+			final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class)
+					.getEntityClass();
+
+			sample.resolved();
+
+			final OperationResult operationResult = operationContext.withEntityManager(entityManager -> {
 
-		// get entity class
-		final Class<?> entity = context.resolveOrFail(getConfiguration().getTarget(), JpaEntity.class).getEntityClass();
+				// create a new instance
+				final Object instance = EntityTargetCache
+						.getMapper(operationContext.getEntityManagerFactory(), entity,
+								operationContext.getBeanIntrospector())
+						.create(getConfiguration().getValue());
 
-		return operationContext.withEntityManager(entityManager -> {
+				return merge(operationContext, entityManager, getConfiguration(), entity, instance);
 
-			// create a new instance
-			Object instance = entity.getDeclaredConstructor().newInstance();
+			});
 
-			// merge entity
-			entityManager.merge(operationContext.getBeanIntrospector().write(getConfiguration().getValue(), instance));
+			sample.executed(operationResult.getAffectedCount());
 
-			operationContext.traceOperation("MERGE entity [" + entity.getName() + "]");
+			return operationResult;
+		} catch (RuntimeException e) {
+			throw sample.failed(e);
+		}
+	}
 
-			// check auto-flush
-			if (operationContext.isAutoFlush() || getConfiguration().hasWriteOption(JpaWriteOption.FLUSH)) {
-				entityManager.flush();
+	/**
+	 * Merge given entity instance, which must be already written with the operation value.
+	 * @param operationContext Operation context
+	 * @param entityManager EntityManager
+	 * @param configuration Operation configuration
+	 * @param entity Entity class
+	 * @param instance Entity instance
+	 * @return Operation result
+	 */
+	static OperationResult merge(JpaOperationContext operationContext, EntityManager entityManager,
+			PropertyBoxOperationConfiguration configuration, Class<?> entity, Object instance) {
+		// merge entity
+		entityManager.merge(instance);
 
-				operationContext.traceOperation("FLUSH EntityManager");
-			}
+		operationContext.traceOperation("MERGE entity [" + entity.getName() + "]");
 
-			return OperationResult.builder().type(OperationType.UPDATE).affectedCount(1).build();
+		// check auto-flush
+		if (operationContext.isAutoFlush() || configuration.hasWriteOption(JpaWriteOption.FLUSH)) {
+			entityManager.flush();
+
+			operationContext.traceOperation("FLUSH EntityManager");
+		}
 
-		});
+		return OperationResult.builder().type(OperationType.UPDATE).affectedCount(1).build();
 	}
 
 }
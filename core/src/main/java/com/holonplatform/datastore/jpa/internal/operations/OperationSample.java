@@ -0,0 +1,185 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.internal.operations;
+
+import java.util.Optional;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics.Operation;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics.OperationType;
+import com.holonplatform.datastore.jpa.context.JpaOperationContext;
+
+/**
+ * The metrics sample of a single Datastore operation execution, which records the operation metrics using the
+ * {@link JpaOperationMetrics} hook of the operation context, if available.
+ * <p>
+ * When no {@link JpaOperationMetrics} hook is available, a shared no-op sample is used.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+final class OperationSample implements Operation {
+
+	/**
+	 * No-op sample
+	 */
+	private static final OperationSample NONE = new OperationSample(null, null, null, Optional.empty());
+
+	private final JpaOperationMetrics metrics;
+	private final OperationType type;
+	private final String target;
+	private final Optional<String> dataContextId;
+
+	/**
+	 * Last recorded time, in nanoseconds
+	 */
+	private long mark;
+
+	/**
+	 * Conversion metrics
+	 */
+	private long conversionNanos;
+	private long conversionRows;
+	private boolean conversionRecorded;
+
+	private OperationSample(JpaOperationMetrics metrics, OperationType type, String target,
+			Optional<String> dataContextId) {
+		super();
+		this.metrics = metrics;
+		this.type = type;
+		this.target = target;
+		this.dataContextId = dataContextId;
+		this.mark = (metrics != null) ? System.nanoTime() : 0L;
+	}
+
+	/**
+	 * Start a new operation sample.
+	 * @param context Operation context
+	 * @param type Operation type
+	 * @param target Operation target
+	 * @return The operation sample, a no-op sample if no {@link JpaOperationMetrics} hook is available
+	 */
+	static OperationSample start(JpaOperationContext context, OperationType type, DataTarget<?> target) {
+		final JpaOperationMetrics metrics = context.getOperationMetrics().orElse(null);
+		if (metrics == null) {
+			return NONE;
+		}
+		return new OperationSample(metrics, type, (target != null) ? target.getName() : null,
+				context.getDataContextId());
+	}
+
+	/**
+	 * Get whether the operation metrics are enabled for this sample.
+	 * @return <code>true</code> if enabled
+	 */
+	boolean isEnabled() {
+		return metrics != null;
+	}
+
+	/**
+	 * Record the operation resolution time, since the sample start.
+	 */
+	void resolved() {
+		if (metrics != null) {
+			final long now = System.nanoTime();
+			metrics.recordResolution(this, now - mark);
+			mark = now;
+		}
+	}
+
+	/**
+	 * Record the operation execution time, since the operation resolution.
+	 * @param count Affected or fetched rows count
+	 */
+	void executed(long count) {
+		if (metrics != null) {
+			final long now = System.nanoTime();
+			metrics.recordExecution(this, now - mark, count);
+			mark = now;
+		}
+	}
+
+	/**
+	 * Accumulate the conversion time of a query result row.
+	 * @param nanos Row conversion time, in nanoseconds
+	 */
+	void converted(long nanos) {
+		conversionNanos += nanos;
+		conversionRows++;
+	}
+
+	/**
+	 * Record the accumulated conversion metrics, if not already recorded.
+	 */
+	void conversionCompleted() {
+		if (metrics != null && !conversionRecorded) {
+			conversionRecorded = true;
+			metrics.recordConversion(this, conversionNanos, conversionRows);
+		}
+	}
+
+	/**
+	 * Record an operation error.
+	 * @param <E> Error type
+	 * @param error The error
+	 * @return The error
+	 */
+	<E extends Throwable> E failed(E error) {
+		if (metrics != null) {
+			metrics.recordError(this, error);
+		}
+		return error;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaOperationMetrics.Operation#getType()
+	 */
+	@Override
+	public OperationType getType() {
+		return type;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaOperationMetrics.Operation#getTarget()
+	 */
+	@Override
+	public String getTarget() {
+		return target;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.holonplatform.datastore.jpa.JpaOperationMetrics.Operation#getDataContextId()
+	 */
+	@Override
+	public Optional<String> getDataContextId() {
+		return dataContextId;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "Operation [type=" + type + ", target=" + target + ", dataContextId=" + dataContextId.orElse(null)
+				+ "]";
+	}
+
+}
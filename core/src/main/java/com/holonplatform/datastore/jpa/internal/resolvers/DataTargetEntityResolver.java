@@ -15,11 +15,7 @@
  */
 package com.holonplatform.datastore.jpa.internal.resolvers;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-import java.util.WeakHashMap;
 
 import jakarta.annotation.Priority;
 import jakarta.persistence.EntityManagerFactory;
@@ -46,8 +42,6 @@ public enum DataTargetEntityResolver implements JPQLContextExpressionResolver<Da
 	 */
 	INSTANCE;
 
-	private final static WeakHashMap<EntityManagerFactory, Map<Class<?>, JpaEntity<?>>> ENTITY_CACHE = new WeakHashMap<>();
-
 	/*
 	 * (non-Javadoc)
 	 * @see com.holonplatform.core.ExpressionResolver#getExpressionType()
@@ -94,16 +88,8 @@ public enum DataTargetEntityResolver implements JPQLContextExpressionResolver<Da
 							+ "]: an entity class with given entity name is not available from JPA metamodel"));
 		}
 
-		// check cache
-		Map<Class<?>, JpaEntity<?>> cached = ENTITY_CACHE.getOrDefault(emf, Collections.emptyMap());
-		if (cached.containsKey(entityClass)) {
-			return Optional.of(cached.get(entityClass));
-		}
-
-		// create JpaEntity and cache it
-		final JpaEntity entity = JpaEntity.create(emf.getMetamodel(), entityClass);
-
-		ENTITY_CACHE.computeIfAbsent(emf, c -> new HashMap<>()).put(entityClass, entity);
+		// get cached or create JpaEntity
+		final JpaEntity entity = EntityTargetCache.getEntity(emf, entityClass);
 
 		return Optional.of(entity);
 	}
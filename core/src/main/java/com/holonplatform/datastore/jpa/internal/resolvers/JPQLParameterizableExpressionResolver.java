@@ -15,9 +15,11 @@
  */
 package com.holonplatform.datastore.jpa.internal.resolvers;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.StringJoiner;
 
 import jakarta.annotation.Priority;
 
@@ -26,6 +28,9 @@ import com.holonplatform.core.ConstantConverterExpression;
 import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.NullExpression;
 import com.holonplatform.core.TypedExpression;
+import com.holonplatform.core.internal.utils.TypeUtils;
+import com.holonplatform.datastore.jpa.context.JpaContext;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextExpressionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JPQLExpression;
@@ -97,9 +102,7 @@ public enum JPQLParameterizableExpressionResolver
 			if (values == null) {
 				namedParameter = context.addNamedParameter(JPQLParameter.create(null, collection.getModelType()));
 			} else {
-				namedParameter = values.stream()
-						.map(value -> context.addNamedParameter(JPQLParameter.create(value, collection.getModelType())))
-						.collect(Collectors.joining(","));
+				namedParameter = addCollectionParameters(collection, values, context);
 			}
 		}
 
@@ -120,4 +123,69 @@ public enum JPQLParameterizableExpressionResolver
 		return context.resolve(expression, JPQLExpression.class);
 	}
 
+	/**
+	 * Add the named parameters to bind given collection values, according to the collection parameter mode.
+	 * @param collection Collection expression
+	 * @param values Collection values
+	 * @param context Resolution context
+	 * @return The comma separated named parameters
+	 */
+	@SuppressWarnings("unchecked")
+	private static String addCollectionParameters(CollectionConstantExpression<?> collection, Collection<?> values,
+			JPQLResolutionContext context) {
+		final JPQLCollectionParameterMode mode = getCollectionParameterMode(collection, context);
+		// single collection-valued parameter
+		if (mode == JPQLCollectionParameterMode.COLLECTION) {
+			return context.addNamedParameter(JPQLParameter.create(new ArrayList<>(values), (Class) List.class));
+		}
+		// one parameter for each element
+		final StringJoiner parameters = new StringJoiner(",");
+		Object last = null;
+		for (Object value : values) {
+			parameters.add(context.addNamedParameter(JPQLParameter.create(value, collection.getModelType())));
+			last = value;
+		}
+		// pad to the next power of two repeating the last element
+		if (mode == JPQLCollectionParameterMode.EXPAND_PADDED) {
+			for (int i = values.size(); i < getPaddedSize(values.size()); i++) {
+				parameters.add(context.addNamedParameter(JPQLParameter.create(last, collection.getModelType())));
+			}
+		}
+		return parameters.toString();
+	}
+
+	/**
+	 * Get the {@link JPQLCollectionParameterMode} to use to bind the values of given collection expression, according
+	 * to the collection parameter mode of the context, the collection element type and the dialect capabilities.
+	 * @param collection The collection expression (not null)
+	 * @param context The context (not null)
+	 * @return The collection parameter mode to use
+	 */
+	public static JPQLCollectionParameterMode getCollectionParameterMode(CollectionConstantExpression<?> collection,
+			JpaContext context) {
+		final JPQLCollectionParameterMode mode = context.getCollectionParameterMode();
+		if (mode == JPQLCollectionParameterMode.COLLECTION) {
+			final Collection<?> values = collection.getModelValue();
+			if (values == null || values.isEmpty()) {
+				return JPQLCollectionParameterMode.EXPAND;
+			}
+			// temporal values which require a parameter type conversion must be expanded
+			final Class<?> type = collection.getModelType();
+			if (TypeUtils.isDate(type) || TypeUtils.isCalendar(type)
+					|| (TypeUtils.isLocalTemporal(type) && !context.getDialect().temporalTypeParametersSupported())) {
+				return JPQLCollectionParameterMode.EXPAND_PADDED;
+			}
+		}
+		return mode;
+	}
+
+	/**
+	 * Get the padded parameters count for given collection size, i.e. the next power of two.
+	 * @param size Collection size
+	 * @return The padded size
+	 */
+	private static int getPaddedSize(int size) {
+		return (size <= 1) ? size : Integer.highestOneBit(size - 1) << 1;
+	}
+
 }
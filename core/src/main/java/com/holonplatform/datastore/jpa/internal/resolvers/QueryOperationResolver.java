@@ -20,11 +20,15 @@ import java.util.stream.Collectors;
 
 import jakarta.annotation.Priority;
 
+import com.holonplatform.core.Expression;
 import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.datastore.relational.RelationalTarget;
 import com.holonplatform.core.query.QueryConfiguration;
 import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.core.query.SelectAllProjection;
 import com.holonplatform.datastore.jpa.internal.jpql.expression.DefaultJPQLQueryDefinition;
+import com.holonplatform.datastore.jpa.internal.jpql.expression.ScalarSelectAllProjection;
+import com.holonplatform.datastore.jpa.internal.resolvers.projection.SelectAllProjectionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextExpressionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLStatementResolutionContext;
@@ -91,9 +95,6 @@ public enum QueryOperationResolver implements JPQLContextExpressionResolver<Quer
 		final JPQLStatementResolutionContext queryContext = JPQLStatementResolutionContext.asChild(context, target,
 				AliasMode.AUTO);
 
-		// ------- from
-		clauses.setFrom(queryContext.resolveOrFail(target, JPQLExpression.class).getValue());
-
 		// ------- where
 		configuration.getFilter().ifPresent(f -> {
 			// add clause
@@ -115,8 +116,19 @@ public enum QueryOperationResolver implements JPQLContextExpressionResolver<Quer
 		// ------- select
 		clauses.setDistinct(configuration.isDistinct());
 
-		final JPQLProjection<?, ?> projection = queryContext.resolveOrFail(expression.getProjection(),
-				JPQLProjection.class);
+		final Expression selection = (expression.getProjection() instanceof SelectAllProjection
+				&& SelectAllProjectionResolver.isScalarSelectAll(configuration, context))
+						? ScalarSelectAllProjection.INSTANCE
+						: expression.getProjection();
+		final JPQLProjection<?, ?> projection = queryContext.resolveOrFail(selection, JPQLProjection.class);
+
+		// ------- from
+		if (RelationalTargetResolver.hasFetchJoins(target) && !isRootSelection(queryContext, target, projection)) {
+			// fetch joins are only allowed when the root entity is selected
+			clauses.setFrom(RelationalTargetResolver.resolveTarget(queryContext, target, false));
+		} else {
+			clauses.setFrom(queryContext.resolveOrFail(target, JPQLExpression.class).getValue());
+		}
 
 		// add clause
 		clauses.setSelect(projection.getSelection().stream()
@@ -134,4 +146,17 @@ public enum QueryOperationResolver implements JPQLContextExpressionResolver<Quer
 		return Optional.of(clauses);
 	}
 
+	/**
+	 * Checks whether given projection selects the root target entity instances only.
+	 * @param context Statement resolution context
+	 * @param target Root target
+	 * @param projection Query projection
+	 * @return <code>true</code> if the projection selection is the root target alias
+	 */
+	private static boolean isRootSelection(JPQLStatementResolutionContext context, RelationalTarget<?> target,
+			JPQLProjection<?, ?> projection) {
+		return projection.getSelection().size() == 1
+				&& context.getAlias(target, false).map(a -> a.equals(projection.getSelection().get(0))).orElse(false);
+	}
+
 }
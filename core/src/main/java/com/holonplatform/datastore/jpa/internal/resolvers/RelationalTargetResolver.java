@@ -16,15 +16,16 @@
 package com.holonplatform.datastore.jpa.internal.resolvers;
 
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import jakarta.annotation.Priority;
 
 import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.Path;
 import com.holonplatform.core.datastore.relational.Join;
+import com.holonplatform.core.datastore.relational.Join.JoinType;
 import com.holonplatform.core.datastore.relational.RelationalTarget;
 import com.holonplatform.core.internal.utils.ObjectUtils;
+import com.holonplatform.datastore.jpa.JpaFetchJoin;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextExpressionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JPQLExpression;
@@ -70,17 +71,47 @@ public enum RelationalTargetResolver implements JPQLContextExpressionResolver<Re
 		// validate
 		expression.validate();
 
+		return Optional.of(JPQLExpression.create(resolveTarget(context, expression, true)));
+	}
+
+	/**
+	 * Resolve given {@link RelationalTarget} into the JPQL <code>FROM</code> clause.
+	 * <p>
+	 * When the query does not select the root entity instances, the fetch joins are not allowed by JPQL: in this
+	 * case, each {@link JpaFetchJoin} is resolved as a plain join, so that the query rows are the same of the
+	 * entity query.
+	 * </p>
+	 * @param context Resolution context
+	 * @param target Target to resolve
+	 * @param fetch Whether to resolve the {@link JpaFetchJoin}s as fetch joins
+	 * @return Resolved target JPQL
+	 * @throws InvalidExpressionException If an error occurred
+	 */
+	public static String resolveTarget(JPQLResolutionContext context, RelationalTarget<?> target, boolean fetch)
+			throws InvalidExpressionException {
 		final StringBuilder sb = new StringBuilder();
 
 		// root path
-		sb.append(getJPQLPath(context, expression));
+		sb.append(getJPQLPath(context, target));
 
 		// resolve joins
-		// resolve joins
-		sb.append(((RelationalTarget<?>) expression).getJoins().stream().map(j -> resolveJoin(context, j))
-				.collect(Collectors.joining(" ")));
+		int index = 0;
+		for (Join<?> join : target.getJoins()) {
+			sb.append((join instanceof JpaFetchJoin) ? resolveFetchJoin(context, target, (JpaFetchJoin<?>) join,
+					fetch ? null : ("_f" + index)) : resolveJoin(context, join));
+			index++;
+		}
 
-		return Optional.of(JPQLExpression.create(sb.toString().trim()));
+		return sb.toString().trim();
+	}
+
+	/**
+	 * Checks whether given target declares any {@link JpaFetchJoin}.
+	 * @param target The target
+	 * @return <code>true</code> if the target declares at least one fetch join
+	 */
+	public static boolean hasFetchJoins(RelationalTarget<?> target) {
+		return target.getJoins().stream().anyMatch(j -> j instanceof JpaFetchJoin);
 	}
 
 	/**
@@ -99,6 +130,39 @@ public enum RelationalTargetResolver implements JPQLContextExpressionResolver<Re
 		})).orElse(path.getName());
 	}
 
+	/**
+	 * Resolve a {@link JpaFetchJoin} clause, using the root target alias to qualify the association attribute path.
+	 * @param context Resolution context
+	 * @param target Root target
+	 * @param join Fetch join to resolve
+	 * @param plainJoinAliasSuffix If not <code>null</code>, the join is resolved as a plain join and the association
+	 *        is aliased using the root target alias followed by this suffix
+	 * @return Resolved fetch join JPQL
+	 * @throws InvalidExpressionException If the root target alias is not available
+	 */
+	private static String resolveFetchJoin(JPQLResolutionContext context, RelationalTarget<?> target,
+			JpaFetchJoin<?> join, String plainJoinAliasSuffix) throws InvalidExpressionException {
+		final String alias = context.isStatementCompositionContext().flatMap(ctx -> ctx.getAlias(target, false))
+				.orElseThrow(() -> new InvalidExpressionException(
+						"Missing the root target alias to resolve the fetch join [" + join + "]"));
+
+		final StringBuilder sb = new StringBuilder();
+		sb.append(" ");
+		sb.append((join.getJoinType() == JoinType.LEFT) ? "LEFT JOIN " : "JOIN ");
+		if (plainJoinAliasSuffix == null) {
+			sb.append("FETCH ");
+		}
+		sb.append(alias);
+		sb.append(".");
+		sb.append(join.getName());
+		if (plainJoinAliasSuffix != null) {
+			sb.append(" ");
+			sb.append(alias);
+			sb.append(plainJoinAliasSuffix);
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Resolve a {@link Join} clause.
 	 * @param sb String builder to use to append the resolved join JPQL
@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import jakarta.annotation.Priority;
 
+import com.holonplatform.core.CollectionConstantExpression;
 import com.holonplatform.core.ConstantConverterExpression;
 import com.holonplatform.core.Expression;
 import com.holonplatform.core.Expression.InvalidExpressionException;
@@ -44,6 +45,7 @@ import com.holonplatform.core.internal.query.filter.OrFilter;
 import com.holonplatform.core.internal.query.filter.StringMatchFilter;
 import com.holonplatform.core.query.QueryFilter;
 import com.holonplatform.core.query.StringFunction.Lower;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextExpressionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.expression.JPQLExpression;
@@ -185,9 +187,8 @@ public enum VisitableQueryFilterResolver implements JPQLContextExpressionResolve
 	public <T> JPQLExpression visit(InFilter<T> filter, JPQLResolutionContext context) {
 		StringBuilder sb = new StringBuilder();
 		sb.append(serialize(filter.getLeftOperand(), context));
-		sb.append(" IN (");
-		sb.append(serializeRightOperand(filter, context));
-		sb.append(")");
+		sb.append(" IN ");
+		sb.append(serializeInRightOperand(filter, context));
 		return JPQLExpression.create(sb.toString());
 	}
 
@@ -200,9 +201,8 @@ public enum VisitableQueryFilterResolver implements JPQLContextExpressionResolve
 	public <T> JPQLExpression visit(NotInFilter<T> filter, JPQLResolutionContext context) {
 		StringBuilder sb = new StringBuilder();
 		sb.append(serialize(filter.getLeftOperand(), context));
-		sb.append(" NOT IN (");
-		sb.append(serializeRightOperand(filter, context));
-		sb.append(")");
+		sb.append(" NOT IN ");
+		sb.append(serializeInRightOperand(filter, context));
 		return JPQLExpression.create(sb.toString());
 	}
 
@@ -378,4 +378,23 @@ public enum VisitableQueryFilterResolver implements JPQLContextExpressionResolve
 		return context.resolveOrFail(JPQLParameterizableExpression.create(operand), JPQLExpression.class).getValue();
 	}
 
+	/**
+	 * Serialize the right operand of a <code>IN</code> filter, enclosing it in parentheses unless it is bound as a
+	 * single collection-valued parameter.
+	 * @param filter Filter
+	 * @param context Resolution context
+	 * @return Serialized right operand
+	 * @throws InvalidExpressionException If the right operand is missing or cannot be resolved
+	 */
+	private static String serializeInRightOperand(OperationQueryFilter<?> filter, JPQLResolutionContext context)
+			throws InvalidExpressionException {
+		final String operand = serializeRightOperand(filter, context);
+		final boolean collectionParameter = filter.getRightOperand()
+				.filter(o -> o instanceof CollectionConstantExpression)
+				.map(o -> JPQLParameterizableExpressionResolver.getCollectionParameterMode(
+						(CollectionConstantExpression<?>) o, context) == JPQLCollectionParameterMode.COLLECTION)
+				.orElse(false);
+		return collectionParameter ? operand : "(" + operand + ")";
+	}
+
 }
@@ -15,16 +15,28 @@
  */
 package com.holonplatform.datastore.jpa.internal.resolvers.projection;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import jakarta.annotation.Priority;
+import jakarta.persistence.metamodel.Attribute.PersistentAttributeType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
 
 import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.internal.query.lock.LockQueryAdapterQuery;
+import com.holonplatform.core.query.QueryConfiguration;
 import com.holonplatform.core.query.SelectAllProjection;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.context.JpaContext;
+import com.holonplatform.datastore.jpa.internal.converters.ScalarSelectAllResultConverter;
 import com.holonplatform.datastore.jpa.internal.converters.SelectAllResultConverter;
 import com.holonplatform.datastore.jpa.internal.jpql.expression.DefaultJPQLProjection;
+import com.holonplatform.datastore.jpa.internal.jpql.expression.ScalarSelectAllProjection;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextExpressionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLStatementResolutionContext;
@@ -33,6 +45,10 @@ import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
 
 /**
  * {@link SelectAllProjection} resolver.
+ * <p>
+ * When the {@link ScalarSelectAllProjection} is used, the projection is expanded into the basic attributes of the
+ * root target entity, so that the query results are never attached to the persistence context.
+ * </p>
  *
  * @since 5.2.0
  */
@@ -84,12 +100,31 @@ public enum SelectAllProjectionResolver implements JPQLContextExpressionResolver
 		// resolve jpa entity
 		final JpaEntity<?> entity = context.resolveOrFail(target, JpaEntity.class);
 
-		DefaultJPQLProjection<?, Map<String, Object>> projection = new DefaultJPQLProjection<>(context,
-				entity.getEntityClass(), expression.getType());
-
 		// selection
 		final String selection = context.isStatementCompositionContext().flatMap(ctx -> ctx.getAlias(target, false))
 				.orElse(target.getName());
+
+		// check scalar
+		if (expression instanceof ScalarSelectAllProjection) {
+			final List<String> names = getAttributeNames(context.getEntityManagerFactory().getMetamodel()
+					.entity(entity.getEntityClass()));
+			if (names.isEmpty()) {
+				throw new InvalidExpressionException(
+						"No basic attribute available for entity [" + entity.getEntityName() + "]");
+			}
+			final ScalarSelectAllResultConverter converter = new ScalarSelectAllResultConverter(names);
+			final DefaultJPQLProjection<Object, Map<String, Object>> projection = new DefaultJPQLProjection<>(
+					context, converter.getQueryResultType(), expression.getType());
+			for (String name : names) {
+				projection.addSelection(selection + "." + name, false);
+			}
+			projection.setConverter(converter);
+			return Optional.of(projection);
+		}
+
+		DefaultJPQLProjection<?, Map<String, Object>> projection = new DefaultJPQLProjection<>(context,
+				entity.getEntityClass(), expression.getType());
+
 		projection.addSelection(selection, false);
 
 		// converter
@@ -98,4 +133,45 @@ public enum SelectAllProjectionResolver implements JPQLContextExpressionResolver
 		return Optional.of(projection);
 	}
 
+	/**
+	 * Checks whether the select all projection of a query with given configuration has to be resolved as a list of
+	 * scalar entity attributes. The scalar mode is never used when the query acquires a lock.
+	 * @param configuration Query configuration
+	 * @param context JPA context
+	 * @return <code>true</code> if the scalar select all mode is enabled
+	 */
+	public static boolean isScalarSelectAll(QueryConfiguration configuration, JpaContext context) {
+		if (configuration.hasNotNullParameter(LockQueryAdapterQuery.LOCK_MODE)
+				|| configuration.hasNotNullParameter(JpaDatastore.QUERY_PARAMETER_LOCK_MODE)) {
+			return false;
+		}
+		return configuration.getParameter(JpaDatastore.QUERY_PARAMETER_SCALAR_SELECT_ALL,
+				context.isScalarSelectAll());
+	}
+
+	/**
+	 * Get the names of the basic attributes of given managed type, expanding the embedded attributes using the
+	 * attribute path, sorted by name.
+	 * @param type Managed type
+	 * @return The attribute names
+	 */
+	private static List<String> getAttributeNames(ManagedType<?> type) {
+		final List<String> names = new ArrayList<>();
+		addAttributeNames(type, null, names);
+		Collections.sort(names);
+		return names;
+	}
+
+	private static void addAttributeNames(ManagedType<?> type, String parent, List<String> names) {
+		for (SingularAttribute<?, ?> attribute : type.getSingularAttributes()) {
+			final String name = (parent != null) ? parent + "." + attribute.getName() : attribute.getName();
+			if (PersistentAttributeType.BASIC == attribute.getPersistentAttributeType()) {
+				names.add(name);
+			} else if (PersistentAttributeType.EMBEDDED == attribute.getPersistentAttributeType()
+					&& attribute.getType() instanceof ManagedType) {
+				addAttributeNames((ManagedType<?>) attribute.getType(), name, names);
+			}
+		}
+	}
+
 }
@@ -15,6 +15,8 @@
  */
 package com.holonplatform.datastore.jpa.internal.tx;
 
+import java.util.concurrent.locks.ReentrantLock;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
 
@@ -38,6 +40,12 @@ public class DefaultJpaTransaction extends AbstractTransaction implements JpaTra
 
 	private final TransactionConfiguration configuration;
 
+	/**
+	 * Transaction status lock: a {@link ReentrantLock} is used instead of a monitor to avoid pinning a virtual thread
+	 * to its carrier thread while the JDBC operations are performed
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
 	private EntityTransaction entityTransaction;
 
 	private boolean active;
@@ -69,30 +77,34 @@ public class DefaultJpaTransaction extends AbstractTransaction implements JpaTra
 	 * @see com.holonplatform.datastore.jpa.internal.transaction.JpaTransaction#start()
 	 */
 	@Override
-	public synchronized void start() throws TransactionException {
-
-		// check not already started
-		if (isActive()) {
-			throw new IllegalTransactionStatusException(
-					"The transaction is already started [" + entityTransaction + "]");
-		}
-
-		this.entityTransaction = getEntityManager().getTransaction();
+	public void start() throws TransactionException {
+		lock.lock();
 		try {
-			// check rollback only
-			if (super.isRollbackOnly()) {
-				this.entityTransaction.setRollbackOnly();
+			// check not already started
+			if (isActive()) {
+				throw new IllegalTransactionStatusException(
+						"The transaction is already started [" + entityTransaction + "]");
+			}
+
+			this.entityTransaction = getEntityManager().getTransaction();
+			try {
+				// check rollback only
+				if (super.isRollbackOnly()) {
+					this.entityTransaction.setRollbackOnly();
+				}
+				// begin transaction
+				this.entityTransaction.begin();
+			} catch (Exception e) {
+				throw new TransactionException("Failed to start transaction", e);
 			}
-			// begin transaction
-			this.entityTransaction.begin();
-		} catch (Exception e) {
-			throw new TransactionException("Failed to start transaction", e);
-		}
 
-		// set as active
-		active = true;
+			// set as active
+			active = true;
 
-		LOGGER.debug(() -> "JPA transaction started");
+			LOGGER.debug(() -> "JPA transaction started");
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	/*
@@ -100,28 +112,32 @@ public class DefaultJpaTransaction extends AbstractTransaction implements JpaTra
 	 * @see com.holonplatform.datastore.jpa.internal.transaction.JpaTransaction#end()
 	 */
 	@Override
-	public synchronized void end() throws TransactionException {
-
-		// check active
-		if (!isActive()) {
-			throw new IllegalTransactionStatusException("The transaction is not active");
-		}
+	public void end() throws TransactionException {
+		lock.lock();
+		try {
+			// check active
+			if (!isActive()) {
+				throw new IllegalTransactionStatusException("The transaction is not active");
+			}
 
-		// check completed
-		if (!isCompleted()) {
-			if (isRollbackOnly()) {
-				rollback();
-			} else {
-				if (getConfiguration().isAutoCommit()) {
-					commit();
+			// check completed
+			if (!isCompleted()) {
+				if (isRollbackOnly()) {
+					rollback();
+				} else {
+					if (getConfiguration().isAutoCommit()) {
+						commit();
+					}
 				}
 			}
-		}
 
-		// set as not active
-		active = false;
+			// set as not active
+			active = false;
 
-		LOGGER.debug(() -> "Jpa transaction finalized");
+			LOGGER.debug(() -> "Jpa transaction finalized");
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	/**
@@ -147,38 +163,43 @@ public class DefaultJpaTransaction extends AbstractTransaction implements JpaTra
 	 * @see com.holonplatform.core.datastore.transaction.Transaction#commit()
 	 */
 	@Override
-	public synchronized boolean commit() throws TransactionException {
-
-		// check active
-		if (!isActive()) {
-			throw new IllegalTransactionStatusException("Cannot commit the transaction: the transaction is not active");
-		}
+	public boolean commit() throws TransactionException {
+		lock.lock();
+		try {
+			// check active
+			if (!isActive()) {
+				throw new IllegalTransactionStatusException(
+						"Cannot commit the transaction: the transaction is not active");
+			}
 
-		// check completed
-		if (isCompleted()) {
-			throw new IllegalTransactionStatusException(
-					"Cannot commit the transaction: the transaction is already completed");
-		}
+			// check completed
+			if (isCompleted()) {
+				throw new IllegalTransactionStatusException(
+						"Cannot commit the transaction: the transaction is already completed");
+			}
 
-		final boolean committed;
-		try {
-			// check rollback only
-			if (isRollbackOnly()) {
-				rollback();
-				committed = false;
-			} else {
-				entityTransaction.commit();
-				committed = true;
-				LOGGER.debug(() -> "Jpa transaction committed");
+			final boolean committed;
+			try {
+				// check rollback only
+				if (isRollbackOnly()) {
+					rollback();
+					committed = false;
+				} else {
+					entityTransaction.commit();
+					committed = true;
+					LOGGER.debug(() -> "Jpa transaction committed");
+				}
+			} catch (Exception e) {
+				throw new TransactionException("Failed to commit the transaction", e);
 			}
-		} catch (Exception e) {
-			throw new TransactionException("Failed to commit the transaction", e);
-		}
 
-		// set as completed
-		setCompleted();
+			// set as completed
+			setCompleted();
 
-		return committed;
+			return committed;
+		} finally {
+			lock.unlock();
+		}
 	}
 
 	/*
@@ -186,29 +207,33 @@ public class DefaultJpaTransaction extends AbstractTransaction implements JpaTra
 	 * @see com.holonplatform.core.datastore.transaction.Transaction#rollback()
 	 */
 	@Override
-	public synchronized void rollback() throws TransactionException {
+	public void rollback() throws TransactionException {
+		lock.lock();
+		try {
+			// check active
+			if (!isActive()) {
+				throw new IllegalTransactionStatusException(
+						"Cannot rollback the transaction: the transaction is not active");
+			}
 
-		// check active
-		if (!isActive()) {
-			throw new IllegalTransactionStatusException(
-					"Cannot rollback the transaction: the transaction is not active");
-		}
+			// check completed
+			if (isCompleted()) {
+				throw new IllegalTransactionStatusException(
+						"Cannot rollback the transaction: the transaction is already completed");
+			}
 
-		// check completed
-		if (isCompleted()) {
-			throw new IllegalTransactionStatusException(
-					"Cannot rollback the transaction: the transaction is already completed");
-		}
+			try {
+				entityTransaction.rollback();
+				LOGGER.debug(() -> "Jpa transaction rolled back");
+			} catch (Exception e) {
+				throw new TransactionException("Failed to rollback the transaction", e);
+			}
 
-		try {
-			entityTransaction.rollback();
-			LOGGER.debug(() -> "Jpa transaction rolled back");
-		} catch (Exception e) {
-			throw new TransactionException("Failed to rollback the transaction", e);
+			// set as completed
+			setCompleted();
+		} finally {
+			lock.unlock();
 		}
-
-		// set as completed
-		setCompleted();
 	}
 
 	/*
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.jpql;
+
+/**
+ * Strategy to bind the collection values of a JPQL statement, for example the values of a <code>IN</code> query
+ * filter, as statement parameters.
+ *
+ * @since 6.0.3
+ */
+public enum JPQLCollectionParameterMode {
+
+	/**
+	 * Bind each collection element as a distinct named parameter. Any distinct collection size produces a distinct
+	 * JPQL statement.
+	 */
+	EXPAND,
+
+	/**
+	 * Bind each collection element as a distinct named parameter, padding the parameters count to the next power of
+	 * two by repeating the last collection element. The number of distinct JPQL statements grows logarithmically with
+	 * the collection size.
+	 */
+	EXPAND_PADDED,
+
+	/**
+	 * Bind the collection as a single collection-valued named parameter, so that the JPQL statement does not depend on
+	 * the collection size. The collections of temporal values which require a parameter type conversion are bound
+	 * using the {@link #EXPAND_PADDED} mode.
+	 */
+	COLLECTION;
+
+}
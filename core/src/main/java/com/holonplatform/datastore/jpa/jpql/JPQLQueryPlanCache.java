@@ -0,0 +1,99 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.jpql;
+
+import java.util.function.Supplier;
+
+import com.holonplatform.core.query.QueryOperation;
+import com.holonplatform.datastore.jpa.internal.jpql.DefaultJPQLQueryPlanCache;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
+import com.holonplatform.datastore.jpa.jpql.expression.JPQLQuery;
+
+/**
+ * A bounded cache of resolved {@link JPQLQuery} plans, keyed by the structure of a {@link QueryOperation}.
+ * <p>
+ * Two query operations share the same plan when they have the same target, projection, filter, sort and aggregation
+ * shape, regardless of the constant values used in the query restrictions. When a plan is available, the JPQL
+ * statement and the result converter are reused and only the query parameters values are bound to the resolution
+ * context, without invoking the expression resolvers chain.
+ * </p>
+ * <p>
+ * Query operations which use expressions whose structure cannot be reliably detected (for example sub queries, query
+ * functions or custom expression resolvers) are always resolved without using the cache.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JPQLQueryPlanCache {
+
+	/**
+	 * Get the {@link JPQLQuery} which corresponds to given query operation, using the cached plan if available or
+	 * the given <code>resolver</code> to resolve it otherwise. In the latter case, the resolved query is cached when
+	 * its structure allows it.
+	 * <p>
+	 * When the cached plan is used, the query parameters are added to the given resolution context.
+	 * </p>
+	 * @param <Q> Query result type
+	 * @param <R> Conversion result type
+	 * @param operation The query operation (not null)
+	 * @param context The resolution context to use (not null)
+	 * @param resolver The function to use to resolve the query operation when a cached plan is not available, using
+	 *        the given resolution context (not null)
+	 * @return The {@link JPQLQuery}
+	 */
+	<Q, R> JPQLQuery<Q, R> resolve(QueryOperation<?, ?> operation, JPQLResolutionContext context,
+			Supplier<JPQLQuery<Q, R>> resolver);
+
+	/**
+	 * Get the maximum number of cached plans.
+	 * @return The cache maximum size
+	 */
+	int getMaxSize();
+
+	/**
+	 * Get the number of currently cached plans.
+	 * @return The cache size
+	 */
+	int getSize();
+
+	/**
+	 * Get the number of query resolutions which used a cached plan.
+	 * @return The cache hit count
+	 */
+	long getHitCount();
+
+	/**
+	 * Get the number of query resolutions which did not use a cached plan.
+	 * @return The cache miss count
+	 */
+	long getMissCount();
+
+	/**
+	 * Remove all the cached plans.
+	 */
+	void clear();
+
+	/**
+	 * Create a new {@link JPQLQueryPlanCache}.
+	 * @param maxSize The maximum number of cached plans, when exceeded the least recently used plan is evicted (must
+	 *        be greater than 0)
+	 * @return A new {@link JPQLQueryPlanCache}
+	 */
+	static JPQLQueryPlanCache create(int maxSize) {
+		return new DefaultJPQLQueryPlanCache(maxSize);
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.jpql;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.holonplatform.datastore.jpa.internal.jpql.DefaultJPQLStatementStatistics;
+import com.holonplatform.datastore.jpa.jpql.context.JPQLContextParametersHandler;
+
+/**
+ * Collector of the JPQL statements execution statistics, aggregated by JPQL statement text.
+ * <p>
+ * For each distinct JPQL statement, the number of executions, the total and maximum execution time and the total
+ * number of fetched or affected rows are recorded. When a slow statement threshold is configured, any statement
+ * execution which takes longer than the threshold is counted as a slow call and logged using the <code>WARN</code>
+ * level, along with a summary of the bound parameters.
+ * </p>
+ * <p>
+ * The number of tracked statements is bounded: when the limit is reached, the statement with the lowest number of
+ * calls is discarded to make room for a new one.
+ * </p>
+ *
+ * @since 6.0.3
+ */
+public interface JPQLStatementStatistics {
+
+	/**
+	 * Record a JPQL statement execution.
+	 * @param jpql The JPQL statement (not null)
+	 * @param nanos The execution time, in nanoseconds
+	 * @param rows The number of fetched or affected rows
+	 * @param parameters The statement parameters, used to log slow statements. May be <code>null</code>
+	 */
+	void record(String jpql, long nanos, long rows, JPQLContextParametersHandler parameters);
+
+	/**
+	 * Get the statistics of given JPQL statement, if available.
+	 * @param jpql The JPQL statement
+	 * @return Optional statement statistics
+	 */
+	Optional<StatementStatistics> getStatistics(String jpql);
+
+	/**
+	 * Get the statistics of all the tracked JPQL statements, sorted by total execution time, in descending order.
+	 * @return The statements statistics, empty if none
+	 */
+	List<StatementStatistics> getStatistics();
+
+	/**
+	 * Get the maximum number of tracked statements.
+	 * @return The maximum number of tracked statements
+	 */
+	int getMaxStatements();
+
+	/**
+	 * Get the slow statement threshold, in milliseconds.
+	 * @return The slow statement threshold, <code>0</code> if slow statements detection is disabled
+	 */
+	long getSlowStatementThreshold();
+
+	/**
+	 * Discard all the collected statistics.
+	 */
+	void reset();
+
+	/**
+	 * Create a new {@link JPQLStatementStatistics}.
+	 * @param maxStatements The maximum number of tracked statements (must be greater than 0)
+	 * @param slowStatementThreshold The slow statement threshold in milliseconds, a value <code>&lt;= 0</code>
+	 *        disables slow statements detection
+	 * @return A new {@link JPQLStatementStatistics}
+	 */
+	static JPQLStatementStatistics create(int maxStatements, long slowStatementThreshold) {
+		return new DefaultJPQLStatementStatistics(maxStatements, slowStatementThreshold);
+	}
+
+	/**
+	 * The execution statistics of a JPQL statement.
+	 */
+	public interface StatementStatistics {
+
+		/**
+		 * Get the JPQL statement.
+		 * @return The JPQL statement
+		 */
+		String getJPQL();
+
+		/**
+		 * Get the number of statement executions.
+		 * @return The calls count
+		 */
+		long getCalls();
+
+		/**
+		 * Get the total execution time, in nanoseconds.
+		 * @return The total execution time
+		 */
+		long getTotalTime();
+
+		/**
+		 * Get the maximum execution time, in nanoseconds.
+		 * @return The maximum execution time
+		 */
+		long getMaxTime();
+
+		/**
+		 * Get the mean execution time, in nanoseconds.
+		 * @return The mean execution time, <code>0</code> if the statement was never executed
+		 */
+		default long getMeanTime() {
+			final long calls = getCalls();
+			return (calls > 0) ? getTotalTime() / calls : 0L;
+		}
+
+		/**
+		 * Get the total number of fetched or affected rows.
+		 * @return The rows count
+		 */
+		long getRows();
+
+		/**
+		 * Get the number of executions which exceeded the slow statement threshold.
+		 * @return The slow calls count
+		 */
+		long getSlowCalls();
+
+	}
+
+}
@@ -17,6 +17,7 @@ package com.holonplatform.datastore.jpa.jpql;
 
 import com.holonplatform.core.TypedExpression;
 import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.internal.utils.ObjectUtils;
 import com.holonplatform.datastore.jpa.context.JpaExecutionContext;
 import com.holonplatform.datastore.jpa.internal.jpql.DefaultJPQLValueDeserializer;
 
@@ -40,6 +41,24 @@ public interface JPQLValueDeserializer {
 	<T> T deserialize(JpaExecutionContext context, TypedExpression<T> expression, Object value)
 			throws DataAccessException;
 
+	/**
+	 * Get a deserializer bound to given <code>expression</code>, to be used to deserialize all the values associated to
+	 * the same expression, for example the values of a query results column.
+	 * <p>
+	 * Implementations can use this method to resolve the deserialization strategy only once for the expression,
+	 * instead of for each value. The default implementation simply delegates to
+	 * {@link #deserialize(JpaExecutionContext, TypedExpression, Object)}.
+	 * </p>
+	 * @param <T> Expression type
+	 * @param expression Expression for which the deserialization is invoked (not null)
+	 * @return The expression values deserializer
+	 * @since 6.0.3
+	 */
+	default <T> ExpressionValueDeserializer<T> getDeserializer(TypedExpression<T> expression) {
+		ObjectUtils.argumentNotNull(expression, "Value deserialization expression must be not null");
+		return (context, value) -> deserialize(context, expression, value);
+	}
+
 	/**
 	 * Add a deserialized value processor.
 	 * @param valueProcessor the value processor to add (not null)
@@ -54,6 +73,27 @@ public interface JPQLValueDeserializer {
 		return DefaultJPQLValueDeserializer.INSTANCE;
 	}
 
+	/**
+	 * Deserializer of the values associated to a specific expression.
+	 * 
+	 * @param <T> Expression type
+	 * 
+	 * @since 6.0.3
+	 */
+	@FunctionalInterface
+	public interface ExpressionValueDeserializer<T> {
+
+		/**
+		 * Deserialize given <code>value</code>, to obtain a value type which matches the expression type.
+		 * @param context Execution context
+		 * @param value Value to deserialize
+		 * @return Deserialized value
+		 * @throws DataAccessException If value cannot be deserialized using the expression type
+		 */
+		T deserialize(JpaExecutionContext context, Object value) throws DataAccessException;
+
+	}
+
 	/**
 	 * Processor to process a value before actual deserialization.
 	 */
@@ -27,7 +27,6 @@ import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
 import static com.holonplatform.datastore.jpa.test.model.TestDataModel.TMS;
 import static com.holonplatform.datastore.jpa.test.model.TestDataModel.VIRTUAL_STR;
 
-import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
 
 import org.junit.AfterClass;
@@ -48,8 +47,6 @@ import com.holonplatform.jdbc.DataSourceBuilder;
 
 public class DatanucleusTest extends AbstractJpaDatastoreTestSuite {
 
-	private static EntityManagerFactory entityManagerFactory;
-
 	@BeforeClass
 	public static void initDatastore() {
 
@@ -92,6 +89,7 @@ public class DatanucleusTest extends AbstractJpaDatastoreTestSuite {
 		saveOperationTest = false;
 		entityProjectionTest = false;
 		customFunctionExpressionTest = false;
+		fetchJoinTest = false;
 	}
 
 	@AfterClass
@@ -31,7 +31,6 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 
-import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.spi.PersistenceProvider;
 import jakarta.persistence.spi.PersistenceProviderResolverHolder;
 
@@ -54,8 +53,6 @@ import com.holonplatform.jdbc.DataSourceBuilder;
 
 public class OpenJpaTest extends AbstractJpaDatastoreTestSuite {
 
-	private static EntityManagerFactory entityManagerFactory;
-
 	@BeforeClass
 	public static void initDatastore() {
 
@@ -94,6 +91,7 @@ public class OpenJpaTest extends AbstractJpaDatastoreTestSuite {
 		saveOperationTypeTest = false;
 		saveOperationTest = false;
 		updateNullsTest = false;
+		fetchJoinTest = false;
 
 		JPA_TARGET = JpaTarget.of(com.holonplatform.datastore.jpa.test.model.oentity.Test1.class);
 
@@ -30,7 +30,6 @@ import static com.holonplatform.datastore.jpa.test.model.TestDataModel.VIRTUAL_S
 import java.util.List;
 import java.util.Properties;
 
-import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.spi.PersistenceProvider;
 import jakarta.persistence.spi.PersistenceProviderResolverHolder;
 
@@ -53,8 +52,6 @@ import com.holonplatform.jdbc.DataSourceBuilder;
 
 public class TestEclipselink extends AbstractJpaDatastoreTestSuite {
 
-	private static EntityManagerFactory entityManagerFactory;
-
 	@BeforeClass
 	public static void initDatastore() {
 
@@ -78,6 +75,7 @@ public class TestEclipselink extends AbstractJpaDatastoreTestSuite {
 		avgProjectionTest = false;
 		txExpectedErrorTest = false;
 		temporalProjectionTest = false;
+		lazyToOneTest = false;
 
 		JPA_TARGET = JpaTarget.of(Test1.class);
 
@@ -15,8 +15,11 @@
  */
 package com.holonplatform.datastore.jpa.test.config;
 
+import java.util.Optional;
+
 import com.holonplatform.core.datastore.DatastoreCommodity;
 import com.holonplatform.core.datastore.DatastoreCommodityContext.CommodityConfigurationException;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.datastore.jpa.ORMPlatform;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityContext;
 import com.holonplatform.datastore.jpa.config.JpaDatastoreCommodityFactory;
@@ -30,11 +33,13 @@ public class DatastoreConfigCommodity implements DatastoreCommodity {
 
 	private final ORMPlatform platform;
 	private final ORMDialect dialect;
+	private final JpaOperationMetrics operationMetrics;
 
-	public DatastoreConfigCommodity(ORMPlatform platform, ORMDialect dialect) {
+	public DatastoreConfigCommodity(ORMPlatform platform, ORMDialect dialect, JpaOperationMetrics operationMetrics) {
 		super();
 		this.platform = platform;
 		this.dialect = dialect;
+		this.operationMetrics = operationMetrics;
 	}
 
 	public ORMPlatform getPlatform() {
@@ -45,6 +50,10 @@ public class DatastoreConfigCommodity implements DatastoreCommodity {
 		return dialect;
 	}
 
+	public Optional<JpaOperationMetrics> getOperationMetrics() {
+		return Optional.ofNullable(operationMetrics);
+	}
+
 	@SuppressWarnings("serial")
 	public static final class DatabasePlatformCommodityFactory
 			implements JpaDatastoreCommodityFactory<DatastoreConfigCommodity> {
@@ -57,7 +66,8 @@ public class DatastoreConfigCommodity implements DatastoreCommodity {
 		@Override
 		public DatastoreConfigCommodity createCommodity(JpaDatastoreCommodityContext context)
 				throws CommodityConfigurationException {
-			return new DatastoreConfigCommodity(context.getORMPlatform().orElse(null), context.getDialect());
+			return new DatastoreConfigCommodity(context.getORMPlatform().orElse(null), context.getDialect(),
+					context.getOperationMetrics().orElse(null));
 		}
 
 	}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2016-2018 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.config;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+
+public class TestOperationMetrics implements JpaOperationMetrics {
+
+	public enum Phase {
+		RESOLUTION, EXECUTION, CONVERSION, ERROR;
+	}
+
+	private final List<Sample> samples = new CopyOnWriteArrayList<>();
+
+	@Override
+	public void recordResolution(Operation operation, long nanos) {
+		samples.add(new Sample(Phase.RESOLUTION, operation, nanos, -1, null));
+	}
+
+	@Override
+	public void recordExecution(Operation operation, long nanos, long count) {
+		samples.add(new Sample(Phase.EXECUTION, operation, nanos, count, null));
+	}
+
+	@Override
+	public void recordConversion(Operation operation, long nanos, long rows) {
+		samples.add(new Sample(Phase.CONVERSION, operation, nanos, rows, null));
+	}
+
+	@Override
+	public void recordError(Operation operation, Throwable error) {
+		samples.add(new Sample(Phase.ERROR, operation, 0, -1, error));
+	}
+
+	public void clear() {
+		samples.clear();
+	}
+
+	public List<Sample> getSamples(OperationType type, Phase phase) {
+		return samples.stream().filter(s -> s.getType() == type && s.getPhase() == phase)
+				.collect(Collectors.toList());
+	}
+
+	public static final class Sample {
+
+		private final Phase phase;
+		private final OperationType type;
+		private final String target;
+		private final String dataContextId;
+		private final long nanos;
+		private final long count;
+		private final Throwable error;
+
+		Sample(Phase phase, Operation operation, long nanos, long count, Throwable error) {
+			super();
+			this.phase = phase;
+			this.type = operation.getType();
+			this.target = operation.getTarget();
+			this.dataContextId = operation.getDataContextId().orElse(null);
+			this.nanos = nanos;
+			this.count = count;
+			this.error = error;
+		}
+
+		public Phase getPhase() {
+			return phase;
+		}
+
+		public OperationType getType() {
+			return type;
+		}
+
+		public String getTarget() {
+			return target;
+		}
+
+		public String getDataContextId() {
+			return dataContextId;
+		}
+
+		public long getNanos() {
+			return nanos;
+		}
+
+		public long getCount() {
+			return count;
+		}
+
+		public Throwable getError() {
+			return error;
+		}
+
+	}
+
+}
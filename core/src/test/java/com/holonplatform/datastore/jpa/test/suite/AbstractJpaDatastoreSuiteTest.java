@@ -21,7 +21,10 @@ import org.junit.Assert;
 
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.internal.Logger;
+import com.holonplatform.datastore.jpa.JpaDatastore;
 import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
+import com.holonplatform.datastore.jpa.test.config.DatastoreConfigCommodity;
+import com.holonplatform.datastore.jpa.test.expression.KeyIsFilter;
 
 public abstract class AbstractJpaDatastoreSuiteTest {
 
@@ -31,6 +34,11 @@ public abstract class AbstractJpaDatastoreSuiteTest {
 		return AbstractJpaDatastoreTestSuite.datastore;
 	}
 
+	protected JpaDatastore.Builder<JpaDatastore> datastoreBuilder() {
+		return JpaDatastore.builder().entityManagerFactory(AbstractJpaDatastoreTestSuite.entityManagerFactory)
+				.withCommodity(DatastoreConfigCommodity.FACTORY).withExpressionResolver(KeyIsFilter.RESOLVER);
+	}
+
 	protected void inTransaction(Runnable operation) {
 		getDatastore().requireTransactional().withTransaction(tx -> {
 			tx.setRollbackOnly();
@@ -38,6 +46,13 @@ public abstract class AbstractJpaDatastoreSuiteTest {
 		});
 	}
 
+	protected void inTransaction(Datastore datastore, Runnable operation) {
+		datastore.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+			operation.run();
+		});
+	}
+
 	protected <T> T inTransaction(Supplier<T> operation) {
 		return getDatastore().requireTransactional().withTransaction(tx -> {
 			tx.setRollbackOnly();
@@ -19,6 +19,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
+import jakarta.persistence.EntityManagerFactory;
+
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 
@@ -37,9 +39,15 @@ import com.holonplatform.datastore.jpa.ORMPlatform;
 		BulkDeleteAliasTest.class, AggregationFunctionsTest.class, StringFunctionsTest.class,
 		TemporalFunctionsTest.class, DataTargetResolverTest.class, CustomExpressionsTest.class,
 		EntityProjectionTest.class, InsertedKeysTest.class, DistinctTest.class, TransactionTest.class,
-		QueryHintTest.class, LockModeTest.class, SharedEntityManagerTest.class, LockTest.class })
+		QueryHintTest.class, LockModeTest.class, SharedEntityManagerTest.class, LockTest.class,
+		StreamResultsTest.class, QueryPlanCacheTest.class, OperationMetricsTest.class,
+		StatementStatisticsTest.class, CollectionParameterTest.class, InFilterChunkTest.class,
+		KeysetPaginationTest.class, AsyncDatastoreTest.class, VirtualThreadsTest.class,
+		PartitionedScanTest.class, StreamingBulkInsertTest.class, BulkSaveTest.class })
 public abstract class AbstractJpaDatastoreTestSuite {
 
+	public static EntityManagerFactory entityManagerFactory;
+
 	public static Datastore datastore;
 
 	public static ORMPlatform platform;
@@ -93,4 +101,8 @@ public abstract class AbstractJpaDatastoreTestSuite {
 
 	public static boolean customFunctionExpressionTest = true;
 
+	public static boolean fetchJoinTest = true;
+
+	public static boolean lazyToOneTest = true;
+
 }
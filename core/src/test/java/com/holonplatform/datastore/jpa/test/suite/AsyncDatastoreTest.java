@@ -0,0 +1,187 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.AsyncJpaDatastore;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+
+public class AsyncDatastoreTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testOperations() throws Exception {
+		try (AsyncJpaDatastore async = AsyncJpaDatastore.create((JpaDatastore) getDatastore(), 2)) {
+
+			List<Long> keys = async.execute(d -> d.query(JPA_TARGET).sort(KEY.asc()).list(KEY)).toCompletableFuture()
+					.get(10, TimeUnit.SECONDS);
+			assertEquals(2, keys.size());
+
+			final String str = async.withTransaction(tx -> {
+				final OperationResult result = getDatastore().insert(JPA_TARGET,
+						PropertyBox.builder(PROPERTIES).set(KEY, 701L).set(STR1, "async").build());
+				assertEquals(1, result.getAffectedCount());
+				final String value = getDatastore().query(JPA_TARGET).filter(KEY.eq(701L)).findOne(STR1)
+						.orElse(null);
+				tx.setRollbackOnly();
+				return value;
+			}).toCompletableFuture().get(10, TimeUnit.SECONDS);
+			assertEquals("async", str);
+
+			assertFalse(async.execute(d -> d.query(JPA_TARGET).filter(KEY.eq(701L)).findOne(KEY))
+					.toCompletableFuture().get(10, TimeUnit.SECONDS).isPresent());
+
+			try {
+				async.execute(d -> {
+					throw new DataAccessException("test");
+				}).toCompletableFuture().get(10, TimeUnit.SECONDS);
+				fail("Expected exception was not thrown");
+			} catch (ExecutionException e) {
+				assertTrue(e.getCause() instanceof DataAccessException);
+			}
+		}
+	}
+
+	@Test
+	public void testPublisher() throws Exception {
+		try (AsyncJpaDatastore async = AsyncJpaDatastore.create((JpaDatastore) getDatastore(), 2)) {
+
+			// one result at a time
+			TestSubscriber<Long> subscriber = new TestSubscriber<>(1);
+			async.publisher(d -> d.query(JPA_TARGET).parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true)
+					.sort(KEY.asc()).stream(KEY)).subscribe(subscriber);
+			assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+			assertEquals(2, subscriber.results.size());
+			assertEquals(Long.valueOf(1), subscriber.results.get(0));
+			assertTrue(subscriber.completed);
+			assertNull(subscriber.error);
+
+			// cancel after the first result
+			subscriber = new TestSubscriber<>(0);
+			async.publisher(d -> d.query(JPA_TARGET).sort(KEY.asc()).stream(KEY)).subscribe(subscriber);
+			assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+			assertEquals(1, subscriber.results.size());
+			assertFalse(subscriber.completed);
+
+			// results fetched by the query thread, with the demand signalled by another thread
+			final AtomicReference<Thread> queryThread = new AtomicReference<>();
+			subscriber = new TestSubscriber<>(-1);
+			async.publisher(d -> {
+				queryThread.set(Thread.currentThread());
+				return d.query(JPA_TARGET).parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true)
+						.sort(KEY.asc()).stream(KEY);
+			}).subscribe(subscriber);
+			for (int i = 0; i < 2; i++) {
+				final long deadline = System.currentTimeMillis() + 10000;
+				while (subscriber.results.size() <= i && System.currentTimeMillis() < deadline) {
+					Thread.sleep(10);
+				}
+				assertEquals(i + 1, subscriber.results.size());
+				subscriber.subscription.request(1);
+			}
+			assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+			assertTrue(subscriber.completed);
+			assertEquals(2, subscriber.threads.size());
+			for (Thread thread : subscriber.threads) {
+				assertSame(queryThread.get(), thread);
+			}
+
+			// error
+			subscriber = new TestSubscriber<>(1);
+			async.<Long>publisher(d -> {
+				throw new DataAccessException("test");
+			}).subscribe(subscriber);
+			assertTrue(subscriber.latch.await(10, TimeUnit.SECONDS));
+			assertTrue(subscriber.error instanceof DataAccessException);
+		}
+	}
+
+	private static final class TestSubscriber<T> implements Flow.Subscriber<T> {
+
+		final List<T> results = new CopyOnWriteArrayList<>();
+
+		final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+		final CountDownLatch latch = new CountDownLatch(1);
+
+		final int batch;
+
+		Flow.Subscription subscription;
+
+		volatile boolean completed;
+
+		volatile Throwable error;
+
+		TestSubscriber(int batch) {
+			super();
+			this.batch = batch;
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(1);
+		}
+
+		@Override
+		public void onNext(T item) {
+			threads.add(Thread.currentThread());
+			results.add(item);
+			if (batch > 0) {
+				subscription.request(batch);
+			} else if (batch == 0) {
+				subscription.cancel();
+				latch.countDown();
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			error = throwable;
+			latch.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			completed = true;
+			latch.countDown();
+		}
+
+	}
+
+}
@@ -27,14 +27,21 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
 import org.junit.Test;
 
+import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.datastore.Datastore.OperationResult;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.property.PropertySet;
+import com.holonplatform.datastore.jpa.JpaBatchSizeWriteOption;
 
 public class BulkInsertTest extends AbstractJpaDatastoreSuiteTest {
 
@@ -108,4 +115,86 @@ public class BulkInsertTest extends AbstractJpaDatastoreSuiteTest {
 		});
 	}
 
+	@Test
+	public void testBulkInsertBatchSize() {
+		inTransaction(() -> {
+
+			OperationResult result = getDatastore().bulkInsert(JPA_TARGET, PropertySet.of(PROPERTIES),
+					JpaBatchSizeWriteOption.create(2))
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 201L).set(STR1, "k201").set(NBOOL, false).build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 202L).set(STR1, "k202").set(NBOOL, true).set(DBL, 3.2)
+							.build())
+					.add(PropertyBox.builder(KEY, NBOOL, NST_STR).set(KEY, 203L).set(NST_STR, "ns203").set(NBOOL, false)
+							.build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 204L).set(STR1, "k204").set(NBOOL, false).build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 205L).set(STR1, "k205").set(NBOOL, true).build())
+					.execute();
+
+			assertEquals(5, result.getAffectedCount());
+
+			List<PropertyBox> vals = getDatastore().query(JPA_TARGET).filter(KEY.between(201L, 205L)).sort(KEY.asc())
+					.list(PROPERTIES);
+			assertEquals(5, vals.size());
+			assertEquals("k201", vals.get(0).getValue(STR1));
+			assertEquals("k202", vals.get(1).getValue(STR1));
+			assertEquals(Double.valueOf(3.2), vals.get(1).getValue(DBL));
+			assertNull(vals.get(2).getValue(STR1));
+			assertNull(vals.get(2).getValue(DBL));
+			assertEquals("ns203", vals.get(2).getValue(NST_STR));
+			assertEquals("k204", vals.get(3).getValue(STR1));
+			assertEquals("k205", vals.get(4).getValue(STR1));
+			assertTrue(vals.get(4).getValue(NBOOL));
+		});
+	}
+
+	@Test
+	public void testBulkInsertBatchFlush() {
+		final AtomicInteger flushes = new AtomicInteger();
+		final AtomicInteger clears = new AtomicInteger();
+
+		final Datastore ds = datastoreBuilder()
+				.entityManagerInitializer(emf -> countingEntityManager(emf.createEntityManager(), flushes, clears))
+				.build();
+
+		ds.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+
+			OperationResult result = ds.bulkInsert(JPA_TARGET, PropertySet.of(PROPERTIES),
+					JpaBatchSizeWriteOption.create(2))
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 211L).set(STR1, "k211").set(NBOOL, false).build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 212L).set(STR1, "k212").set(NBOOL, false).build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 213L).set(STR1, "k213").set(NBOOL, false).build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 214L).set(STR1, "k214").set(NBOOL, false).build())
+					.add(PropertyBox.builder(PROPERTIES).set(KEY, 215L).set(STR1, "k215").set(NBOOL, false).build())
+					.execute();
+
+			assertEquals(5, result.getAffectedCount());
+
+			// flushed and cleared once for each complete batch
+			assertEquals(2, flushes.get());
+			assertEquals(2, clears.get());
+
+			assertEquals(5, ds.query(JPA_TARGET).filter(KEY.between(211L, 215L)).count());
+		});
+	}
+
+	private static EntityManager countingEntityManager(EntityManager entityManager, AtomicInteger flushes,
+			AtomicInteger clears) {
+		return (EntityManager) Proxy.newProxyInstance(EntityManager.class.getClassLoader(),
+				new Class<?>[] { EntityManager.class }, (proxy, method, args) -> {
+					if (method.getParameterCount() == 0) {
+						if ("flush".equals(method.getName())) {
+							flushes.incrementAndGet();
+						} else if ("clear".equals(method.getName())) {
+							clears.incrementAndGet();
+						}
+					}
+					try {
+						return method.invoke(entityManager, args);
+					} catch (InvocationTargetException e) {
+						throw e.getCause();
+					}
+				});
+	}
+
 }
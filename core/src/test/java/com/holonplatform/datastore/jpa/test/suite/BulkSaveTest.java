@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.TEST2;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.TEST2_CODE;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.TEST2_PROPERTIES;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.TEST2_TEXT;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaBulkSave;
+import com.holonplatform.datastore.jpa.JpaBulkSave.Result;
+
+public class BulkSaveTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testBulkSave() {
+		if (AbstractJpaDatastoreTestSuite.saveOperationTest) {
+			inTransaction(() -> {
+
+				final Result result = getDatastore().create(JpaBulkSave.class).target(JPA_TARGET).batchSize(2)
+						.execute(value(1L, "bs1"), value(4000L, "bs4000"), value(2L, "bs2"), value(4001L, "bs4001"),
+								value(4001L, "bs4001*"));
+
+				assertEquals(2, result.getInsertedCount());
+				assertEquals(3, result.getUpdatedCount());
+				assertEquals(5, result.getAffectedCount());
+
+				assertEquals("bs1", getDatastore().query(JPA_TARGET).filter(KEY.eq(1L)).findOne(STR1).orElse(null));
+				assertEquals("bs2", getDatastore().query(JPA_TARGET).filter(KEY.eq(2L)).findOne(STR1).orElse(null));
+				assertEquals("bs4000",
+						getDatastore().query(JPA_TARGET).filter(KEY.eq(4000L)).findOne(STR1).orElse(null));
+				assertEquals("bs4001*",
+						getDatastore().query(JPA_TARGET).filter(KEY.eq(4001L)).findOne(STR1).orElse(null));
+
+			});
+		}
+	}
+
+	@Test
+	public void testBulkSaveGeneratedId() {
+		if (AbstractJpaDatastoreTestSuite.saveOperationTest) {
+			inTransaction(() -> {
+
+				final long count = getDatastore().query(TEST2).count();
+
+				final Result result = getDatastore().create(JpaBulkSave.class).target(TEST2).execute(
+						PropertyBox.builder(TEST2_PROPERTIES).set(TEST2_TEXT, "bs_a").build(),
+						PropertyBox.builder(TEST2_PROPERTIES).set(TEST2_TEXT, "bs_b").build());
+				assertEquals(2, result.getInsertedCount());
+				assertEquals(0, result.getUpdatedCount());
+
+				assertEquals(count + 2, getDatastore().query(TEST2).count());
+
+			});
+		}
+	}
+
+	@Test
+	public void testBulkSaveMissingGeneratedId() {
+		if (AbstractJpaDatastoreTestSuite.saveOperationTest) {
+			inTransaction(() -> {
+
+				final long count = getDatastore().query(TEST2).count();
+
+				expectedException(DataAccessException.class, () -> getDatastore().create(JpaBulkSave.class)
+						.target(TEST2).execute(PropertyBox.builder(TEST2_PROPERTIES).set(TEST2_CODE, 987654L)
+								.set(TEST2_TEXT, "bs_missing").build()));
+
+				assertEquals(count, getDatastore().query(TEST2).count());
+
+			});
+		}
+	}
+
+	@Test
+	public void testBulkSaveErrors() {
+		expectedException(DataAccessException.class,
+				() -> getDatastore().create(JpaBulkSave.class).execute(value(4100L, "err")));
+		expectedException(IllegalArgumentException.class,
+				() -> getDatastore().create(JpaBulkSave.class).batchSize(0));
+	}
+
+	private static PropertyBox value(long key, String str) {
+		return PropertyBox.builder(PROPERTIES).set(KEY, key).set(STR1, str).build();
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
+
+public class CollectionParameterTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testInCollectionSizes() {
+		// one statement for each query and collection size
+		assertStatements(JPQLCollectionParameterMode.EXPAND, 51);
+		// one statement for each query and padded collection size: 1, 2, 4, 8, 16 and 32
+		assertStatements(JPQLCollectionParameterMode.EXPAND_PADDED, 18);
+		// the number of distinct statements does not depend on the number of collection elements
+		assertStatements(JPQLCollectionParameterMode.COLLECTION, 3);
+	}
+
+	private void assertStatements(JPQLCollectionParameterMode mode, int expectedStatements) {
+		final JpaDatastore datastore = datastoreBuilder().collectionParameterMode(mode).statementStatistics(100, 0L)
+				.build();
+		final JPQLStatementStatistics statistics = datastore.getStatementStatistics().orElse(null);
+		assertNotNull(statistics);
+
+		for (int size = 1; size <= 17; size++) {
+			final List<Long> keys = keys(size);
+
+			List<Long> results = datastore.query().target(JPA_TARGET).filter(KEY.in(keys)).sort(KEY.asc())
+					.list(KEY);
+			assertEquals(Math.min(size, 2), results.size());
+			assertEquals(Long.valueOf(1), results.get(0));
+
+			long count = datastore.query().target(JPA_TARGET).filter(KEY.nin(keys)).count();
+			assertEquals((size == 1) ? 1 : 0, count);
+
+			results = datastore.query().target(JPA_TARGET).filter(KEY.in(keys).and(STR1.isNotNull()))
+					.sort(KEY.asc()).list(KEY);
+			assertEquals(Math.min(size, 2), results.size());
+		}
+
+		assertEquals(expectedStatements, statistics.getStatistics().size());
+	}
+
+	private static List<Long> keys(int size) {
+		final List<Long> keys = new ArrayList<>(size);
+		keys.add(1L);
+		if (size > 1) {
+			keys.add(2L);
+		}
+		for (int i = 2; i < size; i++) {
+			keys.add(1000L + i);
+		}
+		return keys;
+	}
+
+}
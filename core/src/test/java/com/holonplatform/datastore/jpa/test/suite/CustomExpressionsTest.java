@@ -33,6 +33,7 @@ import org.junit.Test;
 import com.holonplatform.core.Expression.InvalidExpressionException;
 import com.holonplatform.core.ExpressionResolver;
 import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.relational.SubQuery;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLContextExpressionResolver;
 import com.holonplatform.datastore.jpa.jpql.context.JPQLResolutionContext;
@@ -105,6 +106,39 @@ public class CustomExpressionsTest extends AbstractJpaDatastoreSuiteTest {
 		assertEquals("Two", str.get());
 	}
 
+	@SuppressWarnings("serial")
+	@Test
+	public void testSubQueryFilterExpression() {
+		final ExpressionResolver<KeyIsFilter, JPQLExpression> SQL_RESOLVER_ALIAS = new JPQLContextExpressionResolver<KeyIsFilter, JPQLExpression>() {
+
+			@Override
+			public Class<? extends KeyIsFilter> getExpressionType() {
+				return KeyIsFilter.class;
+			}
+
+			@Override
+			public Class<? extends JPQLExpression> getResolvedType() {
+				return JPQLExpression.class;
+			}
+
+			@Override
+			public Optional<JPQLExpression> resolve(KeyIsFilter expression, JPQLResolutionContext context)
+					throws InvalidExpressionException {
+				String path = context.isStatementCompositionContext().flatMap(ctx -> ctx.getAliasOrRoot(KEY))
+						.map(alias -> alias + ".key").orElse("key");
+				return Optional.of(JPQLExpression.create(path + " > " + expression.getValue()));
+			}
+		};
+
+		long count = getDatastore().query().withExpressionResolver(SQL_RESOLVER_ALIAS).target(JPA_TARGET)
+				.filter(KEY.in(SubQuery.create(KEY).target(JPA_TARGET).filter(new KeyIsFilter(0)))).count();
+		assertEquals(2, count);
+
+		count = getDatastore().query().target(JPA_TARGET)
+				.filter(KEY.in(SubQuery.create(KEY).target(JPA_TARGET).filter(new KeyIsFilter(0)))).count();
+		assertEquals(0, count);
+	}
+
 	@Test
 	public void testQuerySort() {
 		List<Long> res = getDatastore().query().withExpressionResolver(StrKeySort.RESOLVER).target(JPA_TARGET)
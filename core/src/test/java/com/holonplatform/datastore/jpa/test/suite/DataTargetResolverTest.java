@@ -15,19 +15,46 @@
  */
 package com.holonplatform.datastore.jpa.test.suite;
 
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.DBL;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.ENM;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.NBOOL;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.NST_STR;
 import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
 import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import jakarta.persistence.EntityManagerFactory;
 
 import org.junit.Test;
 
 import com.holonplatform.core.ExpressionResolver;
+import com.holonplatform.core.beans.BeanIntrospector;
 import com.holonplatform.core.datastore.DataTarget;
 import com.holonplatform.core.datastore.DataTarget.DataTargetResolver;
 import com.holonplatform.core.datastore.relational.RelationalTarget;
+import com.holonplatform.core.internal.property.DefaultPathProperty;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.core.property.Property.PropertyNotFoundException;
+import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.datastore.jpa.JpaTarget;
+import com.holonplatform.datastore.jpa.context.JpaContext;
+import com.holonplatform.datastore.jpa.internal.EntityMapper;
+import com.holonplatform.datastore.jpa.internal.EntityTargetCache;
+import com.holonplatform.datastore.jpa.jpql.expression.JpaEntity;
+import com.holonplatform.datastore.jpa.test.model.TestEnum;
 import com.holonplatform.datastore.jpa.test.model.entity.Test1;
 
 public class DataTargetResolverTest extends AbstractJpaDatastoreSuiteTest {
@@ -59,4 +86,91 @@ public class DataTargetResolverTest extends AbstractJpaDatastoreSuiteTest {
 
 	}
 
+	@Test
+	public void testEntityMetadataCache() {
+
+		final EntityManagerFactory emf = ((JpaContext) getDatastore()).getEntityManagerFactory();
+
+		assertEquals(Test1.class, EntityTargetCache.resolveEntityClass(emf, "Test1").orElse(null));
+		assertEquals(Test1.class, EntityTargetCache.resolveEntityClass(emf, Test1.class.getName()).orElse(null));
+		assertTrue(!EntityTargetCache.resolveEntityClass(emf, "#notAnEntity#").isPresent());
+
+		JpaEntity<Test1> entity = EntityTargetCache.getEntity(emf, Test1.class);
+		assertNotNull(entity);
+		assertSame(entity, EntityTargetCache.getEntity(emf, Test1.class));
+
+	}
+
+	@Test
+	public void testEntityMapper() throws Exception {
+
+		final EntityManagerFactory emf = ((JpaContext) getDatastore()).getEntityManagerFactory();
+		final BeanIntrospector introspector = BeanIntrospector.get();
+
+		final EntityMapper<Test1> mapper = EntityTargetCache.getMapper(emf, Test1.class, introspector);
+		assertNotNull(mapper);
+		assertSame(mapper, EntityTargetCache.getMapper(emf, Test1.class, introspector));
+
+		final PropertyBox value = PropertyBox.builder(PROPERTIES).set(KEY, 901L).set(STR1, "mapper").set(DBL, 9.01)
+				.set(ENM, TestEnum.SECOND).set(NBOOL, true).set(NST_STR, "nested").build();
+
+		final Test1 instance = mapper.create(value);
+		final Test1 expected = introspector.write(value, new Test1());
+
+		assertEquals(expected.getKey(), instance.getKey());
+		assertEquals(expected.getStringValue(), instance.getStringValue());
+		assertEquals(expected.getDecimalValue(), instance.getDecimalValue());
+		assertEquals(expected.getEnumValue(), instance.getEnumValue());
+		assertEquals(1, instance.getNumericBooleanValue());
+		assertEquals(expected.getNumericBooleanValue(), instance.getNumericBooleanValue());
+		assertNotNull(instance.getNested());
+		assertEquals("nested", instance.getNested().getNestedStringValue());
+
+		// null values
+		mapper.write(PropertyBox.builder(PROPERTIES).set(KEY, 901L).build(), instance);
+		assertNull(instance.getStringValue());
+		assertEquals(0, instance.getNumericBooleanValue());
+
+		// missing bean property
+		final PathProperty<String> missing = PathProperty.create("missingValue", String.class);
+		expectedException(PropertyNotFoundException.class,
+				() -> mapper.write(PropertyBox.builder(KEY, missing).set(KEY, 1L).build(), instance));
+
+		// read-only property
+		@SuppressWarnings("serial")
+		final PathProperty<String> readOnly = new DefaultPathProperty<String>("stringValue", String.class) {
+
+			@Override
+			public boolean isReadOnly() {
+				return true;
+			}
+
+		};
+		final PropertyBox readOnlyValue = PropertyBox.builder(KEY, readOnly).set(KEY, 902L)
+				.setIgnoreReadOnly(readOnly, "readOnly").build();
+		assertNull(mapper.create(readOnlyValue).getStringValue());
+		assertNull(introspector.write(readOnlyValue, new Test1()).getStringValue());
+
+	}
+
+	@Test
+	public void testConcurrentDataTargetResolution() throws Exception {
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final List<Future<Long>> results = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				final DataTarget<?> target = (i % 2 == 0) ? DataTarget.named("Test1")
+						: DataTarget.named(Test1.class.getName());
+				results.add(executor.submit(() -> getDatastore().query(target).filter(STR1.eq("One")).count()));
+			}
+			for (Future<Long> result : results) {
+				assertEquals(Long.valueOf(1), result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+	}
+
 }
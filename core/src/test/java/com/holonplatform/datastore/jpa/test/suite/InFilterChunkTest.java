@@ -0,0 +1,120 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.Query;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+
+public class InFilterChunkTest extends AbstractJpaDatastoreSuiteTest {
+
+	private static final int CHUNK_SIZE = 3;
+
+	@Test
+	public void testChunks() {
+
+		final List<Long> keys = keys(10);
+
+		List<Long> results = query().filter(KEY.in(keys)).list(KEY);
+		assertEquals(2, results.size());
+		assertEquals(2, results.stream().distinct().count());
+
+		try (Stream<Long> stream = query().filter(KEY.in(keys).and(STR1.isNotNull())).stream(KEY)) {
+			assertEquals(2, stream.collect(Collectors.toList()).size());
+		}
+
+		assertEquals(2, query().filter(KEY.in(keys)).count());
+		assertEquals(1, query().filter(KEY.in(keys).and(KEY.neq(1L))).count());
+
+		List<PropertyBox> values = query().filter(KEY.in(keys)).list(PROPERTIES);
+		assertEquals(2, values.size());
+
+		// limit and offset, with the results in different chunks
+		final List<Long> spread = new ArrayList<>(keys(10));
+		spread.add(CHUNK_SIZE, spread.remove(1));
+		final List<Long> all = query().filter(KEY.in(spread)).list(KEY);
+		assertEquals(2, all.size());
+		assertEquals(all.subList(0, 1), query().filter(KEY.in(spread)).limit(1).list(KEY));
+		assertEquals(all.subList(1, 2), query().filter(KEY.in(spread)).limit(1).offset(1).list(KEY));
+		assertEquals(all.subList(1, 2), query().filter(KEY.in(spread)).offset(1).list(KEY));
+		assertEquals(0, query().filter(KEY.in(spread)).limit(5).offset(2).list(KEY).size());
+
+		// not oversized
+		results = query().filter(KEY.in(keys(CHUNK_SIZE))).sort(STR1.asc()).list(KEY);
+		assertEquals(2, results.size());
+
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void testNotInRejected() {
+		query().filter(KEY.nin(keys(10))).list(KEY);
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void testDisjunctionRejected() {
+		query().filter(KEY.in(keys(10)).or(STR1.isNull())).list(KEY);
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void testSortRejected() {
+		query().filter(KEY.in(keys(10))).sort(STR1.asc()).list(KEY);
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void testProjectedSortRejected() {
+		query().filter(KEY.in(keys(10))).sort(KEY.desc()).list(KEY);
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void testSortedLimitRejected() {
+		query().filter(KEY.in(keys(10))).sort(KEY.asc()).limit(1).offset(1).list(KEY);
+	}
+
+	@Test(expected = DataAccessException.class)
+	public void testDistinctRejected() {
+		query().filter(KEY.in(keys(10))).distinct().list(KEY);
+	}
+
+	private Query query() {
+		return getDatastore().query().target(JPA_TARGET).parameter(JpaDatastore.QUERY_PARAMETER_IN_FILTER_CHUNK_SIZE,
+				CHUNK_SIZE);
+	}
+
+	private static List<Long> keys(int size) {
+		final List<Long> keys = new ArrayList<>(size);
+		keys.add(1L);
+		keys.add(2L);
+		for (int i = 2; i < size; i++) {
+			keys.add(1000L + i);
+		}
+		return keys;
+	}
+
+}
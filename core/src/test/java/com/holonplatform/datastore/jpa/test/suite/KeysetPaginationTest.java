@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.core.query.QuerySort;
+import com.holonplatform.datastore.jpa.JpaKeysetPagination;
+import com.holonplatform.datastore.jpa.JpaKeysetPagination.Page;
+
+public class KeysetPaginationTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testKeysetPagination() {
+
+		inTransaction(() -> {
+
+			for (int i = 0; i < 10; i++) {
+				getDatastore().insert(JPA_TARGET, PropertyBox.builder(PROPERTIES).set(KEY, 1000L + i)
+						.set(STR1, "ks" + (i % 3)).build());
+			}
+
+			paginate(JpaKeysetPagination.create(KEY.asc(), 3));
+			paginate(JpaKeysetPagination.create(KEY.desc(), 4));
+			paginate(JpaKeysetPagination.create(STR1.asc().and(KEY.desc()), 3));
+			paginate(JpaKeysetPagination.create(STR1.desc().and(KEY.asc()), 20));
+
+		});
+
+	}
+
+	private void paginate(JpaKeysetPagination pagination) {
+		final List<PropertyBox> expected = getDatastore().query().target(JPA_TARGET).filter(KEY.goe(1000L))
+				.sort(pagination.getSort()).list(PROPERTIES);
+		assertEquals(10, expected.size());
+
+		final List<PropertyBox> paged = new ArrayList<>();
+		String token = null;
+		int pages = 0;
+		do {
+			final Page<PropertyBox> page = pagination
+					.fetch(getDatastore().query().target(JPA_TARGET).filter(KEY.goe(1000L)), token, PROPERTIES);
+			assertTrue(page.getResults().size() <= pagination.getPageSize());
+			paged.addAll(page.getResults());
+			token = page.getContinuationToken().orElse(null);
+			pages++;
+		} while (token != null);
+
+		assertEquals((10 + pagination.getPageSize() - 1) / pagination.getPageSize(), pages);
+		assertEquals(expected.size(), paged.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i).getValue(KEY), paged.get(i).getValue(KEY));
+		}
+	}
+
+	@Test
+	public void testContinuationToken() {
+
+		final JpaKeysetPagination pagination = JpaKeysetPagination.create(STR1.asc().and(KEY.asc()), 1);
+		final String token = pagination
+				.getContinuationToken(PropertyBox.builder(PROPERTIES).set(KEY, 7L).set(STR1, "a:b").build());
+		assertTrue(pagination.getRestriction(token).isPresent());
+		assertFalse(pagination.getRestriction(null).isPresent());
+
+		// first page
+		Page<PropertyBox> page = pagination.fetch(getDatastore().query().target(JPA_TARGET), null, PROPERTIES);
+		assertEquals(1, page.getResults().size());
+		assertTrue(page.hasNext());
+
+		// token issued for another sort
+		expectedException(IllegalArgumentException.class,
+				() -> JpaKeysetPagination.create(KEY.asc(), 1).getRestriction(token));
+		expectedException(IllegalArgumentException.class, () -> pagination.getRestriction("invalid"));
+
+		// sort property not in projection
+		expectedException(IllegalArgumentException.class,
+				() -> pagination.fetch(getDatastore().query().target(JPA_TARGET), null, KEY));
+
+		// invalid page size
+		expectedException(IllegalArgumentException.class, () -> JpaKeysetPagination.create(QuerySort.asc(KEY), 0));
+
+	}
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics.OperationType;
+import com.holonplatform.datastore.jpa.JpaWriteOption;
+import com.holonplatform.datastore.jpa.test.config.DatastoreConfigCommodity;
+import com.holonplatform.datastore.jpa.test.config.TestOperationMetrics;
+import com.holonplatform.datastore.jpa.test.config.TestOperationMetrics.Phase;
+import com.holonplatform.datastore.jpa.test.config.TestOperationMetrics.Sample;
+
+public class OperationMetricsTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testQueryMetrics() {
+
+		final TestOperationMetrics metrics = new TestOperationMetrics();
+		final Datastore datastore = datastoreBuilder().operationMetrics(metrics).build();
+
+		// available from the commodity context
+		assertSame(metrics, datastore.create(DatastoreConfigCommodity.class).getOperationMetrics().orElse(null));
+		assertFalse(getDatastore().create(DatastoreConfigCommodity.class).getOperationMetrics().isPresent());
+
+		List<PropertyBox> values = datastore.query().target(JPA_TARGET).filter(KEY.loe(2L)).list(PROPERTIES);
+		assertEquals(2, values.size());
+
+		List<Sample> samples = metrics.getSamples(OperationType.QUERY, Phase.RESOLUTION);
+		assertEquals(1, samples.size());
+		assertEquals(JPA_TARGET.getName(), samples.get(0).getTarget());
+		assertTrue(samples.get(0).getNanos() >= 0);
+
+		samples = metrics.getSamples(OperationType.QUERY, Phase.EXECUTION);
+		assertEquals(1, samples.size());
+		assertEquals(2, samples.get(0).getCount());
+
+		samples = metrics.getSamples(OperationType.QUERY, Phase.CONVERSION);
+		assertEquals(1, samples.size());
+		assertEquals(2, samples.get(0).getCount());
+
+		// streamed results
+		metrics.clear();
+
+		try (Stream<String> results = datastore.query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).filter(KEY.loe(2L)).stream(STR1)) {
+			assertEquals(2, results.collect(Collectors.toList()).size());
+		}
+
+		samples = metrics.getSamples(OperationType.QUERY, Phase.EXECUTION);
+		assertEquals(1, samples.size());
+		assertEquals(-1, samples.get(0).getCount());
+
+		samples = metrics.getSamples(OperationType.QUERY, Phase.CONVERSION);
+		assertEquals(1, samples.size());
+		assertEquals(2, samples.get(0).getCount());
+
+		assertEquals(0, metrics.getSamples(OperationType.QUERY, Phase.ERROR).size());
+
+	}
+
+	@Test
+	public void testWriteMetrics() {
+
+		final TestOperationMetrics metrics = new TestOperationMetrics();
+		final Datastore datastore = datastoreBuilder().operationMetrics(metrics).build();
+
+		inTransaction(datastore, () -> {
+			datastore.insert(JPA_TARGET, PropertyBox.builder(PROPERTIES).set(KEY, 901L).set(STR1, "k901").build());
+			datastore.bulkUpdate(JPA_TARGET).set(STR1, "upd").filter(KEY.loe(2L)).execute();
+		});
+
+		List<Sample> samples = metrics.getSamples(OperationType.INSERT, Phase.RESOLUTION);
+		assertEquals(1, samples.size());
+		assertEquals(JPA_TARGET.getName(), samples.get(0).getTarget());
+
+		samples = metrics.getSamples(OperationType.INSERT, Phase.EXECUTION);
+		assertEquals(1, samples.size());
+		assertEquals(1, samples.get(0).getCount());
+
+		samples = metrics.getSamples(OperationType.BULK_UPDATE, Phase.EXECUTION);
+		assertEquals(1, samples.size());
+		assertEquals(2, samples.get(0).getCount());
+
+		assertEquals(0, metrics.getSamples(OperationType.INSERT, Phase.ERROR).size());
+
+	}
+
+	@Test
+	public void testSaveMetrics() {
+
+		final TestOperationMetrics metrics = new TestOperationMetrics();
+		final Datastore datastore = datastoreBuilder().operationMetrics(metrics).build();
+
+		if (AbstractJpaDatastoreTestSuite.saveOperationTest) {
+			inTransaction(datastore, () -> {
+				datastore.save(JPA_TARGET, PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(STR1, "k1s").build());
+			});
+
+			List<Sample> samples = metrics.getSamples(OperationType.SAVE, Phase.RESOLUTION);
+			assertEquals(1, samples.size());
+
+			samples = metrics.getSamples(OperationType.SAVE, Phase.EXECUTION);
+			assertEquals(1, samples.size());
+			assertEquals(1, samples.get(0).getCount());
+
+			// executed in a single pass, without a nested update operation
+			assertEquals(0, metrics.getSamples(OperationType.UPDATE, Phase.RESOLUTION).size());
+			assertEquals(0, metrics.getSamples(OperationType.UPDATE, Phase.EXECUTION).size());
+		}
+
+	}
+
+	@Test
+	public void testErrorMetrics() {
+
+		final TestOperationMetrics metrics = new TestOperationMetrics();
+		final Datastore datastore = datastoreBuilder().operationMetrics(metrics).build();
+
+		inTransaction(datastore, () -> {
+			expectedException(DataAccessException.class, () -> {
+				datastore.insert(JPA_TARGET, PropertyBox.builder(PROPERTIES).set(KEY, 1L).set(STR1, "k1").build(),
+						JpaWriteOption.FLUSH);
+			});
+		});
+
+		List<Sample> samples = metrics.getSamples(OperationType.INSERT, Phase.ERROR);
+		assertEquals(1, samples.size());
+		assertNotNull(samples.get(0).getError());
+		assertEquals(0, metrics.getSamples(OperationType.INSERT, Phase.EXECUTION).size());
+
+	}
+
+}
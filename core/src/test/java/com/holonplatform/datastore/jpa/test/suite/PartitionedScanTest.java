@@ -0,0 +1,121 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.DAT;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.holonplatform.core.datastore.bulk.BulkInsert;
+import com.holonplatform.core.datastore.transaction.TransactionConfiguration;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaPartitionedScan;
+
+public class PartitionedScanTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testPartitionedScan() {
+
+		final JpaDatastore datastore = (JpaDatastore) getDatastore();
+		datastore.withTransaction(tx -> {
+			final BulkInsert insert = datastore.bulkInsert(JPA_TARGET, PROPERTIES);
+			for (int i = 0; i < 40; i++) {
+				insert.add(PropertyBox.builder(PROPERTIES).set(KEY, 2000L + i).set(STR1, "ps" + i).build());
+			}
+			assertEquals(40, insert.execute().getAffectedCount());
+		}, TransactionConfiguration.withAutoCommit());
+
+		try {
+
+			// per partition
+			final Map<Integer, List<Long>> partitions = new ConcurrentHashMap<>();
+			JpaPartitionedScan.create(KEY, 4).forEachPartition(
+					() -> getDatastore().query(JPA_TARGET).filter(KEY.goe(2000L)), KEY,
+					(partition, results) -> partitions.put(partition, results.collect(Collectors.toList())));
+			assertEquals(4, partitions.size());
+			assertEquals(40, partitions.values().stream().mapToInt(List::size).sum());
+			assertEquals(40, partitions.values().stream().flatMap(List::stream).distinct().count());
+			partitions.values().forEach(keys -> assertFalse(keys.isEmpty()));
+
+			// merged
+			try (Stream<Long> keys = JpaPartitionedScan.create(KEY, 3)
+					.stream(() -> getDatastore().query(JPA_TARGET).filter(KEY.goe(2000L)), KEY)) {
+				final Set<Long> values = keys.collect(Collectors.toSet());
+				assertEquals(40, values.size());
+				assertTrue(values.contains(2000L));
+				assertTrue(values.contains(2039L));
+			}
+
+			// more partitions than values
+			try (Stream<PropertyBox> rows = JpaPartitionedScan.create(KEY, 100)
+					.stream(() -> getDatastore().query(JPA_TARGET).filter(KEY.goe(2030L)), PROPERTIES)) {
+				assertEquals(10, rows.count());
+			}
+
+			// temporal partition expression including null values, using an executor
+			final long count = getDatastore().query(JPA_TARGET).count();
+			final ExecutorService executor = Executors.newFixedThreadPool(2);
+			try (Stream<Long> keys = JpaPartitionedScan.create(DAT, 4, executor)
+					.stream(() -> getDatastore().query(JPA_TARGET), KEY)) {
+				assertEquals(count, keys.count());
+			} finally {
+				executor.shutdown();
+			}
+
+			// early close
+			try (Stream<Long> keys = JpaPartitionedScan.create(KEY, 2)
+					.stream(() -> getDatastore().query(JPA_TARGET).filter(KEY.goe(2000L)), KEY)) {
+				assertEquals(1, keys.limit(1).count());
+			}
+
+		} finally {
+			datastore.withTransaction(tx -> datastore.bulkDelete(JPA_TARGET).filter(KEY.goe(2000L)).execute(),
+					TransactionConfiguration.withAutoCommit());
+		}
+	}
+
+	@Test
+	public void testPartitionedScanErrors() {
+
+		expectedException(IllegalArgumentException.class, () -> JpaPartitionedScan.create(STR1, 2));
+		expectedException(IllegalArgumentException.class, () -> JpaPartitionedScan.create(KEY, 0));
+
+		expectedException(DataAccessException.class,
+				() -> JpaPartitionedScan.create(KEY, 2).forEachPartition(() -> getDatastore().query(JPA_TARGET),
+						KEY, (partition, results) -> {
+							throw new IllegalStateException("test");
+						}));
+	}
+
+}
@@ -15,11 +15,30 @@
  */
 package com.holonplatform.datastore.jpa.test.suite;
 
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
 import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.PersistenceUnitUtil;
 
 import org.junit.Test;
 
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaEntityGraph;
 import com.holonplatform.datastore.jpa.JpaQueryHint;
+import com.holonplatform.datastore.jpa.JpaQueryHints;
+import com.holonplatform.datastore.jpa.JpaTarget;
+import com.holonplatform.datastore.jpa.context.EntityManagerOperation;
+import com.holonplatform.datastore.jpa.test.model.entity.TestFetch;
 
 public class QueryHintTest extends AbstractJpaDatastoreSuiteTest {
 
@@ -29,4 +48,93 @@ public class QueryHintTest extends AbstractJpaDatastoreSuiteTest {
 				JpaQueryHint.create("jakarta.persistence.query.timeout", 1000)).count();
 	}
 
+	@Test
+	public void testQueryHints() {
+		final long count = getDatastore().query().target(JPA_TARGET).count();
+
+		List<Long> keys = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaQueryHints.QUERY_PARAMETER_HINTS,
+						JpaQueryHints.builder().hint("jakarta.persistence.query.timeout", 1000)
+								.hint("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS).build())
+				.list(KEY);
+		assertEquals(count, keys.size());
+
+		keys = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaQueryHint.QUERY_PARAMETER_HINT,
+						JpaQueryHint.create("jakarta.persistence.query.timeout", 1000))
+				.parameter(JpaQueryHints.QUERY_PARAMETER_HINTS, JpaQueryHints.of()).list(KEY);
+		assertEquals(count, keys.size());
+
+		expectedException(IllegalArgumentException.class, () -> JpaQueryHints.of((JpaQueryHint) null));
+	}
+
+	@Test
+	public void testEntityGraph() {
+		final long count = getDatastore().query().target(JPA_TARGET).count();
+
+		List<?> entities = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaEntityGraph.QUERY_PARAMETER_ENTITY_GRAPH, JpaEntityGraph.of("stringValue", "clobValue"))
+				.list(JPA_TARGET);
+		assertEquals(count, entities.size());
+
+		entities = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true)
+				.parameter(JpaEntityGraph.QUERY_PARAMETER_ENTITY_GRAPH, JpaEntityGraph.of("stringValue"))
+				.filter(KEY.eq(1L)).list(JPA_TARGET);
+		assertEquals(1, entities.size());
+
+		// ignored for scalar projections
+		List<Long> keys = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaEntityGraph.QUERY_PARAMETER_ENTITY_GRAPH, JpaEntityGraph.of("stringValue"))
+				.list(KEY);
+		assertEquals(count, keys.size());
+
+		expectedException(DataAccessException.class,
+				() -> getDatastore().query().target(JPA_TARGET)
+						.parameter(JpaEntityGraph.QUERY_PARAMETER_ENTITY_GRAPH, JpaEntityGraph.named("xxx"))
+						.list(JPA_TARGET));
+		expectedException(IllegalArgumentException.class, () -> JpaEntityGraph.of("stringValue", " "));
+
+		// lazy association
+		if (AbstractJpaDatastoreTestSuite.fetchJoinTest) {
+			final JpaTarget<TestFetch> target = JpaTarget.of(TestFetch.class);
+			final PathProperty<Long> code = PathProperty.create("code", Long.class).parent(target);
+			final PersistenceUnitUtil util = ((JpaDatastore) getDatastore()).withEntityManager(
+					(EntityManagerOperation<PersistenceUnitUtil>) em -> em.getEntityManagerFactory()
+							.getPersistenceUnitUtil());
+
+			TestFetch result = getDatastore().query().target(target)
+					.parameter(JpaEntityGraph.QUERY_PARAMETER_ENTITY_GRAPH, JpaEntityGraph.of("test1"))
+					.filter(code.eq(1L)).findOne(target).orElse(null);
+			assertNotNull(result);
+			assertTrue(util.isLoaded(result, "test1"));
+
+			if (AbstractJpaDatastoreTestSuite.lazyToOneTest) {
+				result = getDatastore().query().target(target).filter(code.eq(1L)).findOne(target).orElse(null);
+				assertNotNull(result);
+				assertFalse(util.isLoaded(result, "test1"));
+			}
+		}
+	}
+
+	@Test
+	public void testFetchSizeAndTimeout() {
+		final long count = getDatastore().query().target(JPA_TARGET).count();
+
+		List<Long> keys = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_FETCH_SIZE, 1)
+				.parameter(JpaDatastore.QUERY_PARAMETER_TIMEOUT, 5000).sort(KEY.asc()).list(KEY);
+		assertEquals(count, keys.size());
+
+		try (Stream<Long> results = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true)
+				.parameter(JpaDatastore.QUERY_PARAMETER_FETCH_SIZE, 2).sort(KEY.asc()).stream(KEY)) {
+			assertEquals(count, results.count());
+		}
+
+		keys = getDatastore().query().target(JPA_TARGET).parameter(JpaDatastore.QUERY_PARAMETER_FETCH_SIZE, 0)
+				.parameter(JpaDatastore.QUERY_PARAMETER_TIMEOUT, 0).list(KEY);
+		assertEquals(count, keys.size());
+	}
+
 }
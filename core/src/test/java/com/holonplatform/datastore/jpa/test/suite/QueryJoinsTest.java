@@ -26,18 +26,27 @@ import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTes
 import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.TEST3_TEXT_P;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
+import jakarta.persistence.PersistenceUnitUtil;
+
 import org.junit.Test;
 
+import com.holonplatform.core.datastore.relational.Join.JoinType;
 import com.holonplatform.core.datastore.relational.RelationalTarget;
 import com.holonplatform.core.property.PathProperty;
 import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.query.QueryFilter;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaFetchJoin;
+import com.holonplatform.datastore.jpa.JpaTarget;
+import com.holonplatform.datastore.jpa.context.EntityManagerOperation;
 import com.holonplatform.datastore.jpa.test.config.DatastoreConfigCommodity;
 import com.holonplatform.datastore.jpa.test.model.TestDataModel;
+import com.holonplatform.datastore.jpa.test.model.entity.TestFetch;
 
 public class QueryJoinsTest extends AbstractJpaDatastoreSuiteTest {
 
@@ -111,6 +120,51 @@ public class QueryJoinsTest extends AbstractJpaDatastoreSuiteTest {
 
 	}
 
+	@Test
+	public void testFetchJoins() {
+		if (AbstractJpaDatastoreTestSuite.fetchJoinTest) {
+
+			final JpaTarget<TestFetch> target = JpaTarget.of(TestFetch.class);
+			final PersistenceUnitUtil util = ((JpaDatastore) getDatastore()).withEntityManager(
+					(EntityManagerOperation<PersistenceUnitUtil>) em -> em.getEntityManagerFactory()
+							.getPersistenceUnitUtil());
+
+			List<TestFetch> results = getDatastore().query()
+					.target(JpaFetchJoin.joinFetch(RelationalTarget.of(target), "test1")).list(target);
+			assertEquals(2, results.size());
+			results.forEach(r -> assertTrue(util.isLoaded(r, "test1")));
+
+			results = getDatastore().query()
+					.target(JpaFetchJoin.leftJoinFetch(RelationalTarget.of(target), "test1")).list(target);
+			assertEquals(3, results.size());
+			results.forEach(r -> assertTrue(util.isLoaded(r, "test1")));
+
+			TestFetch result = getDatastore().query()
+					.target(JpaFetchJoin.joinFetch(RelationalTarget.of(target), "test1"))
+					.filter(PathProperty.create("code", Long.class).parent(target).eq(2L)).findOne(target)
+					.orElse(null);
+			assertNotNull(result);
+			assertEquals("Two", result.getTest1().getStringValue());
+
+			// not entity projections
+			final PathProperty<String> text = PathProperty.create("text", String.class);
+			assertEquals(2, getDatastore().query().target(JpaFetchJoin.joinFetch(RelationalTarget.of(target), "test1"))
+					.count());
+			assertEquals(3, getDatastore().query()
+					.target(JpaFetchJoin.leftJoinFetch(RelationalTarget.of(target), "test1")).count());
+			List<String> texts = getDatastore().query()
+					.target(JpaFetchJoin.joinFetch(RelationalTarget.of(target), "test1")).sort(text.asc()).list(text);
+			assertEquals(2, texts.size());
+			assertEquals("FetchOne", texts.get(0));
+
+			expectedException(IllegalArgumentException.class,
+					() -> JpaFetchJoin.create("test1", JoinType.RIGHT));
+			expectedException(IllegalArgumentException.class, () -> JpaFetchJoin.create(" ", JoinType.INNER));
+			expectedException(UnsupportedOperationException.class,
+					() -> JpaFetchJoin.create("test1", JoinType.INNER).alias("x"));
+		}
+	}
+
 	@Test
 	public void testRecur() {
 
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.jpql.JPQLQueryPlanCache;
+
+public class QueryPlanCacheTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testQueryPlanCache() {
+
+		final JpaDatastore datastore = datastoreBuilder().queryPlanCacheSize(16).build();
+		final JPQLQueryPlanCache cache = datastore.getQueryPlanCache().orElse(null);
+		assertNotNull(cache);
+		assertEquals(16, cache.getMaxSize());
+
+		List<Long> keys = datastore.query().target(JPA_TARGET).filter(KEY.eq(1L)).list(KEY);
+		assertEquals(1, keys.size());
+		assertEquals(Long.valueOf(1), keys.get(0));
+
+		long hits = cache.getHitCount();
+
+		keys = datastore.query().target(JPA_TARGET).filter(KEY.eq(2L)).list(KEY);
+		assertEquals(1, keys.size());
+		assertEquals(Long.valueOf(2), keys.get(0));
+
+		assertEquals(hits + 1, cache.getHitCount());
+
+		List<PropertyBox> values = datastore.query().target(JPA_TARGET)
+				.filter(KEY.goe(1L).and(STR1.isNotNull()).and(KEY.loe(2L))).sort(KEY.desc()).list(PROPERTIES);
+		assertEquals(2, values.size());
+		assertEquals(Long.valueOf(2), values.get(0).getValue(KEY));
+
+		hits = cache.getHitCount();
+
+		values = datastore.query().target(JPA_TARGET)
+				.filter(KEY.goe(2L).and(STR1.isNotNull()).and(KEY.loe(3L))).sort(KEY.desc()).list(PROPERTIES);
+		assertEquals(1, values.size());
+		assertEquals(Long.valueOf(2), values.get(0).getValue(KEY));
+
+		assertEquals(hits + 1, cache.getHitCount());
+
+		// same values: the plan cannot be univocally matched
+		keys = datastore.query().target(JPA_TARGET).filter(KEY.goe(1L).and(KEY.loe(1L)).or(KEY.eq(1L)))
+				.list(KEY);
+		assertEquals(1, keys.size());
+
+		keys = datastore.query().target(JPA_TARGET).filter(KEY.goe(1L).and(KEY.loe(2L)).or(KEY.eq(2L)))
+				.sort(KEY.asc()).list(KEY);
+		assertEquals(2, keys.size());
+
+		keys = datastore.query().target(JPA_TARGET).filter(KEY.in(1L, 2L)).sort(KEY.asc()).list(KEY);
+		assertEquals(2, keys.size());
+		keys = datastore.query().target(JPA_TARGET).filter(KEY.in(2L, 3L)).sort(KEY.asc()).list(KEY);
+		assertEquals(1, keys.size());
+		assertEquals(Long.valueOf(2), keys.get(0));
+
+		assertTrue(cache.getSize() > 0);
+		assertTrue(cache.getMissCount() > 0);
+
+		cache.clear();
+		assertEquals(0, cache.getSize());
+
+	}
+
+	@Test
+	public void testQueryPlanCachePropertyProjection() {
+
+		final JpaDatastore datastore = datastoreBuilder().queryPlanCacheSize(16).build();
+		final JPQLQueryPlanCache cache = datastore.getQueryPlanCache().orElse(null);
+		assertNotNull(cache);
+
+		// a new property set is built for each properties array projection
+		List<PropertyBox> values = datastore.query().target(JPA_TARGET).filter(KEY.eq(1L)).list(KEY, STR1);
+		assertEquals(1, values.size());
+		assertEquals(Long.valueOf(1), values.get(0).getValue(KEY));
+
+		final long hits = cache.getHitCount();
+		final int size = cache.getSize();
+
+		values = datastore.query().target(JPA_TARGET).filter(KEY.eq(2L)).list(KEY, STR1);
+		assertEquals(1, values.size());
+		assertEquals(Long.valueOf(2), values.get(0).getValue(KEY));
+		assertEquals("Two", values.get(0).getValue(STR1));
+
+		try (Stream<PropertyBox> results = datastore.query().target(JPA_TARGET).filter(KEY.eq(1L)).stream(KEY,
+				STR1)) {
+			assertEquals(1, results.count());
+		}
+
+		assertEquals(hits + 2, cache.getHitCount());
+		assertEquals(size, cache.getSize());
+
+		// a different properties order is a different shape
+		values = datastore.query().target(JPA_TARGET).filter(KEY.eq(1L)).list(STR1, KEY);
+		assertEquals(1, values.size());
+		assertEquals(hits + 2, cache.getHitCount());
+		assertEquals(size + 1, cache.getSize());
+
+	}
+
+}
@@ -42,12 +42,15 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import jakarta.persistence.CacheRetrieveMode;
+
 import org.junit.Test;
 
 import com.holonplatform.core.beans.BeanIntrospector;
@@ -55,6 +58,7 @@ import com.holonplatform.core.property.PropertyBox;
 import com.holonplatform.core.query.BeanProjection;
 import com.holonplatform.core.query.ConstantExpression;
 import com.holonplatform.core.query.SelectAllProjection;
+import com.holonplatform.datastore.jpa.JpaDatastore;
 import com.holonplatform.datastore.jpa.test.model.TestData;
 import com.holonplatform.datastore.jpa.test.model.TestEnum;
 import com.holonplatform.datastore.jpa.test.model.TestProjectionBean;
@@ -243,6 +247,66 @@ public class QueryProjectionTest extends AbstractJpaDatastoreSuiteTest {
 		assertNotNull(result.get("key"));
 	}
 
+	@Test
+	public void testScalarSelectAll() {
+		final Map<String, Object> result = getDatastore().query().target(JPA_TARGET).filter(KEY.eq(1L))
+				.parameter(JpaDatastore.QUERY_PARAMETER_SCALAR_SELECT_ALL, true)
+				.findOne(SelectAllProjection.create()).orElse(null);
+
+		assertNotNull(result);
+		assertEquals(Long.valueOf(1), result.get("key"));
+		assertEquals("One", result.get("stringValue"));
+		assertEquals(TestEnum.FIRST, result.get("enumValue"));
+		assertEquals("n1", result.get("nested.nestedStringValue"));
+		assertTrue(result.containsKey("nested.subNested.subnestedStringValue"));
+		assertFalse(result.containsKey("nested"));
+
+		// same values of the entity select all
+		final Map<String, Object> entityResult = getDatastore().query().target(JPA_TARGET).filter(KEY.eq(1L))
+				.findOne(SelectAllProjection.create()).orElse(null);
+		assertNotNull(entityResult);
+		assertTrue(entityResult.containsKey("nested"));
+		for (String name : new String[] { "key", "stringValue", "decimalValue", "enumValue", "numericBooleanValue",
+				"nested.nestedStringValue" }) {
+			assertEquals(entityResult.get(name), result.get(name));
+		}
+
+		final List<Map<String, Object>> results = getDatastore().query().target(JPA_TARGET).sort(KEY.asc())
+				.parameter(JpaDatastore.QUERY_PARAMETER_SCALAR_SELECT_ALL, true).list(SelectAllProjection.create());
+		assertEquals(2, results.size());
+		assertEquals(Long.valueOf(2), results.get(1).get("key"));
+
+		// no entity attached to the persistence context: a bulk update is seen by a following find
+		final JpaDatastore datastore = (JpaDatastore) getDatastore();
+		inTransaction(() -> datastore.withEntityManager(em -> {
+			assertTrue(datastore.query().target(JPA_TARGET).filter(KEY.eq(1L))
+					.parameter(JpaDatastore.QUERY_PARAMETER_SCALAR_SELECT_ALL, true)
+					.findOne(SelectAllProjection.create()).isPresent());
+			assertEquals(1, datastore.bulkUpdate(JPA_TARGET).set(STR1, "Changed").filter(KEY.eq(1L)).execute()
+					.getAffectedCount());
+			final Object entity = em.find(JPA_TARGET.getEntityClass(), 1L,
+					Collections.singletonMap("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS));
+			assertTrue(em.contains(entity));
+			assertEquals("Changed", readStringValue(JPA_TARGET.getEntityClass(), entity));
+		}));
+
+		// the entity select all attaches the entity instead
+		inTransaction(() -> datastore.withEntityManager(em -> {
+			assertTrue(datastore.query().target(JPA_TARGET).filter(KEY.eq(1L)).findOne(SelectAllProjection.create())
+					.isPresent());
+			assertEquals(1, datastore.bulkUpdate(JPA_TARGET).set(STR1, "Changed").filter(KEY.eq(1L)).execute()
+					.getAffectedCount());
+			final Object entity = em.find(JPA_TARGET.getEntityClass(), 1L,
+					Collections.singletonMap("jakarta.persistence.cache.retrieveMode", CacheRetrieveMode.BYPASS));
+			assertTrue(em.contains(entity));
+			assertEquals("One", readStringValue(JPA_TARGET.getEntityClass(), entity));
+		}));
+	}
+
+	private static <T> String readStringValue(Class<T> entityClass, Object entity) {
+		return BeanIntrospector.get().getPropertySet(entityClass).read(STR1, entityClass.cast(entity));
+	}
+
 	private static void checkKey1Value(PropertyBox value) {
 		assertNotNull(value);
 		assertEquals(Long.valueOf(1), value.getValue(KEY));
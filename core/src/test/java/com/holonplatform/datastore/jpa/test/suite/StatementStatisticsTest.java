@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics.StatementStatistics;
+
+public class StatementStatisticsTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testStatementStatistics() {
+
+		final JpaDatastore datastore = datastoreBuilder().statementStatistics(100, 0L).build();
+		final JPQLStatementStatistics statistics = datastore.getStatementStatistics().orElse(null);
+		assertNotNull(statistics);
+		assertEquals(100, statistics.getMaxStatements());
+
+		List<Long> keys = datastore.query().target(JPA_TARGET).filter(KEY.eq(1L)).list(KEY);
+		assertEquals(1, keys.size());
+		keys = datastore.query().target(JPA_TARGET).filter(KEY.eq(2L)).list(KEY);
+		assertEquals(1, keys.size());
+
+		List<StatementStatistics> statements = statistics.getStatistics();
+		assertEquals(1, statements.size());
+		assertEquals(2, statements.get(0).getCalls());
+		assertEquals(2, statements.get(0).getRows());
+		assertTrue(statements.get(0).getMaxTime() > 0);
+		assertTrue(statements.get(0).getTotalTime() >= statements.get(0).getMaxTime());
+		assertEquals(0, statements.get(0).getSlowCalls());
+		assertTrue(statistics.getStatistics(statements.get(0).getJPQL()).isPresent());
+
+		// streamed results
+		statistics.reset();
+
+		try (Stream<String> results = datastore.query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).filter(KEY.loe(2L)).stream(STR1)) {
+			assertEquals(2, results.collect(Collectors.toList()).size());
+		}
+
+		statements = statistics.getStatistics();
+		assertEquals(1, statements.size());
+		assertEquals(1, statements.get(0).getCalls());
+		assertEquals(2, statements.get(0).getRows());
+
+		// bulk operations
+		statistics.reset();
+
+		inTransaction(datastore, () -> {
+			datastore.bulkUpdate(JPA_TARGET).set(STR1, "upd").filter(KEY.loe(2L)).execute();
+			datastore.bulkDelete(JPA_TARGET).filter(KEY.eq(1L)).execute();
+		});
+
+		statements = statistics.getStatistics();
+		assertEquals(2, statements.size());
+		assertEquals(3, statements.stream().mapToLong(StatementStatistics::getRows).sum());
+
+	}
+
+	@Test
+	public void testSlowStatements() {
+
+		final JPQLStatementStatistics statistics = JPQLStatementStatistics.create(2, 10L);
+		assertEquals(2, statistics.getMaxStatements());
+		assertEquals(10L, statistics.getSlowStatementThreshold());
+
+		statistics.record("SELECT a FROM A a", TimeUnit.MILLISECONDS.toNanos(1), 1, null);
+		statistics.record("SELECT a FROM A a", TimeUnit.MILLISECONDS.toNanos(20), 3, null);
+		statistics.record("SELECT b FROM B b", TimeUnit.MILLISECONDS.toNanos(2), 0, null);
+
+		StatementStatistics statement = statistics.getStatistics("SELECT a FROM A a").orElse(null);
+		assertEquals(2, statement.getCalls());
+		assertEquals(4, statement.getRows());
+		assertEquals(1, statement.getSlowCalls());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(20), statement.getMaxTime());
+		assertEquals(TimeUnit.MILLISECONDS.toNanos(21), statement.getTotalTime());
+
+		// evict the least called statement
+		statistics.record("SELECT c FROM C c", TimeUnit.MILLISECONDS.toNanos(1), 0, null);
+
+		assertEquals(2, statistics.getStatistics().size());
+		assertFalse(statistics.getStatistics("SELECT b FROM B b").isPresent());
+		assertEquals("SELECT a FROM A a", statistics.getStatistics().get(0).getJPQL());
+
+		statistics.reset();
+		assertTrue(statistics.getStatistics().isEmpty());
+
+	}
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.Test;
+
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+
+public class StreamResultsTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testStreamResults() {
+
+		final long count = getDatastore().query().target(JPA_TARGET).count();
+
+		try (Stream<PropertyBox> results = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).sort(KEY.asc()).stream(PROPERTIES)) {
+			List<PropertyBox> values = results.collect(Collectors.toList());
+			assertEquals(count, values.size());
+			assertEquals(Long.valueOf(1), values.get(0).getValue(KEY));
+		}
+
+		try (Stream<String> results = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).sort(KEY.asc()).stream(STR1)) {
+			Optional<String> value = results.findFirst();
+			assertTrue(value.isPresent());
+		}
+
+		List<Long> keys = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).filter(KEY.eq(1L)).list(KEY);
+		assertEquals(1, keys.size());
+
+	}
+
+	@Test
+	public void testStreamResultsEntityManagerClose() {
+		final List<EntityManager> entityManagers = new CopyOnWriteArrayList<>();
+
+		final Datastore ds = datastoreBuilder().entityManagerInitializer(emf -> {
+			final EntityManager em = emf.createEntityManager();
+			entityManagers.add(em);
+			return em;
+		}).build();
+		// ignore the EntityManagers used at datastore initialization
+		entityManagers.clear();
+
+		// closed when the stream is closed
+		try (Stream<Long> results = ds.query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).sort(KEY.asc()).stream(KEY)) {
+			final Iterator<Long> iterator = results.iterator();
+			assertTrue(iterator.hasNext());
+			assertEquals(Long.valueOf(1), iterator.next());
+			assertEquals(1, entityManagers.size());
+			assertTrue(entityManagers.get(0).isOpen());
+		}
+		assertFalse(entityManagers.get(0).isOpen());
+
+		// closed when the stream is fully consumed
+		entityManagers.clear();
+		final Stream<Long> results = ds.query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).filter(KEY.loe(2L)).stream(KEY);
+		assertEquals(1, entityManagers.size());
+		assertTrue(entityManagers.get(0).isOpen());
+		assertEquals(2, results.collect(Collectors.toList()).size());
+		assertFalse(entityManagers.get(0).isOpen());
+
+		// not closed by the stream when bound to a transaction
+		entityManagers.clear();
+		ds.requireTransactional().withTransaction(tx -> {
+			tx.setRollbackOnly();
+			try (Stream<Long> values = ds.query().target(JPA_TARGET)
+					.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).stream(KEY)) {
+				assertTrue(values.count() > 0);
+			}
+			assertEquals(1, entityManagers.size());
+			assertTrue(entityManagers.get(0).isOpen());
+		});
+		assertFalse(entityManagers.get(0).isOpen());
+	}
+
+	@Test
+	public void testReadOnlyStreamResults() {
+		final JpaDatastore ds = (JpaDatastore) getDatastore();
+
+		ds.withEntityManager(em -> {
+			try (Stream<?> results = ds.query().target(JPA_TARGET)
+					.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true)
+					.parameter(JpaDatastore.QUERY_PARAMETER_READ_ONLY, true).filter(KEY.loe(2L)).stream(JPA_TARGET)) {
+				List<?> entities = results.collect(Collectors.toList());
+				assertEquals(2, entities.size());
+			}
+
+			Object entity = ds.query().target(JPA_TARGET).filter(KEY.eq(1L)).findOne(JPA_TARGET).orElse(null);
+			assertNotNull(entity);
+			assertTrue(em.contains(entity));
+		});
+
+		// preloaded entity
+		ds.withEntityManager(em -> {
+			final Object preloaded = em.find(JPA_TARGET.getEntityClass(), 1L);
+			assertNotNull(preloaded);
+			try (Stream<?> results = ds.query().target(JPA_TARGET)
+					.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true)
+					.parameter(JpaDatastore.QUERY_PARAMETER_READ_ONLY, true).filter(KEY.loe(2L)).stream(JPA_TARGET)) {
+				assertEquals(2, results.count());
+			}
+			assertTrue(em.contains(preloaded));
+			assertTrue(ds.query().target(JPA_TARGET).parameter(JpaDatastore.QUERY_PARAMETER_READ_ONLY, true)
+					.filter(KEY.eq(1L)).findOne(JPA_TARGET).isPresent());
+			assertTrue(em.contains(preloaded));
+		});
+
+		List<String> values = getDatastore().query().target(JPA_TARGET)
+				.parameter(JpaDatastore.QUERY_PARAMETER_READ_ONLY, true).filter(KEY.loe(2L)).sort(KEY.asc())
+				.list(STR1);
+		assertEquals(2, values.size());
+	}
+
+	@Test
+	public void testStreamResultsInTransaction() {
+		inTransaction(() -> {
+			long count = getDatastore().query().target(JPA_TARGET)
+					.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).stream(PROPERTIES).count();
+			assertEquals(getDatastore().query().target(JPA_TARGET).count(), count);
+
+			PropertyBox value = getDatastore().query().target(JPA_TARGET)
+					.parameter(JpaDatastore.QUERY_PARAMETER_STREAM_RESULTS, true).filter(KEY.eq(1L))
+					.findOne(PROPERTIES).orElse(null);
+			assertNotNull(value);
+		});
+	}
+
+}
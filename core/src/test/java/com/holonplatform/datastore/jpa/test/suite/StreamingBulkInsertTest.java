@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.holonplatform.core.datastore.Datastore.OperationResult;
+import com.holonplatform.core.datastore.transaction.TransactionConfiguration;
+import com.holonplatform.core.exceptions.DataAccessException;
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaStreamingBulkInsert;
+
+public class StreamingBulkInsertTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testStreamingBulkInsert() {
+
+		inTransaction(() -> {
+
+			final List<Long> progress = new ArrayList<>();
+			final OperationResult result = getDatastore().create(JpaStreamingBulkInsert.class).target(JPA_TARGET)
+					.propertySet(PROPERTIES).batchSize(10).progressListener((batch, count) -> {
+						assertEquals(progress.size() + 1, batch);
+						progress.add(count);
+					}).execute(values(3000L, 25));
+
+			assertEquals(25, result.getAffectedCount());
+			assertEquals(3, progress.size());
+			assertEquals(Long.valueOf(10), progress.get(0));
+			assertEquals(Long.valueOf(20), progress.get(1));
+			assertEquals(Long.valueOf(25), progress.get(2));
+
+			assertEquals(25, getDatastore().query(JPA_TARGET).filter(KEY.goe(3000L)).count());
+			assertEquals("s3024", getDatastore().query(JPA_TARGET).filter(KEY.eq(3024L)).findOne(STR1).orElse(null));
+
+			// commit interval within a transaction
+			expectedException(DataAccessException.class,
+					() -> getDatastore().create(JpaStreamingBulkInsert.class).target(JPA_TARGET)
+							.propertySet(PROPERTIES).commitInterval(1).execute(values(3100L, 1)));
+
+		});
+
+	}
+
+	@Test
+	public void testStreamingBulkInsertCommitInterval() {
+
+		final JpaDatastore datastore = (JpaDatastore) getDatastore();
+		try {
+			final List<Integer> batches = new ArrayList<>();
+			final OperationResult result = datastore.create(JpaStreamingBulkInsert.class).target(JPA_TARGET)
+					.propertySet(KEY, STR1).batchSize(5).commitInterval(2)
+					.progressListener((batch, count) -> batches.add(batch)).execute(values(3200L, 12).spliterator());
+			assertEquals(12, result.getAffectedCount());
+			assertEquals(3, batches.size());
+
+			assertEquals(12, datastore.query(JPA_TARGET).filter(KEY.goe(3200L)).count());
+		} finally {
+			datastore.withTransaction(tx -> datastore.bulkDelete(JPA_TARGET).filter(KEY.goe(3200L)).execute(),
+					TransactionConfiguration.withAutoCommit());
+		}
+	}
+
+	@Test
+	public void testStreamingBulkInsertErrors() {
+
+		expectedException(DataAccessException.class, () -> getDatastore().create(JpaStreamingBulkInsert.class)
+				.propertySet(PROPERTIES).execute(values(3300L, 1)));
+		expectedException(DataAccessException.class,
+				() -> getDatastore().create(JpaStreamingBulkInsert.class).target(JPA_TARGET).execute(values(3300L, 1)));
+		expectedException(IllegalArgumentException.class,
+				() -> getDatastore().create(JpaStreamingBulkInsert.class).batchSize(0));
+
+	}
+
+	private static Stream<PropertyBox> values(long from, int count) {
+		return LongStream.range(from, from + count)
+				.mapToObj(key -> PropertyBox.builder(PROPERTIES).set(KEY, key).set(STR1, "s" + key).build());
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.datastore.jpa.test.suite;
+
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.KEY;
+import static com.holonplatform.datastore.jpa.test.model.TestDataModel.STR1;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.JPA_TARGET;
+import static com.holonplatform.datastore.jpa.test.suite.AbstractJpaDatastoreTestSuite.PROPERTIES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.Test;
+
+import com.holonplatform.core.property.PropertyBox;
+import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.context.JpaContextHolder;
+import com.holonplatform.datastore.jpa.internal.tx.DefaultJpaTransaction;
+import com.holonplatform.datastore.jpa.tx.JpaTransaction;
+
+public class VirtualThreadsTest extends AbstractJpaDatastoreSuiteTest {
+
+	@Test
+	public void testTransactionsOnVirtualThreads() throws Exception {
+
+		final JpaDatastore datastore = (JpaDatastore) getDatastore();
+		final List<Future<List<String>>> results = new ArrayList<>();
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 8; i++) {
+				final long key = 801L + i;
+				results.add(executor.submit(() -> datastore.withTransaction(tx -> {
+					getDatastore().insert(JPA_TARGET,
+							PropertyBox.builder(PROPERTIES).set(KEY, key).set(STR1, "vt" + key).build());
+					final List<String> values = getDatastore().query(JPA_TARGET).filter(KEY.between(801L, 808L))
+							.list(STR1);
+					tx.setRollbackOnly();
+					return values;
+				})));
+			}
+			for (int i = 0; i < results.size(); i++) {
+				// each transaction only sees its own row
+				final List<String> values = results.get(i).get(30, TimeUnit.SECONDS);
+				assertEquals(1, values.size());
+				assertEquals("vt" + (801L + i), values.get(0));
+			}
+		}
+
+		assertEquals(0, getDatastore().query(JPA_TARGET).filter(KEY.between(801L, 808L)).count());
+		assertFalse(JpaContextHolder.getDefault().getTransaction().isPresent());
+		assertFalse(JpaContextHolder.getDefault().getEntityManager().isPresent());
+	}
+
+	@Test
+	public void testNoTransactionPinning() throws Exception {
+
+		final JpaDatastore datastore = (JpaDatastore) getDatastore();
+		final List<RecordedEvent> pinned = new CopyOnWriteArrayList<>();
+		try (RecordingStream recording = new RecordingStream()) {
+			recording.enable("jdk.VirtualThreadPinned").withStackTrace().withThreshold(Duration.ZERO);
+			recording.onEvent("jdk.VirtualThreadPinned", pinned::add);
+			recording.startAsync();
+
+			try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+				final List<Future<?>> results = new ArrayList<>();
+				for (int i = 0; i < 8; i++) {
+					final long key = 811L + i;
+					results.add(executor.submit(() -> datastore.withTransaction(tx -> {
+						getDatastore().insert(JPA_TARGET,
+								PropertyBox.builder(PROPERTIES).set(KEY, key).set(STR1, "vt" + key).build());
+						tx.setRollbackOnly();
+					})));
+				}
+				for (Future<?> result : results) {
+					result.get(30, TimeUnit.SECONDS);
+				}
+			}
+
+			recording.stop();
+		}
+
+		for (RecordedEvent event : pinned) {
+			if (event.getStackTrace() != null) {
+				for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+					if (frame.getMethod() != null && DefaultJpaTransaction.class.getName()
+							.equals(frame.getMethod().getType().getName())) {
+						fail("Virtual thread pinned by the transaction: " + event);
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testContextHolderScopes() {
+
+		final JpaContextHolder holder = JpaContextHolder.getDefault();
+		final JpaDatastore datastore = (JpaDatastore) getDatastore();
+
+		final EntityManager other = AbstractJpaDatastoreTestSuite.entityManagerFactory.createEntityManager();
+		try {
+			datastore.withEntityManager(entityManager -> {
+				assertSame(entityManager, holder.getEntityManager().orElse(null));
+
+				// nested scope
+				holder.callWithEntityManager(other, () -> {
+					assertSame(other, holder.getEntityManager().orElse(null));
+					return datastore.withEntityManager(em -> {
+						assertSame(other, em);
+						return null;
+					});
+				});
+				assertSame(entityManager, holder.getEntityManager().orElse(null));
+
+				// abrupt nested scope end
+				try {
+					holder.callWithEntityManager(other, () -> {
+						throw new IllegalStateException();
+					});
+				} catch (IllegalStateException e) {
+					// expected
+				}
+				assertSame(entityManager, holder.getEntityManager().orElse(null));
+				return null;
+			});
+		} finally {
+			other.close();
+		}
+		assertFalse(holder.getEntityManager().isPresent());
+
+		// transactions
+		inTransaction(() -> {
+			final JpaTransaction current = holder.getTransaction().orElse(null);
+			assertTrue(current != null);
+			datastore.withTransaction(tx -> {
+				assertSame(current, holder.getTransaction().orElse(null));
+			});
+			assertSame(current, holder.getTransaction().orElse(null));
+		});
+		assertFalse(holder.getTransaction().isPresent());
+	}
+
+}
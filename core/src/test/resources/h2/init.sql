@@ -44,6 +44,12 @@ create table testtx (
 	text varchar(100) not null
 ); 
 
+create table test_fetch (
+	 code bigint primary key
+	,text varchar(100) not null
+	,t1 bigint
+);
+
 /* data */
 
 INSERT INTO test1 VALUES (1, 'One', 7.4, parsedatetime('19-05-2016', 'dd-MM-yyyy'), parsedatetime('19-05-2016', 'dd-MM-yyyy'), 0, 1, 'n1', 12.65, 's1', null, null, '18:30:15', 'clocbcontent', x'C9CBBBCCCEB9C8CABCCCCEB9C9CBBB');
@@ -61,5 +67,9 @@ INSERT INTO test_nopk (nmb, txt) VALUES (2, 'Second');
 
 INSERT INTO testtx VALUES (1, 'TheOne');
 
+INSERT INTO test_fetch VALUES (1, 'FetchOne', 1);
+INSERT INTO test_fetch VALUES (2, 'FetchTwo', 2);
+INSERT INTO test_fetch VALUES (3, 'FetchNone', null);
+
 commit;
 
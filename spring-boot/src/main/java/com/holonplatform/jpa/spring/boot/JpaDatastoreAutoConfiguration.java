@@ -17,22 +17,30 @@ package com.holonplatform.jpa.spring.boot;
 
 import jakarta.persistence.EntityManagerFactory;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.datastore.jpa.JpaDatastore;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
 import com.holonplatform.jpa.spring.boot.internal.JpaDatastoreAutoConfigurationRegistrar;
+import com.holonplatform.jpa.spring.boot.internal.JpaOperationMetricsPostProcessor;
 import com.holonplatform.spring.EnableDatastoreConfiguration;
 
 /**
  * Spring boot auto-configuration to enable JPA {@link Datastore} beans.
+ * <p>
+ * If a single {@link JpaOperationMetrics} bean is available in context, it is configured as the operation metrics
+ * hook of the JPA Datastore beans.
+ * </p>
  * 
  * @since 5.0.0
  */
@@ -50,4 +58,10 @@ public class JpaDatastoreAutoConfiguration {
 
 	}
 
+	@Bean
+	static JpaOperationMetricsPostProcessor jpaOperationMetricsPostProcessor(
+			ObjectProvider<JpaOperationMetrics> operationMetrics) {
+		return new JpaOperationMetricsPostProcessor(operationMetrics);
+	}
+
 }
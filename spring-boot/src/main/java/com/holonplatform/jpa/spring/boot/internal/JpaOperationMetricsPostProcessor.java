@@ -0,0 +1,72 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.jpa.spring.boot.internal;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.holonplatform.core.internal.Logger;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+import com.holonplatform.datastore.jpa.internal.DefaultJpaDatastore;
+import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
+
+/**
+ * {@link BeanPostProcessor} which configures the {@link JpaOperationMetrics} bean available in context, if any, as
+ * the operation metrics hook of the JPA Datastore beans which do not declare one.
+ * 
+ * @since 6.0.3
+ */
+public class JpaOperationMetricsPostProcessor implements BeanPostProcessor {
+
+	/**
+	 * Logger
+	 */
+	private static final Logger LOGGER = JpaDatastoreLogger.create();
+
+	private final ObjectProvider<JpaOperationMetrics> operationMetrics;
+
+	/**
+	 * Constructor.
+	 * @param operationMetrics The {@link JpaOperationMetrics} bean provider
+	 */
+	public JpaOperationMetricsPostProcessor(ObjectProvider<JpaOperationMetrics> operationMetrics) {
+		super();
+		this.operationMetrics = operationMetrics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.config.BeanPostProcessor#postProcessBeforeInitialization(java.lang.
+	 * Object, java.lang.String)
+	 */
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+		if (bean instanceof DefaultJpaDatastore) {
+			final DefaultJpaDatastore datastore = (DefaultJpaDatastore) bean;
+			if (!datastore.getOperationMetrics().isPresent()) {
+				final JpaOperationMetrics metrics = operationMetrics.getIfUnique();
+				if (metrics != null) {
+					datastore.setOperationMetrics(metrics);
+					LOGGER.debug(() -> "Configured JpaOperationMetrics [" + metrics + "] for the JPA Datastore bean ["
+							+ beanName + "]");
+				}
+			}
+		}
+		return bean;
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2016-2017 Axioma srl.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ * 
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package com.holonplatform.jpa.spring.boot.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.holonplatform.core.datastore.DataTarget;
+import com.holonplatform.core.datastore.Datastore;
+import com.holonplatform.core.property.PathProperty;
+import com.holonplatform.datastore.jpa.JpaOperationMetrics;
+import com.holonplatform.datastore.jpa.JpaTarget;
+import com.holonplatform.jpa.spring.boot.test.domain1.TestJpaDomain1;
+
+@SpringBootTest
+@ActiveProfiles("standard")
+public class TestDatastoreOperationMetrics {
+
+	@Configuration
+	@EnableAutoConfiguration
+	@EntityScan(basePackageClasses = TestJpaDomain1.class)
+	protected static class Config {
+
+		@Bean
+		public CountingOperationMetrics operationMetrics() {
+			return new CountingOperationMetrics();
+		}
+
+	}
+
+	private final static PathProperty<Long> KEY = PathProperty.create("key", long.class);
+
+	private final static DataTarget<TestJpaDomain1> TARGET = JpaTarget.of(TestJpaDomain1.class);
+
+	@Autowired
+	private Datastore datastore;
+
+	@Autowired
+	private CountingOperationMetrics operationMetrics;
+
+	@Test
+	public void testOperationMetrics() {
+
+		final int executions = operationMetrics.getQueryExecutions();
+
+		datastore.query().target(TARGET).filter(KEY.eq(1L)).findOne(KEY);
+
+		assertEquals(executions + 1, operationMetrics.getQueryExecutions());
+		assertTrue(operationMetrics.getQueryResolutions() > 0);
+
+	}
+
+	static class CountingOperationMetrics implements JpaOperationMetrics {
+
+		private final AtomicInteger queryResolutions = new AtomicInteger();
+		private final AtomicInteger queryExecutions = new AtomicInteger();
+
+		@Override
+		public void recordResolution(Operation operation, long nanos) {
+			if (operation.getType() == OperationType.QUERY) {
+				queryResolutions.incrementAndGet();
+			}
+		}
+
+		@Override
+		public void recordExecution(Operation operation, long nanos, long count) {
+			if (operation.getType() == OperationType.QUERY) {
+				queryExecutions.incrementAndGet();
+			}
+		}
+
+		public int getQueryResolutions() {
+			return queryResolutions.get();
+		}
+
+		public int getQueryExecutions() {
+			return queryExecutions.get();
+		}
+
+	}
+
+}
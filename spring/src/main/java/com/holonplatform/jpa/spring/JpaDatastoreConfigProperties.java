@@ -27,6 +27,7 @@ import com.holonplatform.core.config.ConfigPropertySet;
 import com.holonplatform.core.datastore.DataContextBound;
 import com.holonplatform.core.datastore.Datastore;
 import com.holonplatform.core.internal.config.DefaultConfigPropertySet;
+import com.holonplatform.datastore.jpa.jpql.JPQLCollectionParameterMode;
 
 /**
  * A {@link ConfigPropertySet} for JPA Datastore configuration, using {@link #DEFAULT_NAME} as property prefix.
@@ -63,6 +64,73 @@ public interface JpaDatastoreConfigProperties extends ConfigPropertySet, DataCon
 	 */
 	static final ConfigProperty<Boolean> TRANSACTIONAL = ConfigProperty.create("transactional", Boolean.class);
 
+	/**
+	 * The maximum number of query resolution plans to cache. When not specified or <code>&lt;= 0</code>, the query
+	 * plan cache is disabled.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> QUERY_PLAN_CACHE_SIZE = ConfigProperty.create("query-plan-cache-size",
+			Integer.class);
+
+	/**
+	 * The maximum number of JPQL statements for which to collect the execution statistics. When not specified or
+	 * <code>&lt;= 0</code>, the statement statistics are disabled.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> STATEMENT_STATISTICS_SIZE = ConfigProperty
+			.create("statement-statistics-size", Integer.class);
+
+	/**
+	 * The slow statement threshold, in milliseconds. The JPQL statement executions which take longer than the
+	 * threshold are logged using the <code>WARN</code> level. Requires the statement statistics to be enabled using
+	 * {@link #STATEMENT_STATISTICS_SIZE}.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Long> SLOW_STATEMENT_THRESHOLD = ConfigProperty.create("slow-statement-threshold",
+			Long.class);
+
+	/**
+	 * The strategy to use to bind the collection values, for example the values of a <code>IN</code> query filter, as
+	 * JPQL statement parameters.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<JPQLCollectionParameterMode> COLLECTION_PARAMETER_MODE = ConfigProperty
+			.create("collection-parameter-mode", JPQLCollectionParameterMode.class);
+
+	/**
+	 * The maximum number of values of a <code>IN</code> query filter, above which the query is split into
+	 * sub-queries. The <code>IN</code> filters chunking is disabled if not specified.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> IN_FILTER_CHUNK_SIZE = ConfigProperty.create("in-filter-chunk-size",
+			Integer.class);
+
+	/**
+	 * Whether to resolve the select all query projections as a list of scalar entity attributes by default.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Boolean> SCALAR_SELECT_ALL = ConfigProperty.create("scalar-select-all",
+			Boolean.class);
+
+	/**
+	 * Whether to execute the queries in read-only mode by default.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Boolean> READ_ONLY_QUERIES = ConfigProperty.create("read-only-queries",
+			Boolean.class);
+
+	/**
+	 * The default JDBC fetch size of the queries. The JDBC driver default is used if not specified.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> FETCH_SIZE = ConfigProperty.create("fetch-size", Integer.class);
+
+	/**
+	 * The default timeout of the queries, in milliseconds. No query timeout is set if not specified.
+	 * @since 6.0.3
+	 */
+	static final ConfigProperty<Integer> QUERY_TIMEOUT = ConfigProperty.create("query-timeout", Integer.class);
+
 	/**
 	 * Builder to create property set instances bound to a property data source.
 	 * @param dataContextId Optional data context id to which {@link Datastore} is bound
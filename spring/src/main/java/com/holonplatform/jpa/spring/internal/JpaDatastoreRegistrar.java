@@ -36,6 +36,7 @@ import com.holonplatform.datastore.jpa.JpaDatastore;
 import com.holonplatform.datastore.jpa.dialect.ORMDialect;
 import com.holonplatform.datastore.jpa.internal.DefaultJpaDatastore;
 import com.holonplatform.datastore.jpa.internal.JpaDatastoreLogger;
+import com.holonplatform.datastore.jpa.jpql.JPQLStatementStatistics;
 import com.holonplatform.jpa.spring.EnableJpa;
 import com.holonplatform.jpa.spring.EnableJpaDatastore;
 import com.holonplatform.jpa.spring.JpaDatastoreConfigProperties;
@@ -208,6 +209,32 @@ public class JpaDatastoreRegistrar extends AbstractConfigPropertyRegistrar imple
 		pvs.add("entityManagerFinalizer", entityManagerLifecycleHandler);
 		pvs.add("autoFlush", autoFlush);
 
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.QUERY_PLAN_CACHE_SIZE)
+				.filter(size -> size > 0).ifPresent(size -> pvs.add("queryPlanCacheSize", size));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.STATEMENT_STATISTICS_SIZE)
+				.filter(size -> size > 0).ifPresent(size -> pvs.add("statementStatistics",
+						JPQLStatementStatistics.create(size, jpaDatastoreConfig
+								.getConfigPropertyValue(JpaDatastoreConfigProperties.SLOW_STATEMENT_THRESHOLD, 0L))));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.COLLECTION_PARAMETER_MODE)
+				.ifPresent(mode -> pvs.add("collectionParameterMode", mode));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.IN_FILTER_CHUNK_SIZE)
+				.filter(size -> size > 0).ifPresent(size -> pvs.add("inFilterChunkSize", size));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.SCALAR_SELECT_ALL)
+				.filter(scalar -> scalar).ifPresent(scalar -> pvs.add("scalarSelectAll", scalar));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.READ_ONLY_QUERIES)
+				.filter(readOnly -> readOnly).ifPresent(readOnly -> pvs.add("readOnlyQueries", readOnly));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.FETCH_SIZE)
+				.filter(size -> size > 0).ifPresent(size -> pvs.add("fetchSize", size));
+
+		jpaDatastoreConfig.getConfigPropertyValue(JpaDatastoreConfigProperties.QUERY_TIMEOUT)
+				.filter(timeout -> timeout > 0).ifPresent(timeout -> pvs.add("queryTimeout", timeout));
+
 		if (dataContextId != null) {
 			pvs.add("dataContextId", dataContextId);
 		}